@@ -1,20 +1,49 @@
 package io.github.akuniutka;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.akuniutka.common.accesslog.AccessLogValve;
+import io.github.akuniutka.common.startup.ApplicationReadiness;
+import io.github.akuniutka.common.startup.BeanTimingApplicationStartup;
+import io.github.akuniutka.common.startup.WarmUp;
+import io.github.akuniutka.common.web.AdminTokenFilter;
+import io.github.akuniutka.common.web.ReadinessFilter;
+import io.github.akuniutka.common.web.RequestIdFilter;
 import io.github.akuniutka.config.ApplicationConfig;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.catalina.Context;
 import org.apache.catalina.LifecycleException;
 import org.apache.catalina.Wrapper;
 import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
 import org.springframework.web.servlet.DispatcherServlet;
 
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 public class BookmarkItApplication {
 
     private static final int PORT = 8080;
+    private static final int SLOWEST_BEANS_LOGGED = 5;
 
     public static void main(final String[] args) throws LifecycleException {
+        final long jvmMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        final long startNanos = System.nanoTime();
+        final AnnotationConfigWebApplicationContext applicationContext = new AnnotationConfigWebApplicationContext();
+        final BeanTimingApplicationStartup applicationStartup = new BeanTimingApplicationStartup();
+        applicationContext.setApplicationStartup(applicationStartup);
+        final Environment environment = applicationContext.getEnvironment();
+        // Set by the Docker build to record classes loaded at startup, see Dockerfile
+        final boolean trainingRun = environment.getProperty("startup.training-run", Boolean.class, false);
+
         final Tomcat tomcat = new Tomcat();
-        tomcat.getConnector().setPort(PORT);
+        tomcat.getConnector().setPort(trainingRun ? 0 : PORT);
 
         /*
          * Create context in terms of Tomcat (a set of servlets that can communicate with each other and all together
@@ -22,16 +51,100 @@ public class BookmarkItApplication {
          */
         final Context tomcatContext = tomcat.addContext("", null);
 
-        final AnnotationConfigWebApplicationContext applicationContext = new AnnotationConfigWebApplicationContext();
         applicationContext.setServletContext(tomcatContext.getServletContext());
         applicationContext.register(ApplicationConfig.class);
         applicationContext.refresh();
+        final long contextNanos = System.nanoTime();
 
         final DispatcherServlet dispatcherServlet = new DispatcherServlet(applicationContext);
         final Wrapper dispatcherWrapper = Tomcat.addServlet(tomcatContext, "dispatcher", dispatcherServlet);
         dispatcherWrapper.addMapping("/");
         dispatcherWrapper.setLoadOnStartup(1);
+        // Required by Server-Sent Events streams, which outlive the request thread
+        dispatcherWrapper.setAsyncSupported(true);
+
+        final FilterDef requestIdFilter = new FilterDef();
+        requestIdFilter.setFilterName("requestId");
+        requestIdFilter.setFilter(new RequestIdFilter());
+        requestIdFilter.setAsyncSupported("true");
+        tomcatContext.addFilterDef(requestIdFilter);
+        final FilterMap requestIdMapping = new FilterMap();
+        requestIdMapping.setFilterName("requestId");
+        requestIdMapping.addURLPattern("/*");
+        tomcatContext.addFilterMap(requestIdMapping);
+
+        // Persistence is still initializing when Tomcat starts, so requests are refused until it is ready
+        final ApplicationReadiness readiness = applicationContext.getBean(ApplicationReadiness.class);
+        final FilterDef readinessFilter = new FilterDef();
+        readinessFilter.setFilterName("readiness");
+        readinessFilter.setFilter(new ReadinessFilter(readiness));
+        readinessFilter.setAsyncSupported("true");
+        tomcatContext.addFilterDef(readinessFilter);
+        final FilterMap readinessMapping = new FilterMap();
+        readinessMapping.setFilterName("readiness");
+        readinessMapping.addURLPattern("/*");
+        tomcatContext.addFilterMap(readinessMapping);
+
+        // Admin endpoints share the connector with the API, so they are only served to callers knowing the token
+        final FilterDef adminTokenFilter = new FilterDef();
+        adminTokenFilter.setFilterName("adminToken");
+        adminTokenFilter.setFilter(new AdminTokenFilter(environment.getProperty("admin.token")));
+        tomcatContext.addFilterDef(adminTokenFilter);
+        final FilterMap adminTokenMapping = new FilterMap();
+        adminTokenMapping.setFilterName("adminToken");
+        adminTokenMapping.addURLPattern("/admin/*");
+        tomcatContext.addFilterMap(adminTokenMapping);
+
+        final AccessLogValve accessLogValve = new AccessLogValve();
+        accessLogValve.setDirectory(environment.getProperty("access-log.directory", "logs"));
+        accessLogValve.setMaxFileSize(environment.getProperty("access-log.max-file-size", Long.class, 67_108_864L));
+        accessLogValve.setMaxFiles(environment.getProperty("access-log.max-files", Integer.class, 5));
+        tomcatContext.getPipeline().addValve(accessLogValve);
 
         tomcat.start();
+        final long endNanos = System.nanoTime();
+
+        log.info("Application started in {} ms: JVM {} ms, application context {} ms, Tomcat {} ms",
+                jvmMillis + TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos), jvmMillis,
+                TimeUnit.NANOSECONDS.toMillis(contextNanos - startNanos),
+                TimeUnit.NANOSECONDS.toMillis(endNanos - contextNanos));
+        applicationStartup.getSlowestBeans(SLOWEST_BEANS_LOGGED).forEach((beanName, duration) ->
+                log.info("Bean created in {} ms: {}", duration.toMillis(), beanName));
+
+        try {
+            applicationContext.getBean(LocalContainerEntityManagerFactoryBean.class).getNativeEntityManagerFactory();
+        } catch (IllegalStateException exception) {
+            log.error("Cannot initialize persistence, shutting down");
+            stop(tomcat, applicationContext);
+            throw exception;
+        }
+        final long persistenceNanos = System.nanoTime();
+
+        // Clients are let in only when the JIT compiler has compiled the request path or the time budget runs out
+        if (!trainingRun && environment.getProperty("warm-up.enabled", Boolean.class, false)) {
+            new WarmUp(URI.create("http://127.0.0.1:" + tomcat.getConnector().getLocalPort()),
+                    readiness.getWarmUpToken(), applicationContext.getBean(ObjectMapper.class))
+                    .run(environment.getProperty("warm-up.iterations", Integer.class, WarmUp.defaultIterations()),
+                            environment.getProperty("warm-up.threads", Integer.class, 4),
+                            Duration.ofSeconds(environment.getProperty("warm-up.budget-seconds", Long.class, 30L)));
+        }
+        readiness.markReady();
+        final long readyNanos = System.nanoTime();
+        log.info("Application ready in {} ms: persistence initialized {} ms after Tomcat started, warm-up {} ms",
+                jvmMillis + TimeUnit.NANOSECONDS.toMillis(readyNanos - startNanos),
+                TimeUnit.NANOSECONDS.toMillis(persistenceNanos - endNanos),
+                TimeUnit.NANOSECONDS.toMillis(readyNanos - persistenceNanos));
+
+        if (trainingRun) {
+            stop(tomcat, applicationContext);
+            log.info("Training run completed");
+        }
+    }
+
+    private static void stop(final Tomcat tomcat, final AnnotationConfigWebApplicationContext applicationContext)
+            throws LifecycleException {
+        tomcat.stop();
+        tomcat.destroy();
+        applicationContext.close();
     }
 }
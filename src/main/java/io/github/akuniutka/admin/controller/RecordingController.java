@@ -0,0 +1,42 @@
+package io.github.akuniutka.admin.controller;
+
+import io.github.akuniutka.admin.dto.RecordingDto;
+import io.github.akuniutka.admin.service.RecordingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Requests are only let in with the admin token, see AdminTokenFilter: a recording holds request data.
+ */
+@RestController
+@RequestMapping("/admin/recording")
+@RequiredArgsConstructor
+@Slf4j
+public class RecordingController {
+
+    private final RecordingService recordingService;
+
+    @GetMapping
+    public RecordingDto getRecording() {
+        log.info("Received request for flight recording state");
+        return recordingService.getRecording();
+    }
+
+    @PostMapping
+    public RecordingDto startRecording(@RequestParam(defaultValue = "default") final String settings) {
+        log.info("Received request to start flight recording: settings = {}", settings);
+        return recordingService.startRecording(settings);
+    }
+
+    @DeleteMapping
+    public RecordingDto stopRecording() {
+        log.info("Received request to stop flight recording");
+        return recordingService.stopRecording();
+    }
+}
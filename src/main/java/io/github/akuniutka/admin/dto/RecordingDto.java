@@ -0,0 +1,24 @@
+package io.github.akuniutka.admin.dto;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * State of the flight recording. The file is set once the recording is stopped and dumped.
+ */
+@Builder
+public record RecordingDto(
+
+        String name,
+
+        String state,
+
+        String settings,
+
+        Instant startTime,
+
+        String file
+) {
+
+}
@@ -0,0 +1,12 @@
+package io.github.akuniutka.admin.service;
+
+import io.github.akuniutka.admin.dto.RecordingDto;
+
+public interface RecordingService {
+
+    RecordingDto getRecording();
+
+    RecordingDto startRecording(String settings);
+
+    RecordingDto stopRecording();
+}
@@ -0,0 +1,145 @@
+package io.github.akuniutka.admin.service;
+
+import io.github.akuniutka.admin.dto.RecordingDto;
+import io.github.akuniutka.exception.RecordingStateException;
+import io.github.akuniutka.exception.UnknownRecordingSettingsException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Runs at most one JDK Flight Recorder recording at a time, in the application itself, so that no agent has to be
+ * attached to the container. The recording keeps the last hour of events at most and is dumped to a file in the
+ * directory set by {@code jfr.directory} when stopped. Only the {@code jfr.max-files} latest dumps are kept there.
+ */
+@Service
+@Slf4j
+public class RecordingServiceImpl implements RecordingService {
+
+    static final String RECORDING_NAME = "bookmark-it";
+    static final Set<String> SETTINGS = Set.of("default", "profile");
+    static final Duration MAX_AGE = Duration.ofHours(1);
+
+    private static final DateTimeFormatter FILE_NAME_FORMATTER = DateTimeFormatter
+            .ofPattern("'recording-'uuuuMMdd-HHmmss'.jfr'")
+            .withZone(ZoneOffset.UTC);
+
+    private final Clock clock;
+    private final Path directory;
+    private final int maxFiles;
+
+    private Recording recording;
+    private String recordingSettings;
+
+    public RecordingServiceImpl(final Clock clock, final Environment environment) {
+        this.clock = clock;
+        this.directory = Path.of(environment.getProperty("jfr.directory", "recordings"));
+        this.maxFiles = Math.max(1, environment.getProperty("jfr.max-files", Integer.class, 5));
+    }
+
+    @Override
+    public synchronized RecordingDto getRecording() {
+        if (recording == null) {
+            return RecordingDto.builder()
+                    .state(RecordingState.NEW.name())
+                    .build();
+        }
+        return toDto(recording, null);
+    }
+
+    @Override
+    public synchronized RecordingDto startRecording(final String settings) {
+        if (!SETTINGS.contains(settings)) {
+            throw new UnknownRecordingSettingsException(settings);
+        }
+        if (recording != null) {
+            throw new RecordingStateException("Recording already running");
+        }
+        final Recording newRecording;
+        try {
+            newRecording = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException exception) {
+            throw new IllegalStateException("Cannot read recording settings " + settings, exception);
+        }
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(MAX_AGE);
+        newRecording.start();
+        recording = newRecording;
+        recordingSettings = settings;
+        log.info("Started flight recording: settings = {}", settings);
+        return toDto(recording, null);
+    }
+
+    @Override
+    public synchronized RecordingDto stopRecording() {
+        if (recording == null) {
+            throw new RecordingStateException("No recording running");
+        }
+        final Path file = directory.resolve(FILE_NAME_FORMATTER.format(clock.instant()));
+        try {
+            recording.stop();
+            Files.createDirectories(directory);
+            recording.dump(file);
+            final RecordingDto dto = toDto(recording, file);
+            log.info("Stopped flight recording: file = {}", file);
+            deleteOldFiles();
+            return dto;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot dump recording to " + file, exception);
+        } finally {
+            recording.close();
+            recording = null;
+            recordingSettings = null;
+        }
+    }
+
+    /*
+     * File names start with the time of the dump, so the oldest files come first in the alphabetical order.
+     */
+    private void deleteOldFiles() {
+        final List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> path.getFileName().toString().matches("recording-\\d{8}-\\d{6}\\.jfr"))
+                    .sorted()
+                    .toList();
+        } catch (IOException exception) {
+            log.warn("Cannot list recordings in {}: {}", directory, exception.getMessage());
+            return;
+        }
+        for (Path file : files.subList(0, Math.max(0, files.size() - maxFiles))) {
+            try {
+                Files.deleteIfExists(file);
+                log.info("Deleted old flight recording: file = {}", file);
+            } catch (IOException exception) {
+                log.warn("Cannot delete old flight recording {}: {}", file, exception.getMessage());
+            }
+        }
+    }
+
+    private RecordingDto toDto(final Recording source, final Path file) {
+        return RecordingDto.builder()
+                .name(source.getName())
+                .state(source.getState().name())
+                .settings(recordingSettings)
+                .startTime(source.getStartTime())
+                .file(file == null ? null : file.toString())
+                .build();
+    }
+}
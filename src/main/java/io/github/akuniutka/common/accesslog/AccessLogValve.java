@@ -0,0 +1,128 @@
+package io.github.akuniutka.common.accesslog;
+
+import jakarta.servlet.ServletException;
+import org.apache.catalina.AccessLog;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Logs requests with {@link AccessLogWriter} instead of Tomcat's own synchronous {@code AccessLogValve}. Requests
+ * are logged by the route template matched (e.g. {@code /users/{id}}) rather than by the path, so that records can
+ * be grouped; requests no handler matched have {@code -} for the route. Tomcat calls {@link #log} when a request
+ * completes, including asynchronous ones, and passes the latency in nanoseconds.
+ */
+public class AccessLogValve extends ValveBase implements AccessLog {
+
+    private static final String DB_TIME_NOTE = AccessLogValve.class.getName() + ".dbTime";
+    private static final String UNMATCHED_ROUTE = "-";
+
+    private String directory = "logs";
+    private String fileName = "access.log";
+    private long maxFileSize = 64L * 1024L * 1024L;
+    private int maxFiles = 5;
+    private int bufferSize = 8192;
+
+    private volatile AccessLogWriter writer;
+
+    public AccessLogValve() {
+        super(true);
+    }
+
+    /*
+     * Asynchronous requests pass the valve once per dispatch, the database time of all dispatches is added up.
+     */
+    @Override
+    public void invoke(final Request request, final Response response) throws IOException, ServletException {
+        DbTime dbTime = (DbTime) request.getNote(DB_TIME_NOTE);
+        if (dbTime == null) {
+            dbTime = new DbTime();
+            request.setNote(DB_TIME_NOTE, dbTime);
+        }
+        DbTime.bind(dbTime);
+        try {
+            getNext().invoke(request, response);
+        } finally {
+            DbTime.unbind();
+        }
+    }
+
+    @Override
+    public void log(final Request request, final Response response, final long time) {
+        final AccessLogWriter currentWriter = writer;
+        if (currentWriter == null) {
+            return;
+        }
+        final DbTime dbTime = (DbTime) request.getNote(DB_TIME_NOTE);
+        final Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        currentWriter.append(System.currentTimeMillis(), request.getMethod(),
+                route instanceof String string ? string : UNMATCHED_ROUTE, response.getStatus(),
+                response.getBytesWritten(false), time, dbTime == null ? 0L : dbTime.getNanos());
+    }
+
+    public long getDroppedCount() {
+        final AccessLogWriter currentWriter = writer;
+        return currentWriter == null ? 0L : currentWriter.getDroppedCount();
+    }
+
+    /*
+     * Request attributes set by RemoteIpValve and the like are not logged, so there is nothing to enable.
+     */
+    @Override
+    public void setRequestAttributesEnabled(final boolean requestAttributesEnabled) {
+        // Nothing to set
+    }
+
+    @Override
+    public boolean getRequestAttributesEnabled() {
+        return false;
+    }
+
+    public void setDirectory(final String directory) {
+        this.directory = directory;
+    }
+
+    public void setFileName(final String fileName) {
+        this.fileName = fileName;
+    }
+
+    public void setMaxFileSize(final long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    public void setMaxFiles(final int maxFiles) {
+        this.maxFiles = maxFiles;
+    }
+
+    public void setBufferSize(final int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    protected synchronized void startInternal() throws LifecycleException {
+        final AccessLogWriter newWriter = new AccessLogWriter(Path.of(directory), fileName, maxFileSize, maxFiles,
+                bufferSize);
+        try {
+            newWriter.start();
+        } catch (IOException exception) {
+            throw new LifecycleException("Cannot open access log in " + directory, exception);
+        }
+        writer = newWriter;
+        super.startInternal();
+    }
+
+    @Override
+    protected synchronized void stopInternal() throws LifecycleException {
+        super.stopInternal();
+        final AccessLogWriter currentWriter = writer;
+        writer = null;
+        if (currentWriter != null) {
+            currentWriter.stop();
+        }
+    }
+}
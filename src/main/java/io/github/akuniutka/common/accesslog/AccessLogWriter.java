@@ -0,0 +1,295 @@
+package io.github.akuniutka.common.accesslog;
+
+import io.github.akuniutka.common.util.MpscRing;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes access log records to a memory-mapped file on a background thread.
+ * <p>
+ * Threads which log only put the fields of a record into a bounded lock-free ring buffer, {@link MpscRing}, and
+ * never wait: when the buffer is full, the record is dropped and counted. The background thread formats records into a file mapped in
+ * whole, {@code maxFileSize} bytes, so writing a record is a memory copy rather than a system call. When the file
+ * fills up, it is truncated to the size written and rotated: {@code access.log} becomes {@code access.log.1} and so
+ * on, and the oldest of {@code maxFiles} files is deleted. Until then, the file is followed by zeros up to its
+ * mapped size.
+ * <p>
+ * Each record is a line of space-separated fields: time in UTC with milliseconds, method, route, status, bytes
+ * written, latency and time spent in the database, both in microseconds:
+ * <pre>
+ * 2026-10-19T10:15:30.123Z GET /users/{id} 200 245 1834 912
+ * </pre>
+ */
+@Slf4j
+public class AccessLogWriter {
+
+    static final int MAX_FIELD_LENGTH = 256;
+    static final int MAX_RECORD_LENGTH = 1024;
+
+    private static final DateTimeFormatter SECOND_FORMATTER = DateTimeFormatter
+            .ofPattern("uuuu-MM-dd'T'HH:mm:ss.")
+            .withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final String fileName;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final LongAdder dropped = new LongAdder();
+
+    // Records are laid out in columns, one array per field, so that appending a record allocates nothing
+    private final MpscRing ring;
+    private final long[] timestamps;
+    private final String[] methods;
+    private final String[] routes;
+    private final int[] statuses;
+    private final long[] bytes;
+    private final long[] latencies;
+    private final long[] dbTimes;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    // Accessed by the worker only
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long currentSecond = Long.MIN_VALUE;
+    private final byte[] secondPrefix = new byte[32];
+    private int secondPrefixLength;
+
+    public AccessLogWriter(final Path directory, final String fileName, final long maxFileSize, final int maxFiles,
+            final int bufferSize) {
+        if (maxFileSize < MAX_RECORD_LENGTH || maxFileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Max file size must be between %d and %d: %d"
+                    .formatted(MAX_RECORD_LENGTH, Integer.MAX_VALUE, maxFileSize));
+        }
+        if (maxFiles <= 0) {
+            throw new IllegalArgumentException("Max files must be positive: " + maxFiles);
+        }
+        if (bufferSize <= 0 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Buffer size must be a power of two: " + bufferSize);
+        }
+        this.directory = directory;
+        this.fileName = fileName;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+        this.ring = new MpscRing(bufferSize);
+        this.timestamps = new long[bufferSize];
+        this.methods = new String[bufferSize];
+        this.routes = new String[bufferSize];
+        this.statuses = new int[bufferSize];
+        this.bytes = new long[bufferSize];
+        this.latencies = new long[bufferSize];
+        this.dbTimes = new long[bufferSize];
+    }
+
+    /*
+     * A file left by a previous run is rotated, so that each run starts writing at the beginning of a file.
+     */
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        if (Files.exists(directory.resolve(fileName))) {
+            shiftFiles();
+        }
+        openFile();
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("access-log-writer")
+                .daemon()
+                .start(this::drain);
+    }
+
+    /*
+     * Writes records buffered, truncates the file to the size written and closes it.
+     */
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Puts a record into the buffer unless it is full.
+     *
+     * @return {@code true} if the record will be written, {@code false} if it was dropped
+     */
+    public boolean append(final long timestamp, final String method, final String route, final int status,
+            final long bytesWritten, final long latencyNanos, final long dbTimeNanos) {
+        final int index = ring.claim();
+        if (index < 0) {
+            dropped.increment();
+            return false;
+        }
+        timestamps[index] = timestamp;
+        methods[index] = method;
+        routes[index] = route;
+        statuses[index] = status;
+        bytes[index] = bytesWritten;
+        latencies[index] = latencyNanos;
+        dbTimes[index] = dbTimeNanos;
+        ring.publish(index);
+        return true;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                final int index = ring.peek();
+                if (index >= 0) {
+                    write(index);
+                    routes[index] = null;
+                    methods[index] = null;
+                    ring.release(index);
+                    continue;
+                }
+                if (!running) {
+                    return;
+                }
+                ring.await();
+            }
+        } finally {
+            closeFile();
+        }
+    }
+
+    private void write(final int index) {
+        if (buffer == null) {
+            dropped.increment();
+            return;
+        }
+        if (buffer.remaining() < MAX_RECORD_LENGTH) {
+            try {
+                closeFile();
+                shiftFiles();
+                openFile();
+            } catch (IOException exception) {
+                log.error("Cannot rotate access log, records will be dropped", exception);
+                dropped.increment();
+                return;
+            }
+        }
+        writeTimestamp(timestamps[index]);
+        buffer.put((byte) ' ');
+        writeAscii(methods[index]);
+        buffer.put((byte) ' ');
+        writeAscii(routes[index]);
+        buffer.put((byte) ' ');
+        writeNumber(statuses[index]);
+        buffer.put((byte) ' ');
+        writeNumber(bytes[index]);
+        buffer.put((byte) ' ');
+        writeNumber(TimeUnit.NANOSECONDS.toMicros(latencies[index]));
+        buffer.put((byte) ' ');
+        writeNumber(TimeUnit.NANOSECONDS.toMicros(dbTimes[index]));
+        buffer.put((byte) '\n');
+    }
+
+    /*
+     * The date and time up to seconds are formatted once a second.
+     */
+    private void writeTimestamp(final long timestamp) {
+        final long second = Math.floorDiv(timestamp, 1_000L);
+        if (second != currentSecond) {
+            final byte[] prefix = SECOND_FORMATTER.format(Instant.ofEpochSecond(second))
+                    .getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(prefix, 0, secondPrefix, 0, prefix.length);
+            secondPrefixLength = prefix.length;
+            currentSecond = second;
+        }
+        buffer.put(secondPrefix, 0, secondPrefixLength);
+        final int millis = (int) Math.floorMod(timestamp, 1_000L);
+        buffer.put((byte) ('0' + millis / 100));
+        buffer.put((byte) ('0' + millis / 10 % 10));
+        buffer.put((byte) ('0' + millis % 10));
+        buffer.put((byte) 'Z');
+    }
+
+    /*
+     * Characters which would break the format (spaces, control and non-ASCII ones) are replaced with '?'.
+     */
+    private void writeAscii(final String value) {
+        if (value == null || value.isEmpty()) {
+            buffer.put((byte) '-');
+            return;
+        }
+        final int length = Math.min(value.length(), MAX_FIELD_LENGTH);
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            buffer.put(c > ' ' && c < 0x7f ? (byte) c : (byte) '?');
+        }
+    }
+
+    private void writeNumber(final long value) {
+        if (value < 0L) {
+            buffer.put((byte) '-');
+            return;
+        }
+        long divisor = 1L;
+        while (divisor <= value / 10L) {
+            divisor *= 10L;
+        }
+        for (; divisor > 0L; divisor /= 10L) {
+            buffer.put((byte) ('0' + value / divisor % 10L));
+        }
+    }
+
+    private void openFile() throws IOException {
+        channel = FileChannel.open(directory.resolve(fileName), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, maxFileSize);
+    }
+
+    private void closeFile() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            buffer.force();
+            channel.truncate(buffer.position());
+            channel.close();
+        } catch (IOException exception) {
+            log.error("Cannot close access log", exception);
+        } finally {
+            channel = null;
+            buffer = null;
+        }
+    }
+
+    private void shiftFiles() throws IOException {
+        Files.deleteIfExists(rotatedFile(maxFiles - 1));
+        for (int i = maxFiles - 2; i >= 0; i--) {
+            final Path source = rotatedFile(i);
+            if (Files.exists(source)) {
+                Files.move(source, rotatedFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private Path rotatedFile(final int index) {
+        return directory.resolve(index == 0 ? fileName : fileName + "." + index);
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.akuniutka.common.accesslog;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time a request has spent in the database so far. The time is collected by {@link DbTimeSessionEventListener} on
+ * the thread the request is bound to by {@link AccessLogValve}. An asynchronous request may be dispatched on several
+ * threads in turn and completed on yet another one, so the time is kept in a {@link LongAdder}, which makes every
+ * addition visible to the thread reading the total.
+ */
+final class DbTime {
+
+    private static final ThreadLocal<DbTime> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder nanos = new LongAdder();
+
+    static void bind(final DbTime dbTime) {
+        CURRENT.set(dbTime);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /*
+     * Database work outside of requests, e.g. of the notification listener, is not bound to any request.
+     */
+    static void add(final long nanos) {
+        final DbTime dbTime = CURRENT.get();
+        if (dbTime != null) {
+            dbTime.nanos.add(nanos);
+        }
+    }
+
+    long getNanos() {
+        return nanos.sum();
+    }
+}
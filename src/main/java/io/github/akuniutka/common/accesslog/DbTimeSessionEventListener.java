@@ -0,0 +1,45 @@
+package io.github.akuniutka.common.accesslog;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds time Hibernate spends acquiring JDBC connections and executing statements and batches to the request the
+ * current thread serves. Hibernate creates a listener per session, sessions are used by one thread at a time, so the
+ * listener needs no synchronization. Registered with the {@code hibernate.session.events.auto} property.
+ */
+public class DbTimeSessionEventListener implements SessionEventListener {
+
+    private long connectionAcquisitionStart;
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionAcquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        DbTime.add(System.nanoTime() - connectionAcquisitionStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        DbTime.add(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        DbTime.add(System.nanoTime() - batchStart);
+    }
+}
@@ -1,10 +1,17 @@
 package io.github.akuniutka.common.controller;
 
+import io.github.akuniutka.common.util.LogThrottle;
 import io.github.akuniutka.exception.DtoNotValidException;
 import io.github.akuniutka.exception.DuplicateEmailException;
+import io.github.akuniutka.exception.InvalidCursorException;
+import io.github.akuniutka.exception.RecordingStateException;
+import io.github.akuniutka.exception.TooManyIdsException;
+import io.github.akuniutka.exception.UnknownFieldException;
+import io.github.akuniutka.exception.UnknownRecordingSettingsException;
 import io.github.akuniutka.exception.UserDeletedException;
 import io.github.akuniutka.exception.UserNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -13,6 +20,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -27,6 +35,16 @@ import static java.util.stream.Collectors.toCollection;
 @Slf4j
 public class ControllerExceptionHandler {
 
+    /*
+     * Routine client errors, which come in floods from scrapers and stale clients, are logged at most this many
+     * times per second each.
+     */
+    static final int ROUTINE_ERROR_LOG_LIMIT = 10;
+
+    private final LogThrottle userNotFoundLog = new LogThrottle(ROUTINE_ERROR_LOG_LIMIT, Duration.ofSeconds(1));
+    private final LogThrottle duplicateEmailLog = new LogThrottle(ROUTINE_ERROR_LOG_LIMIT, Duration.ofSeconds(1));
+    private final LogThrottle userDeletedLog = new LogThrottle(ROUTINE_ERROR_LOG_LIMIT, Duration.ofSeconds(1));
+
     @ExceptionHandler
     public ProblemDetail handleHttpMessageNotReadableException(final HttpMessageNotReadableException exception) {
         log.warn(exception.getMessage());
@@ -54,23 +72,56 @@ public class ControllerExceptionHandler {
     }
 
     @ExceptionHandler
-    public ProblemDetail handleUserNotFoundException(final UserNotFoundException exception) {
+    public ProblemDetail handleUnknownFieldException(final UnknownFieldException exception) {
         log.warn(exception.getMessage());
-        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, exception.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
     }
 
     @ExceptionHandler
-    public ProblemDetail handleDuplicateEmailException(final DuplicateEmailException exception) {
+    public ProblemDetail handleTooManyIdsException(final TooManyIdsException exception) {
         log.warn(exception.getMessage());
-        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, exception.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
     }
 
     @ExceptionHandler
-    public ProblemDetail handleUserDeletedException(final UserDeletedException exception) {
+    public ProblemDetail handleInvalidCursorException(final InvalidCursorException exception) {
+        log.warn(exception.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler
+    public ProblemDetail handleUnknownRecordingSettingsException(final UnknownRecordingSettingsException exception) {
+        log.warn(exception.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler
+    public ProblemDetail handleRecordingStateException(final RecordingStateException exception) {
         log.warn(exception.getMessage());
         return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, exception.getMessage());
     }
 
+    @ExceptionHandler
+    public ProblemDetail handleUserNotFoundException(final UserNotFoundException exception) {
+        final String message = exception.getMessage();
+        warnThrottled(userNotFoundLog, message);
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, message);
+    }
+
+    @ExceptionHandler
+    public ProblemDetail handleDuplicateEmailException(final DuplicateEmailException exception) {
+        final String message = exception.getMessage();
+        warnThrottled(duplicateEmailLog, message);
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, message);
+    }
+
+    @ExceptionHandler
+    public ProblemDetail handleUserDeletedException(final UserDeletedException exception) {
+        final String message = exception.getMessage();
+        warnThrottled(userDeletedLog, message);
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, message);
+    }
+
     @ExceptionHandler
     public ProblemDetail handleObjectOptimisticLockingFailureException(
             final ObjectOptimisticLockingFailureException exception) {
@@ -79,9 +130,28 @@ public class ControllerExceptionHandler {
                 "Someone updated data in parallel. Try again later.");
     }
 
+    @ExceptionHandler
+    public ProblemDetail handleQueryTimeoutException(final QueryTimeoutException exception) {
+        log.warn(exception.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE,
+                "Query took too long. Try a more specific one.");
+    }
+
     @ExceptionHandler
     public ProblemDetail handleThrowable(final Throwable throwable) {
         log.error(throwable.getMessage(), throwable);
         return ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "Please contact site admin");
     }
+
+    private static void warnThrottled(final LogThrottle throttle, final String message) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        final long suppressed = throttle.tryAcquire();
+        if (suppressed == 0L) {
+            log.warn(message);
+        } else if (suppressed > 0L) {
+            log.warn("{} ({} similar messages suppressed)", message, suppressed);
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package io.github.akuniutka.common.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.akuniutka.common.jfr.SerializationEvent;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * The Jackson JSON converter, which reports each response body written as a {@link SerializationEvent}, as the
+ * hand-written converters do. It writes whatever they leave to Jackson: {@code ?fields=} maps, multi-gets, search
+ * results, the change feed and problem details they do not render.
+ */
+public class InstrumentedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public InstrumentedJsonHttpMessageConverter(final ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(final Object object, final Type type, final HttpOutputMessage outputMessage)
+            throws IOException {
+        SerializationEvent.record(object, type, () -> super.writeInternal(object, type, outputMessage));
+    }
+}
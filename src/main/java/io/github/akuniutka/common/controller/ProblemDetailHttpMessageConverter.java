@@ -0,0 +1,144 @@
+package io.github.akuniutka.common.controller;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.akuniutka.common.jfr.SerializationEvent;
+import lombok.NonNull;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes {@link ProblemDetail} as JSON from templates pre-rendered for every HTTP status: only the detail and
+ * the instance are encoded per response. Problem details with a custom type or title or with extra properties are
+ * rare and written by the {@code ObjectMapper}. The output is byte-identical to that of {@code ObjectMapper}
+ * configured in {@code WebConfig}. Reading is left to the Jackson converter.
+ */
+public class ProblemDetailHttpMessageConverter extends AbstractHttpMessageConverter<ProblemDetail> {
+
+    private static final URI BLANK_TYPE = URI.create("about:blank");
+    private static final Map<Integer, byte[]> TEMPLATES = renderTemplates();
+    private static final byte[] DETAIL = ascii(",\"detail\":\"");
+    private static final byte[] INSTANCE = ascii(",\"instance\":\"");
+
+    private final ObjectMapper objectMapper;
+
+    public ProblemDetailHttpMessageConverter(@NonNull final ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_PROBLEM_JSON, MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(final Class<?> clazz) {
+        return ProblemDetail.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(final Class<?> clazz, final MediaType mediaType) {
+        return false;
+    }
+
+    /*
+     * Jackson writes JSON in UTF-8 unless another charset is requested explicitly; leave such requests to it.
+     */
+    @Override
+    protected boolean canWrite(final MediaType mediaType) {
+        if (mediaType != null && mediaType.getCharset() != null
+                && !StandardCharsets.UTF_8.equals(mediaType.getCharset())) {
+            return false;
+        }
+        return super.canWrite(mediaType);
+    }
+
+    @Override
+    protected ProblemDetail readInternal(final Class<? extends ProblemDetail> clazz,
+            final HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading is not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(final ProblemDetail problemDetail, final HttpOutputMessage outputMessage)
+            throws IOException {
+        SerializationEvent.record(problemDetail, ProblemDetail.class, () -> write(problemDetail, outputMessage));
+    }
+
+    private void write(final ProblemDetail problemDetail, final HttpOutputMessage outputMessage) throws IOException {
+        final OutputStream out = outputMessage.getBody();
+        final byte[] template = findTemplate(problemDetail);
+        final byte[] detail;
+        final byte[] instance;
+        try {
+            detail = quote(problemDetail.getDetail());
+            instance = quote(problemDetail.getInstance() == null ? null : problemDetail.getInstance().toString());
+        } catch (IllegalArgumentException exception) {
+            // Unpaired surrogates, which the ObjectMapper escapes rather than rejects
+            out.write(objectMapper.writeValueAsBytes(problemDetail));
+            return;
+        }
+        if (template == null) {
+            out.write(objectMapper.writeValueAsBytes(problemDetail));
+            return;
+        }
+        out.write(template);
+        writeString(out, DETAIL, detail);
+        writeString(out, INSTANCE, instance);
+        out.write('}');
+    }
+
+    private static byte[] findTemplate(final ProblemDetail problemDetail) {
+        if (!BLANK_TYPE.equals(problemDetail.getType())
+                || problemDetail.getProperties() != null && !problemDetail.getProperties().isEmpty()) {
+            return null;
+        }
+        final HttpStatus status = HttpStatus.resolve(problemDetail.getStatus());
+        if (status == null || !status.getReasonPhrase().equals(problemDetail.getTitle())) {
+            return null;
+        }
+        return TEMPLATES.get(status.value());
+    }
+
+    /*
+     * Empty strings are omitted the same way as nulls, as the ObjectMapper does.
+     */
+    private static byte[] quote(final String value) {
+        return value == null || value.isEmpty() ? null : JsonStringEncoder.getInstance().quoteAsUTF8(value);
+    }
+
+    private static void writeString(final OutputStream out, final byte[] name, final byte[] quoted)
+            throws IOException {
+        if (quoted != null) {
+            out.write(name);
+            out.write(quoted);
+            out.write('"');
+        }
+    }
+
+    /*
+     * Codes shared by deprecated and current statuses get the title ProblemDetail resolves for them.
+     */
+    private static Map<Integer, byte[]> renderTemplates() {
+        final Map<Integer, byte[]> templates = new HashMap<>();
+        for (HttpStatus value : HttpStatus.values()) {
+            final HttpStatus status = HttpStatus.resolve(value.value());
+            templates.put(status.value(), ascii("{\"type\":\"" + BLANK_TYPE + "\",\"title\":\""
+                    + new String(JsonStringEncoder.getInstance().quoteAsString(status.getReasonPhrase()))
+                    + "\",\"status\":" + status.value()));
+        }
+        return Map.copyOf(templates);
+    }
+
+    private static byte[] ascii(final String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.akuniutka.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.github.akuniutka.Mapping")
+@Label("Mapping")
+@Description("A conversion between entities and DTOs")
+@Category({"Bookmark It", "Web"})
+class MappingEvent extends MethodEvent {
+}
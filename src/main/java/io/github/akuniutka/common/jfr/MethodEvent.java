@@ -0,0 +1,26 @@
+package io.github.akuniutka.common.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Fields shared by events recorded around calls of a bean by {@link MethodEventInterceptor}. The row count is the
+ * number of elements in a collection, page or array returned, 1 or 0 for a single value or an empty one, and -1
+ * when the result is not rows, e.g. a count or a flag.
+ */
+@StackTrace(false)
+abstract class MethodEvent extends Event {
+
+    @Label("Type")
+    String type;
+
+    @Label("Method")
+    String method;
+
+    @Label("User Id")
+    String userId;
+
+    @Label("Row Count")
+    int rowCount;
+}
@@ -0,0 +1,63 @@
+package io.github.akuniutka.common.jfr;
+
+import io.github.akuniutka.common.entity.BaseHibernateEntity;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Records a JFR event around each call of a bean. When no recording has the event enabled, the call costs a check
+ * of a static field. The user id is taken from the first argument which is a UUID or an entity. Calls which throw
+ * are not recorded.
+ */
+public class MethodEventInterceptor implements MethodInterceptor {
+
+    private final Supplier<MethodEvent> eventFactory;
+    private final MethodEvent probe;
+
+    private MethodEventInterceptor(final Supplier<MethodEvent> eventFactory) {
+        this.eventFactory = eventFactory;
+        this.probe = eventFactory.get();
+    }
+
+    public static MethodEventInterceptor forRepository() {
+        return new MethodEventInterceptor(RepositoryEvent::new);
+    }
+
+    public static MethodEventInterceptor forMapper() {
+        return new MethodEventInterceptor(MappingEvent::new);
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        if (!probe.isEnabled()) {
+            return invocation.proceed();
+        }
+        final MethodEvent event = eventFactory.get();
+        event.begin();
+        final Object result = invocation.proceed();
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = invocation.getMethod().getDeclaringClass().getSimpleName();
+            event.method = invocation.getMethod().getName();
+            event.userId = findUserId(invocation.getArguments());
+            event.rowCount = RowCount.of(result);
+            event.commit();
+        }
+        return result;
+    }
+
+    private static String findUserId(final Object[] arguments) {
+        for (Object argument : arguments) {
+            if (argument instanceof UUID id) {
+                return id.toString();
+            }
+            if (argument instanceof BaseHibernateEntity entity && entity.getId() != null) {
+                return entity.getId().toString();
+            }
+        }
+        return null;
+    }
+}
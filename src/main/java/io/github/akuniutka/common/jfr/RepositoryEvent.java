@@ -0,0 +1,13 @@
+package io.github.akuniutka.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.github.akuniutka.Repository")
+@Label("Repository Call")
+@Description("A call of a repository method, including the transaction it opens, if any")
+@Category({"Bookmark It", "Persistence"})
+class RepositoryEvent extends MethodEvent {
+}
@@ -0,0 +1,28 @@
+package io.github.akuniutka.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.github.akuniutka.Request")
+@Label("Request")
+@Description("A request handled by a controller, from the handler found to the response written")
+@Category({"Bookmark It", "Web"})
+@StackTrace(false)
+class RequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    String route;
+
+    @Label("User Id")
+    String userId;
+
+    @Label("Status")
+    int status;
+}
@@ -0,0 +1,30 @@
+package io.github.akuniutka.common.jfr;
+
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+final class RowCount {
+
+    static final int NOT_ROWS = -1;
+
+    private RowCount() {
+        throw new AssertionError();
+    }
+
+    static int of(final Object result) {
+        return switch (result) {
+            case null -> 0;
+            case Collection<?> collection -> collection.size();
+            case Map<?, ?> map -> map.size();
+            case Slice<?> slice -> slice.getNumberOfElements();
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            case Number ignored -> NOT_ROWS;
+            case Boolean ignored -> NOT_ROWS;
+            default -> result.getClass().isArray() ? Array.getLength(result) : 1;
+        };
+    }
+}
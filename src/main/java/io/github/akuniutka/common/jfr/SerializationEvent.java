@@ -0,0 +1,86 @@
+package io.github.akuniutka.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.core.ResolvableType;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Writing of a response body by a message converter. Unlike other events, which are recorded by interceptors in this
+ * package, it is recorded by converters themselves, with {@link #record(Object, Type, Write)}, and so is public.
+ */
+@Name("io.github.akuniutka.Serialization")
+@Label("Serialization")
+@Description("Writing of a response body by a message converter")
+@Category({"Bookmark It", "Web"})
+@StackTrace(false)
+public class SerializationEvent extends Event {
+
+    private static final SerializationEvent PROBE = new SerializationEvent();
+
+    @Label("Type")
+    private String type;
+
+    @Label("Row Count")
+    private int rowCount;
+
+    /**
+     * Tells whether any recording has the event enabled, without creating an event.
+     */
+    public static boolean isRecorded() {
+        return PROBE.isEnabled();
+    }
+
+    /**
+     * Writes the body and records the event around the write if any recording has the event enabled. The type is
+     * the element type of a collection or the type of the body, the row count is counted as for repository events.
+     *
+     * @param body  the body
+     * @param type  the declared type of the body, {@code null} if unknown
+     * @param write the write of the body
+     */
+    public static void record(final Object body, final Type type, final Write write) throws IOException {
+        if (!isRecorded()) {
+            write.run();
+            return;
+        }
+        final SerializationEvent event = new SerializationEvent();
+        event.begin();
+        write.run();
+        event.end();
+        if (event.shouldCommit()) {
+            event.setType(typeName(body, type));
+            event.setRowCount(RowCount.of(body));
+            event.commit();
+        }
+    }
+
+    public void setType(final String type) {
+        this.type = type;
+    }
+
+    public void setRowCount(final int rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    private static String typeName(final Object body, final Type type) {
+        final ResolvableType resolvableType = type != null
+                ? ResolvableType.forType(type)
+                : ResolvableType.forClass(body == null ? Object.class : body.getClass());
+        final Class<?> elementType = resolvableType.asCollection().resolveGeneric();
+        final Class<?> resolved = elementType != null ? elementType : resolvableType.resolve(Object.class);
+        return resolved.getSimpleName();
+    }
+
+    @FunctionalInterface
+    public interface Write {
+
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.akuniutka.common.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import io.github.akuniutka.common.util.MpscRing;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Passes logging events to attached appenders on a background thread through a bounded lock-free ring buffer,
+ * {@link MpscRing}, so that logging never blocks the thread which logs.
+ * <p>
+ * When less than {@code discardingThreshold} slots are left, events of {@code discardLevel} and below are dropped.
+ * When the buffer is full, any event is dropped. Events dropped are counted, and the count is reported by a WARN
+ * event passed to attached appenders once the buffer drains, at most once per {@code reportInterval}
+ * milliseconds.
+ * <pre>
+ * &lt;appender name="ASYNC" class="io.github.akuniutka.common.log.RingBufferAppender"&gt;
+ *     &lt;queueSize&gt;8192&lt;/queueSize&gt;
+ *     &lt;discardingThreshold&gt;1638&lt;/discardingThreshold&gt;
+ *     &lt;discardLevel&gt;INFO&lt;/discardLevel&gt;
+ *     &lt;appender-ref ref="STDOUT"/&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    static final int DEFAULT_QUEUE_SIZE = 8192;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private int discardingThreshold = -1;
+    private Level discardLevel = Level.INFO;
+    private long reportInterval = 10_000L;
+    private long maxFlushTime = 1_000L;
+
+    private MpscRing ring;
+    private ILoggingEvent[] events;
+    private volatile boolean running;
+    private Thread worker;
+    private long reported;
+    private long lastReportMillis;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (queueSize <= 0 || Integer.bitCount(queueSize) != 1) {
+            addError("Queue size must be a power of two: " + queueSize);
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No appender attached to " + getName());
+            return;
+        }
+        if (discardingThreshold < 0) {
+            discardingThreshold = queueSize / 5;
+        }
+        ring = new MpscRing(queueSize);
+        events = new ILoggingEvent[queueSize];
+        running = true;
+        worker = new Thread(this::drain, "log-appender-" + getName());
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    /*
+     * Waits up to maxFlushTime for events buffered to be passed on.
+     */
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxFlushTime);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("Events still buffered after " + maxFlushTime + " ms, stopping without them");
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        if (queueSize - ring.size() <= discardingThreshold
+                && event.getLevel().toInt() <= discardLevel.toInt()) {
+            dropped.increment();
+            return;
+        }
+        // Capture the thread name, the MDC and the formatted message while on the thread which logs
+        event.prepareForDeferredProcessing();
+        final int index = ring.claim();
+        if (index < 0) {
+            dropped.increment();
+            return;
+        }
+        events[index] = event;
+        ring.publish(index);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public void setQueueSize(final int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setDiscardingThreshold(final int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public int getDiscardingThreshold() {
+        return discardingThreshold;
+    }
+
+    public void setDiscardLevel(final String discardLevel) {
+        this.discardLevel = Level.toLevel(discardLevel, Level.INFO);
+    }
+
+    public String getDiscardLevel() {
+        return discardLevel.toString();
+    }
+
+    public void setReportInterval(final long reportInterval) {
+        this.reportInterval = reportInterval;
+    }
+
+    public void setMaxFlushTime(final long maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    @Override
+    public void addAppender(final Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(final String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(final Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(final Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(final String name) {
+        return appenders.detachAppender(name);
+    }
+
+    private void drain() {
+        while (true) {
+            final int index = ring.peek();
+            if (index >= 0) {
+                final ILoggingEvent event = events[index];
+                events[index] = null;
+                ring.release(index);
+                appenders.appendLoopOnAppenders(event);
+                continue;
+            }
+            reportDropped();
+            if (!running) {
+                return;
+            }
+            ring.await();
+        }
+    }
+
+    private void reportDropped() {
+        final long total = dropped.sum();
+        final long now = System.currentTimeMillis();
+        if (total == reported || running && now - lastReportMillis < reportInterval) {
+            return;
+        }
+        final LoggingEvent event = new LoggingEvent(RingBufferAppender.class.getName(),
+                ((LoggerContext) getContext()).getLogger(RingBufferAppender.class), Level.WARN,
+                "{} logging events dropped by appender {}: {} in total", null,
+                new Object[]{total - reported, getName(), total});
+        appenders.appendLoopOnAppenders(event);
+        reported = total;
+        lastReportMillis = now;
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.akuniutka.common.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets through one in {@code rate} events of a logger (or of loggers under a package) which are of {@code maxLevel}
+ * and below and, if {@code messagePrefix} is set, have a message pattern starting with it. Other events are left to
+ * other filters. If {@code mdcKey} is set, only events with {@code mdcValue} under that key in the MDC are sampled.
+ * Meant for routine lines logged on every request:
+ * <pre>
+ * &lt;filter class="io.github.akuniutka.common.log.SamplingFilter"&gt;
+ *     &lt;loggerName&gt;io.github.akuniutka.user.controller.UserController&lt;/loggerName&gt;
+ *     &lt;messagePrefix&gt;Received request for users&lt;/messagePrefix&gt;
+ *     &lt;rate&gt;10&lt;/rate&gt;
+ * &lt;/filter&gt;
+ * </pre>
+ * or for all the lines of synthetic requests:
+ * <pre>
+ * &lt;filter class="io.github.akuniutka.common.log.SamplingFilter"&gt;
+ *     &lt;loggerName&gt;io.github.akuniutka&lt;/loggerName&gt;
+ *     &lt;mdcKey&gt;warmUp&lt;/mdcKey&gt;
+ *     &lt;mdcValue&gt;true&lt;/mdcValue&gt;
+ *     &lt;maxLevel&gt;WARN&lt;/maxLevel&gt;
+ *     &lt;rate&gt;1000&lt;/rate&gt;
+ * &lt;/filter&gt;
+ * </pre>
+ */
+public class SamplingFilter extends Filter<ILoggingEvent> {
+
+    private final AtomicLong matched = new AtomicLong();
+
+    private String loggerName;
+    private String messagePrefix;
+    private String mdcKey;
+    private String mdcValue;
+    private int rate = 1;
+    private Level maxLevel = Level.INFO;
+
+    @Override
+    public void start() {
+        if (loggerName == null || loggerName.isEmpty()) {
+            addError("Logger name not set for filter " + getName());
+            return;
+        }
+        if (rate <= 0) {
+            addError("Rate must be positive: " + rate);
+            return;
+        }
+        if (mdcKey != null && mdcValue == null) {
+            addError("MDC value not set for filter " + getName());
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(final ILoggingEvent event) {
+        if (!isStarted() || event.getLevel().toInt() > maxLevel.toInt() || !matchesLogger(event.getLoggerName())
+                || messagePrefix != null && (event.getMessage() == null
+                || !event.getMessage().startsWith(messagePrefix))
+                || mdcKey != null && !mdcValue.equals(event.getMDCPropertyMap().get(mdcKey))) {
+            return FilterReply.NEUTRAL;
+        }
+        return matched.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerName(final String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public void setMessagePrefix(final String messagePrefix) {
+        this.messagePrefix = messagePrefix;
+    }
+
+    public void setMdcKey(final String mdcKey) {
+        this.mdcKey = mdcKey;
+    }
+
+    public void setMdcValue(final String mdcValue) {
+        this.mdcValue = mdcValue;
+    }
+
+    public void setRate(final int rate) {
+        this.rate = rate;
+    }
+
+    public void setMaxLevel(final String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    private boolean matchesLogger(final String name) {
+        return name.startsWith(loggerName)
+                && (name.length() == loggerName.length() || name.charAt(loggerName.length()) == '.');
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.akuniutka.common.migration;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * A versioned SQL script, {@code V<version>__<description>.sql}, e.g. {@code V3__index_user_filters.sql}. The
+ * checksum is taken over the script with line endings normalized, so that a checkout with different line endings
+ * is not taken for a changed migration. A script whose first line is {@value #NO_TRANSACTION_DIRECTIVE} is run
+ * outside a transaction, as required by {@code CREATE INDEX CONCURRENTLY}.
+ */
+public record Migration(
+
+        int version,
+
+        String description,
+
+        int checksum,
+
+        boolean transactional,
+
+        Resource script
+) {
+
+    public static final String NO_TRANSACTION_DIRECTIVE = "-- migration: no-transaction";
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d{1,9})__(\\w+)\\.sql");
+
+    public static Migration of(final Resource script) {
+        final String fileName = script.getFilename();
+        final Matcher matcher = FILE_NAME.matcher(fileName == null ? "" : fileName);
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Invalid migration file name: " + fileName);
+        }
+        final String content;
+        try {
+            content = script.getContentAsString(StandardCharsets.UTF_8).replace("\r\n", "\n");
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot read migration " + fileName, exception);
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(content.getBytes(StandardCharsets.UTF_8));
+        return new Migration(
+                Integer.parseInt(matcher.group(1)),
+                matcher.group(2).replace('_', ' '),
+                (int) crc.getValue(),
+                !content.startsWith(NO_TRANSACTION_DIRECTIVE + "\n") && !content.equals(NO_TRANSACTION_DIRECTIVE),
+                script);
+    }
+}
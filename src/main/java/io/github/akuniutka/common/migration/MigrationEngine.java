@@ -0,0 +1,234 @@
+package io.github.akuniutka.common.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Brings a PostgreSQL database up to date with the migrations found in classpath locations.
+ * <p>
+ * Migrations applied are recorded in {@value #HISTORY_TABLE} with their checksums. A boot with nothing to apply
+ * costs two queries: the history is read without any lock, and the engine returns if every migration has been
+ * applied. Otherwise the engine takes a session-level advisory lock, so that only one instance migrates, reads the
+ * history again and applies the migrations still pending in the order of their versions. The lock is polled rather
+ * than waited for: a session blocked on {@code pg_advisory_lock()} is inside a statement, and
+ * {@code CREATE INDEX CONCURRENTLY} run by the instance holding the lock would wait for that statement to finish.
+ * <p>
+ * A transactional migration is applied and recorded in one transaction. A migration run outside a transaction is
+ * recorded only after all its statements have succeeded, so after a failure it is run again from the beginning and
+ * has to be written to allow that: e.g. an index left invalid by a failed {@code CREATE INDEX CONCURRENTLY} is
+ * dropped before being created again. A migration changed after it was applied fails the boot. Migrations applied
+ * by a newer version of the application and unknown to this one are ignored.
+ */
+@Slf4j
+public class MigrationEngine {
+
+    static final String HISTORY_TABLE = "schema_history";
+    static final long LOCK_KEY = 0x626f6f6b6d61726bL; // "bookmark" in ASCII
+
+    private static final Duration LOCK_RETRY_INTERVAL = Duration.ofMillis(500);
+
+    private final List<String> locations;
+    private final ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+
+    public MigrationEngine(final List<String> locations) {
+        this.locations = List.copyOf(locations);
+    }
+
+    /**
+     * Finds migrations in the locations and sorts them by version.
+     *
+     * @throws IllegalStateException if a file name is not valid or two migrations have the same version
+     */
+    public List<Migration> findMigrations() {
+        final List<Migration> migrations = new ArrayList<>();
+        try {
+            for (String location : locations) {
+                for (Resource resource : resourcePatternResolver.getResources("classpath*:" + location + "/*.sql")) {
+                    migrations.add(Migration.of(resource));
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot find migrations", exception);
+        }
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+                throw new IllegalStateException("Duplicate migration version %d: %s and %s".formatted(
+                        migrations.get(i).version(), migrations.get(i - 1).script().getFilename(),
+                        migrations.get(i).script().getFilename()));
+            }
+        }
+        return migrations;
+    }
+
+    /**
+     * Applies migrations pending. The connection is expected to be in auto-commit mode and is left in it.
+     *
+     * @return the number of migrations applied
+     * @throws IllegalStateException if a migration applied has been changed since
+     */
+    public int migrate(final Connection connection) throws SQLException {
+        final List<Migration> migrations = findMigrations();
+        if (findPending(migrations, readHistory(connection)).isEmpty()) {
+            log.info("Database schema is up to date: migrations = {}", migrations.size());
+            return 0;
+        }
+        lock(connection);
+        try {
+            createHistoryTable(connection);
+            final List<Migration> pending = findPending(migrations, readHistory(connection));
+            for (Migration migration : pending) {
+                apply(connection, migration);
+            }
+            log.info("Database schema migrated: migrations applied = {}", pending.size());
+            return pending.size();
+        } finally {
+            unlock(connection);
+        }
+    }
+
+    private static List<Migration> findPending(final List<Migration> migrations, final Map<Integer, Integer> history) {
+        final List<Migration> pending = new ArrayList<>();
+        for (Migration migration : migrations) {
+            final Integer checksum = history.get(migration.version());
+            if (checksum == null) {
+                pending.add(migration);
+            } else if (checksum != migration.checksum()) {
+                throw new IllegalStateException("Migration %d has been changed after it was applied: %s"
+                        .formatted(migration.version(), migration.script().getFilename()));
+            }
+        }
+        return pending;
+    }
+
+    /*
+     * Returns checksums by version, none if the table does not exist yet.
+     */
+    private static Map<Integer, Integer> readHistory(final Connection connection) throws SQLException {
+        final Map<Integer, Integer> history = new HashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SELECT to_regclass('" + HISTORY_TABLE + "') IS NOT NULL")) {
+                if (!resultSet.next() || !resultSet.getBoolean(1)) {
+                    return history;
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SELECT version, checksum FROM " + HISTORY_TABLE)) {
+                while (resultSet.next()) {
+                    history.put(resultSet.getInt(1), resultSet.getInt(2));
+                }
+            }
+        }
+        return history;
+    }
+
+    private static void createHistoryTable(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS %s
+                    (
+                      version       INTEGER PRIMARY KEY,
+                      description   VARCHAR(200)             NOT NULL,
+                      checksum      INTEGER                  NOT NULL,
+                      transactional BOOLEAN                  NOT NULL,
+                      installed_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+                      execution_ms  BIGINT                   NOT NULL
+                    )""".formatted(HISTORY_TABLE));
+        }
+    }
+
+    private static void apply(final Connection connection, final Migration migration) throws SQLException {
+        log.info("Applying migration: version = {}, description = {}, transactional = {}", migration.version(),
+                migration.description(), migration.transactional());
+        final long startNanos = System.nanoTime();
+        if (migration.transactional()) {
+            connection.setAutoCommit(false);
+            try {
+                ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.script(),
+                        StandardCharsets.UTF_8));
+                record(connection, migration, startNanos);
+                connection.commit();
+            } catch (SQLException | RuntimeException exception) {
+                connection.rollback();
+                throw exception;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } else {
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.script(), StandardCharsets.UTF_8));
+            record(connection, migration, startNanos);
+        }
+        log.info("Migration applied in {} ms: version = {}",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), migration.version());
+    }
+
+    private static void record(final Connection connection, final Migration migration, final long startNanos)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + HISTORY_TABLE
+                + " (version, description, checksum, transactional, execution_ms) VALUES (?, ?, ?, ?, ?)")) {
+            statement.setInt(1, migration.version());
+            statement.setString(2, migration.description());
+            statement.setInt(3, migration.checksum());
+            statement.setBoolean(4, migration.transactional());
+            statement.setLong(5, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            statement.executeUpdate();
+        }
+    }
+
+    private static void lock(final Connection connection) throws SQLException {
+        boolean waiting = false;
+        while (!callLockFunction(connection, "pg_try_advisory_lock")) {
+            if (!waiting) {
+                log.info("Waiting for another instance to finish migrating the database");
+                waiting = true;
+            }
+            try {
+                Thread.sleep(LOCK_RETRY_INTERVAL);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for migration lock", exception);
+            }
+        }
+    }
+
+    /*
+     * The lock would be released anyway when the session ends, but a pooled connection outlives the migration.
+     */
+    private static void unlock(final Connection connection) {
+        try {
+            callLockFunction(connection, "pg_advisory_unlock");
+        } catch (SQLException exception) {
+            log.warn("Cannot release migration lock: {}", exception.getMessage());
+        }
+    }
+
+    private static boolean callLockFunction(final Connection connection, final String function) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?)")) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.akuniutka.common.notify;
+
+/**
+ * Receives PostgreSQL notifications on a channel from {@link NotificationListener}.
+ */
+public interface NotificationHandler {
+
+    String getChannel();
+
+    /**
+     * Called on the listener thread for every notification on the channel, so it must not block.
+     *
+     * @param payload the payload of the notification
+     */
+    void onNotification(String payload);
+
+    /**
+     * Called on the listener thread every time the listener has connected to the database and listens to
+     * the channel: notifications sent from then on are delivered.
+     */
+    default void onConnect() {
+    }
+
+    /**
+     * Called before {@link #onConnect()} when the listener has connected after a connection failed or could not be
+     * opened. Notifications sent while it was disconnected are lost.
+     */
+    default void onReconnect() {
+    }
+}
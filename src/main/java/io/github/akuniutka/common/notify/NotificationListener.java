@@ -0,0 +1,219 @@
+package io.github.akuniutka.common.notify;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * Listens to PostgreSQL notifications on channels of all {@link NotificationHandler} beans.
+ * <p>
+ * LISTEN is bound to a session, so the listener holds one connection of its own for the lifetime of the
+ * application. The connection is opened with the driver directly rather than taken from the pool: a pooled
+ * connection would be held forever, and the pool might reset or close it. Handlers are told every time the listener
+ * starts listening. When the connection fails or cannot be opened, the listener retries and, once connected, lets
+ * handlers know that notifications might have been lost.
+ */
+@Component
+@Slf4j
+public class NotificationListener implements SmartLifecycle {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration VALIDATION_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final Map<String, List<NotificationHandler>> handlers;
+    private final ConnectionFactory connectionFactory;
+    private final Duration reconnectDelay;
+
+    private boolean autoStartup = true;
+    private volatile boolean running;
+    private Thread thread;
+
+    @Autowired
+    public NotificationListener(final Environment environment, final List<NotificationHandler> handlers) {
+        this(handlers, () -> openConnection(environment), RECONNECT_DELAY);
+        // A training run must not connect to the database, see PersistenceConfig
+        this.autoStartup = !environment.getProperty("startup.training-run", Boolean.class, false);
+    }
+
+    NotificationListener(final List<NotificationHandler> handlers, final ConnectionFactory connectionFactory,
+            final Duration reconnectDelay) {
+        this.handlers = handlers.stream().collect(groupingBy(NotificationHandler::getChannel));
+        this.connectionFactory = connectionFactory;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    @Override
+    public void start() {
+        if (handlers.isEmpty()) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("notification-listener")
+                .daemon()
+                .start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            try {
+                thread.join(POLL_TIMEOUT.multipliedBy(2));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /*
+     * Any connection but the first one made at the first attempt may have missed notifications: either an earlier
+     * connection failed or no connection could be opened for a while.
+     */
+    private void run() {
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = connectionFactory.connect()) {
+                listen(connection);
+                log.info("Listening to notifications: channels = {}", handlers.keySet());
+                if (reconnect) {
+                    forEachHandler(this::reconnect);
+                }
+                forEachHandler(this::connect);
+                reconnect = true;
+                poll(connection);
+            } catch (SQLException exception) {
+                reconnect = true;
+                if (running) {
+                    log.warn("Notification listener connection failed, reconnecting in {}: {}", reconnectDelay,
+                            exception.getMessage());
+                    sleep(reconnectDelay);
+                }
+            }
+        }
+    }
+
+    private static Connection openConnection(final Environment environment) throws SQLException {
+        final Properties properties = new Properties();
+        putPropertyIfNotNull(properties, environment, "user", "jdbc.username");
+        putPropertyIfNotNull(properties, environment, "password", "jdbc.password");
+        properties.setProperty("ApplicationName", "notification-listener");
+        properties.setProperty("tcpKeepAlive", "true");
+        final Connection connection = DriverManager.getConnection(environment.getRequiredProperty("jdbc.url"),
+                properties);
+        connection.setAutoCommit(true);
+        return connection;
+    }
+
+    private void listen(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String channel : handlers.keySet()) {
+                statement.execute("LISTEN \"" + channel.replace("\"", "\"\"") + "\"");
+            }
+        }
+    }
+
+    /*
+     * Waiting for notifications does not detect a connection silently dropped by the network, so the connection
+     * is validated when there were no notifications for a while.
+     */
+    private void poll(final Connection connection) throws SQLException {
+        final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long validateAt = System.nanoTime() + VALIDATION_INTERVAL.toNanos();
+        while (running) {
+            final PGNotification[] notifications = pgConnection.getNotifications((int) POLL_TIMEOUT.toMillis());
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    dispatch(notification);
+                }
+                validateAt = System.nanoTime() + VALIDATION_INTERVAL.toNanos();
+            } else if (System.nanoTime() - validateAt > 0) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Connection is not valid");
+                }
+                validateAt = System.nanoTime() + VALIDATION_INTERVAL.toNanos();
+            }
+        }
+    }
+
+    private void dispatch(final PGNotification notification) {
+        for (NotificationHandler handler : handlers.getOrDefault(notification.getName(), List.of())) {
+            try {
+                handler.onNotification(notification.getParameter());
+            } catch (RuntimeException exception) {
+                log.error("Cannot handle notification: channel = {}", notification.getName(), exception);
+            }
+        }
+    }
+
+    private void forEachHandler(final Consumer<NotificationHandler> action) {
+        handlers.values().forEach(channelHandlers -> channelHandlers.forEach(action));
+    }
+
+    private void connect(final NotificationHandler handler) {
+        try {
+            handler.onConnect();
+        } catch (RuntimeException exception) {
+            log.error("Cannot handle connect: channel = {}", handler.getChannel(), exception);
+        }
+    }
+
+    private void reconnect(final NotificationHandler handler) {
+        try {
+            handler.onReconnect();
+        } catch (RuntimeException exception) {
+            log.error("Cannot handle reconnect: channel = {}", handler.getChannel(), exception);
+        }
+    }
+
+    private static void putPropertyIfNotNull(final Properties properties, final Environment environment,
+            final String name, final String propertyName) {
+        final String propertyValue = environment.getProperty(propertyName);
+        if (propertyValue != null) {
+            properties.setProperty(name, propertyValue);
+        }
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    interface ConnectionFactory {
+
+        Connection connect() throws SQLException;
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.akuniutka.common.notify;
+
+import lombok.NonNull;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+public class NotificationPublisher {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationPublisher(final DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Sends a notification to all nodes listening on the channel. Within a transaction the notification is
+     * delivered when the transaction commits, and not delivered at all if it rolls back.
+     *
+     * @param channel the channel
+     * @param payload the payload, less than 8000 bytes
+     */
+    public void publish(@NonNull final String channel, @NonNull final String payload) {
+        jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) statement -> {
+            statement.setString(1, channel);
+            statement.setString(2, payload);
+            return statement.execute();
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.akuniutka.common.startup;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * Tells whether the application is ready to serve requests. Tomcat accepts connections before persistence has been
+ * initialized and the application has been warmed up, and requests are refused until the application is marked
+ * ready. Only warm-up requests, which carry a token generated at startup, are let in earlier.
+ */
+@Component
+public class ApplicationReadiness {
+
+    private static final int WARM_UP_TOKEN_BYTES = 16;
+
+    private final byte[] warmUpToken;
+    private volatile boolean ready;
+
+    public ApplicationReadiness() {
+        final byte[] bytes = new byte[WARM_UP_TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        warmUpToken = HexFormat.of().formatHex(bytes).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public String getWarmUpToken() {
+        return new String(warmUpToken, StandardCharsets.US_ASCII);
+    }
+
+    // Compared in constant time, so that the token cannot be guessed by timing responses
+    public boolean isWarmUpToken(final String token) {
+        return token != null && MessageDigest.isEqual(warmUpToken, token.getBytes(StandardCharsets.US_ASCII));
+    }
+}
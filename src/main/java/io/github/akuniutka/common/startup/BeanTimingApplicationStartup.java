@@ -0,0 +1,116 @@
+package io.github.akuniutka.common.startup;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Records how long the application context took to create each bean, so that beans slowing startup down can be
+ * logged. The time of a bean includes the time of beans it depends on and which were created for it. Steps other
+ * than bean instantiation are not recorded.
+ */
+public class BeanTimingApplicationStartup implements ApplicationStartup {
+
+    private static final String BEAN_INSTANTIATION = "spring.beans.instantiate";
+    private static final String BEAN_NAME = "beanName";
+
+    private final AtomicLong ids = new AtomicLong();
+    private final ConcurrentMap<String, Long> beanNanos = new ConcurrentHashMap<>();
+
+    @Override
+    public StartupStep start(final String name) {
+        if (!BEAN_INSTANTIATION.equals(name)) {
+            return ApplicationStartup.DEFAULT.start(name);
+        }
+        return new BeanInstantiationStep(ids.incrementAndGet(), System.nanoTime());
+    }
+
+    /**
+     * @return beans which took longest to create, the slowest first
+     */
+    public Map<String, Duration> getSlowestBeans(final int limit) {
+        final Map<String, Duration> slowest = new LinkedHashMap<>();
+        beanNanos.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .forEach(entry -> slowest.put(entry.getKey(), Duration.ofNanos(entry.getValue())));
+        return slowest;
+    }
+
+    private final class BeanInstantiationStep implements StartupStep {
+
+        private final long id;
+        private final long startNanos;
+        private final List<Tag> tags = new ArrayList<>();
+        private String beanName;
+
+        private BeanInstantiationStep(final long id, final long startNanos) {
+            this.id = id;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public String getName() {
+            return BEAN_INSTANTIATION;
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getParentId() {
+            return null;
+        }
+
+        @Override
+        public StartupStep tag(final String key, final String value) {
+            if (BEAN_NAME.equals(key)) {
+                beanName = value;
+            }
+            tags.add(new SimpleTag(key, value));
+            return this;
+        }
+
+        @Override
+        public StartupStep tag(final String key, final Supplier<String> value) {
+            return tag(key, value.get());
+        }
+
+        @Override
+        public Tags getTags() {
+            return tags::iterator;
+        }
+
+        @Override
+        public void end() {
+            if (beanName != null) {
+                beanNanos.merge(beanName, System.nanoTime() - startNanos, Long::sum);
+            }
+        }
+    }
+
+    private record SimpleTag(String key, String value) implements StartupStep.Tag {
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+}
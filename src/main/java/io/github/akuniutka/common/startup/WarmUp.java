@@ -0,0 +1,243 @@
+package io.github.akuniutka.common.startup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import io.github.akuniutka.common.web.ReadinessFilter;
+import io.github.akuniutka.common.web.RequestIdFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Sends synthetic traffic to the application over the loopback interface before it is marked ready, so that the JIT
+ * compiler has compiled the request path by the time real clients arrive. Requests go through the whole stack:
+ * Tomcat, filters, {@code DispatcherServlet}, validation, Jackson and the database.
+ * <p>
+ * The traffic is read-only. Users are listed in each of the formats supported and then requested by the ids listed;
+ * writes are only sent with bodies failing validation, so they are rejected before reaching a service. Several
+ * threads repeat the scenario until either the number of iterations is reached or the time budget runs out.
+ * Responses with a 4xx status are expected, 5xx ones are counted as failures; warm-up stops at the first error
+ * of the connection itself.
+ * <p>
+ * By default the scenario is repeated just enough times for the code run on every request (Tomcat, filters,
+ * {@code DispatcherServlet}, Jackson) to be invoked {@code Tier4CompileThreshold} times, the point at which C2
+ * compiles it, see {@link #defaultIterations()}. More iterations gain little and add load on the database, which is
+ * shared by all the nodes starting up. Lines logged for warm-up requests are marked by {@link ReadinessFilter} once
+ * the token is checked and are sampled in {@code logback.xml}, so that they do not fill the log buffer.
+ */
+@Slf4j
+public class WarmUp {
+
+    public static final String REQUEST_ID = "warm-up";
+    static final int PAGE_SIZE = 20;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    private static final List<String> MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON_VALUE,
+            "application/x-jackson-smile", "application/cbor");
+    // Lists in each format, two requests per user listed, multi-get, search and two writes
+    static final int REQUESTS_PER_ITERATION = MEDIA_TYPES.size() + 2 * PAGE_SIZE + 4;
+    static final long DEFAULT_COMPILE_THRESHOLD = 15_000L;
+    private static final String SEARCH_TEXT = "john";
+    private static final String INVALID_USER = """
+            {"firstName":"","lastName":"","email":"not an email"}""";
+    private static final String INVALID_PATCH = """
+            {"email":"not an email"}""";
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final String token;
+    private final ObjectMapper objectMapper;
+    private final UUID unknownId = UUID.randomUUID();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile boolean aborted;
+    private long deadline;
+
+    public WarmUp(final URI baseUri, final String token, final ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        this.baseUri = baseUri;
+        this.token = token;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the number of iterations after which the code run on every request has been invoked as many times as
+     * the C2 compiler requires, as set by {@code -XX:Tier4CompileThreshold} ({@value #DEFAULT_COMPILE_THRESHOLD} by
+     * default).
+     */
+    public static int defaultIterations() {
+        return (int) Math.ceilDiv(compileThreshold(), REQUESTS_PER_ITERATION);
+    }
+
+    static long compileThreshold() {
+        try {
+            return Long.parseLong(ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class)
+                    .getVMOption("Tier4CompileThreshold").getValue());
+        } catch (RuntimeException exception) {
+            // Not a HotSpot VM
+            return DEFAULT_COMPILE_THRESHOLD;
+        }
+    }
+
+    /**
+     * Repeats the scenario and returns when it is done or the budget runs out. Requests in flight at that moment are
+     * completed, so the method may return slightly later than the budget.
+     */
+    public Result run(final int iterations, final int threads, final Duration budget) {
+        final long startNanos = System.nanoTime();
+        deadline = startNanos + budget.toNanos();
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger completed = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("warm-up-", 0).factory())) {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    while (!isOver() && started.getAndIncrement() < iterations) {
+                        if (iterate()) {
+                            completed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        final Result result = new Result(completed.get(), requests.sum(), failures.sum(),
+                completed.get() >= iterations);
+        final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (result.finished()) {
+            log.info("Warm-up finished in {} ms: iterations = {}, requests = {}, failures = {}", millis,
+                    result.iterations(), result.requests(), result.failures());
+        } else {
+            log.warn("Warm-up stopped after {} ms: iterations = {} of {}, requests = {}, failures = {}", millis,
+                    result.iterations(), iterations, result.requests(), result.failures());
+        }
+        return result;
+    }
+
+    /*
+     * Returns false if the iteration was cut short.
+     */
+    private boolean iterate() {
+        List<UUID> ids = List.of();
+        for (String mediaType : MEDIA_TYPES) {
+            final byte[] body = get("/users?limit=" + PAGE_SIZE, mediaType);
+            if (body == null) {
+                return false;
+            }
+            if (MediaType.APPLICATION_JSON_VALUE.equals(mediaType)) {
+                ids = parseIds(body);
+            }
+        }
+        if (ids.isEmpty()) {
+            ids = List.of(unknownId);
+        }
+        for (UUID id : ids) {
+            if (get("/users/" + id, MediaType.APPLICATION_JSON_VALUE) == null
+                    || get("/users/" + id + "?fields=id,email", MediaType.APPLICATION_JSON_VALUE) == null) {
+                return false;
+            }
+        }
+        final String idList = ids.stream().map(UUID::toString).collect(Collectors.joining(","));
+        return get("/users?ids=" + idList, MediaType.APPLICATION_JSON_VALUE) != null
+                && get("/users/search?q=" + SEARCH_TEXT, MediaType.APPLICATION_JSON_VALUE) != null
+                && send("/users", "POST", INVALID_USER) != null
+                && send("/users/" + unknownId, "PATCH", INVALID_PATCH) != null;
+    }
+
+    private byte[] get(final String path, final String mediaType) {
+        return exchange(request(path)
+                .header(HttpHeaders.ACCEPT, mediaType)
+                .GET()
+                .build());
+    }
+
+    private byte[] send(final String path, final String method, final String body) {
+        return exchange(request(path)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private HttpRequest.Builder request(final String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header(ReadinessFilter.WARM_UP_HEADER, token)
+                .header(RequestIdFilter.HEADER, REQUEST_ID);
+    }
+
+    /*
+     * Returns null if warm-up is over and the request was not sent or if it failed to be sent.
+     */
+    private byte[] exchange(final HttpRequest request) {
+        if (isOver()) {
+            return null;
+        }
+        try {
+            final HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            requests.increment();
+            if (response.statusCode() >= 500) {
+                failures.increment();
+            }
+            return response.body();
+        } catch (IOException exception) {
+            abort(exception);
+            return null;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            aborted = true;
+            return null;
+        }
+    }
+
+    private List<UUID> parseIds(final byte[] body) {
+        final List<UUID> ids = new ArrayList<>();
+        try {
+            for (JsonNode user : objectMapper.readTree(body)) {
+                ids.add(UUID.fromString(user.path("id").asText()));
+            }
+        } catch (IOException | IllegalArgumentException exception) {
+            // Users are not listed, e.g. because the response is an error: unknown ids are requested instead
+            return List.of();
+        }
+        return ids;
+    }
+
+    private synchronized void abort(final IOException exception) {
+        if (!aborted) {
+            aborted = true;
+            log.warn("Cannot send warm-up request, warm-up is stopped", exception);
+        }
+    }
+
+    private boolean isOver() {
+        return aborted || System.nanoTime() - deadline >= 0L;
+    }
+
+    /**
+     * Outcome of a warm-up: iterations completed, requests sent, responses with a 5xx status and whether all the
+     * iterations were completed within the budget.
+     */
+    public record Result(int iterations, long requests, long failures, boolean finished) {
+
+    }
+}
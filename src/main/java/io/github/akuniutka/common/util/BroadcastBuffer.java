@@ -0,0 +1,157 @@
+package io.github.akuniutka.common.util;
+
+import lombok.NonNull;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free ring buffer which delivers every item published to every subscriber.
+ * <p>
+ * Items are published by a single writer, which never waits for subscribers: it puts an item into the next slot
+ * and schedules delivery. Each subscriber reads the buffer at its own pace on the executor, one delivery task
+ * at a time, so a slow subscriber delays only itself. A subscriber which falls behind by the whole buffer would
+ * miss items overwritten, so it is evicted instead.
+ *
+ * @param <T> the type of items
+ */
+public class BroadcastBuffer<T> {
+
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final int mask;
+    private final Executor executor;
+    private final AtomicLong published = new AtomicLong(-1L);
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity the number of items kept for subscribers, a power of two
+     * @param executor the executor to deliver items to subscribers on
+     */
+    public BroadcastBuffer(final int capacity, @NonNull final Executor executor) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.executor = executor;
+    }
+
+    /**
+     * Publishes an item to all current subscribers. Must not be called concurrently.
+     *
+     * @param item the item to publish
+     */
+    public void publish(@NonNull final T item) {
+        final long sequence = published.get() + 1;
+        slots.set((int) sequence & mask, new Slot<>(sequence, item));
+        published.set(sequence);
+        subscriptions.forEach(Subscription::signal);
+    }
+
+    /**
+     * Subscribes to items published from now on.
+     *
+     * @param subscriber the subscriber
+     * @return the subscription, which the subscriber cancels when it no longer needs items
+     */
+    public Subscription subscribe(@NonNull final Subscriber<? super T> subscriber) {
+        final Subscription subscription = new Subscription(subscriber, published.get() + 1);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Evicts all subscribers, e.g. when items were lost before publishing and subscribers have to resynchronize.
+     */
+    public void evictAll() {
+        subscriptions.forEach(Subscription::evict);
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    public interface Subscriber<T> {
+
+        /**
+         * Receives the next item. Items are passed to a subscriber one at a time and in the order published.
+         *
+         * @param item the item
+         * @throws Exception if the item cannot be handled; the subscription is cancelled then
+         */
+        void onItem(T item) throws Exception;
+
+        /**
+         * Called once when the subscriber is evicted. No items are passed after this call.
+         */
+        void onEvicted();
+    }
+
+    private record Slot<T>(long sequence, T item) {
+
+    }
+
+    public final class Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        /*
+         * Read and written only by delivery tasks, which never run concurrently and see each other's writes
+         * through the scheduled flag.
+         */
+        private long next;
+
+        private Subscription(final Subscriber<? super T> subscriber, final long next) {
+            this.subscriber = subscriber;
+            this.next = next;
+        }
+
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                subscriptions.remove(this);
+            }
+        }
+
+        private void evict() {
+            if (cancelled.compareAndSet(false, true)) {
+                subscriptions.remove(this);
+                subscriber.onEvicted();
+            }
+        }
+
+        private void signal() {
+            if (!cancelled.get() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this::deliver);
+            }
+        }
+
+        private void deliver() {
+            do {
+                final long last = published.get();
+                while (next <= last && !cancelled.get()) {
+                    final Slot<T> slot = slots.get((int) next & mask);
+                    if (slot.sequence() != next) {
+                        evict();
+                        return;
+                    }
+                    try {
+                        subscriber.onItem(slot.item());
+                    } catch (Exception exception) {
+                        cancel();
+                        return;
+                    }
+                    next++;
+                }
+                scheduled.set(false);
+            } while (next <= published.get() && !cancelled.get() && scheduled.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.akuniutka.common.util;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits how many messages of a kind are logged per period. Messages over the limit are counted instead, and the
+ * count is reported with the next message logged, so nothing goes unnoticed while a flood of routine messages
+ * does not flood the log.
+ * <p>
+ * The throttle takes no locks. A message or two over the limit may slip through when a period starts on several
+ * threads at once, which is acceptable for logging.
+ */
+public class LogThrottle {
+
+    private final int limit;
+    private final long periodNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicLong periodStart;
+    private final AtomicInteger logged = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    /**
+     * Creates a throttle.
+     *
+     * @param limit  the number of messages logged per period
+     * @param period the period
+     */
+    public LogThrottle(final int limit, @NonNull final Duration period) {
+        this(limit, period, System::nanoTime);
+    }
+
+    LogThrottle(final int limit, final Duration period, final LongSupplier nanoTime) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        this.limit = limit;
+        this.periodNanos = period.toNanos();
+        this.nanoTime = nanoTime;
+        this.periodStart = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    /**
+     * Takes a permit to log a message.
+     *
+     * @return {@code -1} if the message must not be logged, otherwise the number of messages suppressed since
+     *         the previous message logged
+     */
+    public long tryAcquire() {
+        final long now = nanoTime.getAsLong();
+        final long start = periodStart.get();
+        if (now - start >= periodNanos && periodStart.compareAndSet(start, now)) {
+            logged.set(0);
+        }
+        if (logged.incrementAndGet() > limit) {
+            suppressed.incrementAndGet();
+            return -1L;
+        }
+        return suppressed.getAndSet(0L);
+    }
+}
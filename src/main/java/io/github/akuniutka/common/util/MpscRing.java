@@ -0,0 +1,137 @@
+package io.github.akuniutka.common.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The slots of a bounded lock-free queue with many producers and a single consumer. The ring only hands out slot
+ * indexes; items are kept by the owner in arrays of the ring's capacity, e.g. one array per field, so that putting
+ * an item allocates nothing.
+ * <p>
+ * Each slot carries the sequence number of the position it is ready for, so producers claim positions with a CAS
+ * on the tail and never wait for one another or for the consumer. A producer writes the item into the slot claimed
+ * and publishes it; the volatile write of the sequence makes the item visible to the consumer, so item arrays need
+ * not be atomic. A consumer with nothing to read parks until a producer publishes or for {@link #IDLE_PARK_NANOS}
+ * at most.
+ * <pre>
+ * final int index = ring.claim();
+ * if (index &gt;= 0) {
+ *     items[index] = item;
+ *     ring.publish(index);
+ * }
+ * </pre>
+ */
+public class MpscRing {
+
+    public static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private volatile boolean sleeping;
+    private volatile Thread consumer;
+
+    /**
+     * Creates an empty ring.
+     *
+     * @param capacity the number of slots, a power of two
+     */
+    public MpscRing(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of slots claimed and not yet released, which may be out of date by the time it returns.
+     */
+    public int size() {
+        return (int) (tail.get() - head);
+    }
+
+    /**
+     * Claims the next slot for a producer.
+     *
+     * @return the index of the slot, or {@code -1} if the ring is full
+     */
+    public int claim() {
+        long position = tail.get();
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+            if (difference == 0L) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return index;
+                }
+                position = tail.get();
+            } else if (difference < 0L) {
+                return -1;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Makes the item written into the slot claimed visible to the consumer and wakes the consumer up if it is parked.
+     *
+     * @param index the index returned by {@link #claim()}
+     */
+    public void publish(final int index) {
+        // Only the producer which claimed the slot writes its sequence until it is published
+        sequences.set(index, sequences.get(index) + 1);
+        if (sleeping) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Returns the slot at the head of the ring if it has been published. To be called by the consumer only.
+     *
+     * @return the index of the slot, or {@code -1} if the ring is empty or the head slot is not published yet
+     */
+    public int peek() {
+        final long position = head;
+        final int index = (int) position & mask;
+        return sequences.get(index) == position + 1 ? index : -1;
+    }
+
+    /**
+     * Returns the slot at the head of the ring to producers once the consumer has read it. To be called by
+     * the consumer only, with the index returned by {@link #peek()}.
+     *
+     * @param index the index of the slot
+     */
+    public void release(final int index) {
+        final long position = head;
+        sequences.set(index, position + capacity);
+        head = position + 1;
+    }
+
+    /**
+     * Parks the consumer if no slot has been claimed, until a producer publishes, the consumer is unparked or
+     * {@link #IDLE_PARK_NANOS} elapse. To be called by the consumer only.
+     */
+    public void await() {
+        consumer = Thread.currentThread();
+        sleeping = true;
+        if (head == tail.get()) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        sleeping = false;
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.akuniutka.common.util;
+
+import lombok.NonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller executes the call, callers arriving while it is
+ * in flight wait for it and get the same result or exception.
+ * <p>
+ * Calls in flight are registered in a striped {@link ConcurrentHashMap}: a fixed number of maps, so that callers for
+ * unrelated keys rarely touch the same map. The registry is not lock-free. {@code putIfAbsent()} claims an empty
+ * hash bin with a compare-and-set, but synchronizes on the first node of a bin already taken. That lock is held only
+ * while the bin is updated and never while a call executes, so callers contend for it just for the few instructions
+ * of the update, and a virtual thread holding it is never blocked on I/O. A call is unregistered as soon as it
+ * completes: results are not cached.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of results
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>>[] stripes;
+    private final int mask;
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Creates a registry with no calls in flight.
+     *
+     * @param stripeCount the number of stripes, a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public SingleFlight(final int stripeCount) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a power of two: " + stripeCount);
+        }
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.mask = stripeCount - 1;
+    }
+
+    /**
+     * Executes the call or joins the call for the same key in flight. The call must not execute a call for the same
+     * key itself.
+     *
+     * @param key  the key
+     * @param call the call to execute
+     * @return the result of the call
+     */
+    public V execute(@NonNull final K key, @NonNull final Supplier<V> call) {
+        final ConcurrentHashMap<K, CompletableFuture<V>> stripe = stripeFor(key);
+        final CompletableFuture<V> flight = new CompletableFuture<>();
+        final CompletableFuture<V> inFlight = stripe.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            coalesced.increment();
+            return join(inFlight);
+        }
+        executed.increment();
+        try {
+            final V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error exception) {
+            flight.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            stripe.remove(key, flight);
+        }
+    }
+
+    /**
+     * Returns the number of calls executed.
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Returns the number of calls which joined a call in flight instead of executing.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public int getInFlightCount() {
+        int count = 0;
+        for (ConcurrentHashMap<K, CompletableFuture<V>> stripe : stripes) {
+            count += stripe.size();
+        }
+        return count;
+    }
+
+    private ConcurrentHashMap<K, CompletableFuture<V>> stripeFor(final K key) {
+        final int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static <V> V join(final CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+}
@@ -1,126 +1,199 @@
 package io.github.akuniutka.common.util;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggerContextListener;
 import org.apache.juli.logging.Log;
+import org.slf4j.ILoggerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * A SLF4J facade which provides Tomcat with JULI interface for logging. Inspired by aventurin's
  * <a href="https://stackoverflow.com/a/49266815">post</a> at Stackoverflow.
+ * <p>
+ * Tomcat checks levels on every request, so the level of each logger is cached and refreshed only when Logback
+ * reports a level change or a reconfiguration. Messages are passed to SLF4J as is and turned into strings only for
+ * events which are actually logged. Turbo filters are not consulted by the level checks, only by the calls logging.
  *
  * @author Andrei Kuniutka
- * @version 1.0
+ * @version 1.1
  */
 public class Slf4jLoggerFacadeForTomcat implements Log {
 
+    private static final int TRACE = 0;
+    private static final int DEBUG = 1;
+    private static final int INFO = 2;
+    private static final int WARN = 3;
+    private static final int ERROR = 4;
+    private static final int OFF = 5;
+
+    /*
+     * Tomcat creates a facade per logger name and sometimes more than one, so cached levels are shared by name.
+     */
+    private static final ConcurrentMap<String, CachedLevel> LEVELS = new ConcurrentHashMap<>();
+
+    static {
+        final ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (loggerFactory instanceof LoggerContext loggerContext) {
+            loggerContext.addListener(new LevelChangeListener());
+        }
+    }
+
     private final Logger logger;
+    private final CachedLevel level;
 
     // ServiceLoader, which will provide this facade to Tomcat, requires that class has a default constructor
     public Slf4jLoggerFacadeForTomcat() {
         logger = null;
+        level = new CachedLevel(null);
     }
 
     public Slf4jLoggerFacadeForTomcat(final String loggerName) {
         logger = LoggerFactory.getLogger(loggerName);
+        level = LEVELS.computeIfAbsent(logger.getName(), name -> new CachedLevel(logger));
     }
 
     @Override
     public boolean isDebugEnabled() {
-        return logger.isDebugEnabled();
+        return level.threshold <= DEBUG;
     }
 
     @Override
     public boolean isErrorEnabled() {
-        return logger.isErrorEnabled();
+        return level.threshold <= ERROR;
     }
 
     @Override
     public boolean isFatalEnabled() {
-        return logger.isErrorEnabled();
+        return level.threshold <= ERROR;
     }
 
     @Override
     public boolean isInfoEnabled() {
-        return logger.isInfoEnabled();
+        return level.threshold <= INFO;
     }
 
     @Override
     public boolean isTraceEnabled() {
-        return logger.isTraceEnabled();
+        return level.threshold <= TRACE;
     }
 
     @Override
     public boolean isWarnEnabled() {
-        return logger.isWarnEnabled();
+        return level.threshold <= WARN;
     }
 
     @Override
     public void trace(final Object message) {
-        if (logger != null && logger.isTraceEnabled()) {
-            logger.trace(String.valueOf(message));
+        if (level.threshold <= TRACE) {
+            if (message instanceof String string) {
+                logger.trace(string);
+            } else {
+                logger.trace("{}", message);
+            }
         }
     }
 
     @Override
     public void trace(final Object message, final Throwable throwable) {
-        if (logger != null && logger.isTraceEnabled()) {
-            logger.trace(String.valueOf(message), throwable);
+        if (level.threshold <= TRACE) {
+            if (message instanceof String string) {
+                logger.trace(string, throwable);
+            } else {
+                logger.trace("{}", message, throwable);
+            }
         }
     }
 
     @Override
     public void debug(final Object message) {
-        if (logger != null && logger.isDebugEnabled()) {
-            logger.debug(String.valueOf(message));
+        if (level.threshold <= DEBUG) {
+            if (message instanceof String string) {
+                logger.debug(string);
+            } else {
+                logger.debug("{}", message);
+            }
         }
     }
 
     @Override
     public void debug(final Object message, final Throwable throwable) {
-        if (logger != null && logger.isDebugEnabled()) {
-            logger.debug(String.valueOf(message), throwable);
+        if (level.threshold <= DEBUG) {
+            if (message instanceof String string) {
+                logger.debug(string, throwable);
+            } else {
+                logger.debug("{}", message, throwable);
+            }
         }
     }
 
     @Override
     public void info(final Object message) {
-        if (logger != null && logger.isInfoEnabled()) {
-            logger.info(String.valueOf(message));
+        if (level.threshold <= INFO) {
+            if (message instanceof String string) {
+                logger.info(string);
+            } else {
+                logger.info("{}", message);
+            }
         }
     }
 
     @Override
     public void info(final Object message, final Throwable throwable) {
-        if (logger != null && logger.isInfoEnabled()) {
-            logger.info(String.valueOf(message), throwable);
+        if (level.threshold <= INFO) {
+            if (message instanceof String string) {
+                logger.info(string, throwable);
+            } else {
+                logger.info("{}", message, throwable);
+            }
         }
     }
 
     @Override
     public void warn(final Object message) {
-        if (logger != null && logger.isWarnEnabled()) {
-            logger.warn(String.valueOf(message));
+        if (level.threshold <= WARN) {
+            if (message instanceof String string) {
+                logger.warn(string);
+            } else {
+                logger.warn("{}", message);
+            }
         }
     }
 
     @Override
     public void warn(final Object message, final Throwable throwable) {
-        if (logger != null && logger.isWarnEnabled()) {
-            logger.warn(String.valueOf(message), throwable);
+        if (level.threshold <= WARN) {
+            if (message instanceof String string) {
+                logger.warn(string, throwable);
+            } else {
+                logger.warn("{}", message, throwable);
+            }
         }
     }
 
     @Override
     public void error(final Object message) {
-        if (logger != null && logger.isErrorEnabled()) {
-            logger.error(String.valueOf(message));
+        if (level.threshold <= ERROR) {
+            if (message instanceof String string) {
+                logger.error(string);
+            } else {
+                logger.error("{}", message);
+            }
         }
     }
 
     @Override
     public void error(final Object message, final Throwable throwable) {
-        if (logger != null && logger.isErrorEnabled()) {
-            logger.error(String.valueOf(message), throwable);
+        if (level.threshold <= ERROR) {
+            if (message instanceof String string) {
+                logger.error(string, throwable);
+            } else {
+                logger.error("{}", message, throwable);
+            }
         }
     }
 
@@ -133,4 +206,69 @@ public class Slf4jLoggerFacadeForTomcat implements Log {
     public void fatal(final Object message, final Throwable throwable) {
         error(message, throwable);
     }
+
+    private static final class CachedLevel {
+
+        private final Logger logger;
+        private volatile int threshold;
+
+        private CachedLevel(final Logger logger) {
+            this.logger = logger;
+            refresh();
+        }
+
+        /*
+         * A level set for one logger affects the effective levels of its descendants, so all levels are refreshed on
+         * any change.
+         */
+        private void refresh() {
+            if (logger == null) {
+                threshold = OFF;
+            } else if (logger.isTraceEnabled()) {
+                threshold = TRACE;
+            } else if (logger.isDebugEnabled()) {
+                threshold = DEBUG;
+            } else if (logger.isInfoEnabled()) {
+                threshold = INFO;
+            } else if (logger.isWarnEnabled()) {
+                threshold = WARN;
+            } else if (logger.isErrorEnabled()) {
+                threshold = ERROR;
+            } else {
+                threshold = OFF;
+            }
+        }
+    }
+
+    private static final class LevelChangeListener implements LoggerContextListener {
+
+        @Override
+        public boolean isResetResistant() {
+            return true;
+        }
+
+        @Override
+        public void onStart(final LoggerContext context) {
+            refreshAll();
+        }
+
+        @Override
+        public void onReset(final LoggerContext context) {
+            refreshAll();
+        }
+
+        @Override
+        public void onStop(final LoggerContext context) {
+            // Levels are kept as they are
+        }
+
+        @Override
+        public void onLevelChange(final ch.qos.logback.classic.Logger logger, final Level level) {
+            refreshAll();
+        }
+
+        private static void refreshAll() {
+            LEVELS.values().forEach(CachedLevel::refresh);
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package io.github.akuniutka.common.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Responds with 403 Forbidden to requests for admin endpoints that do not carry the token set by {@code admin.token}.
+ * Admin endpoints are served on the same connector as the API, so they are disabled altogether while no token is
+ * set. The token is compared in constant time, so that it cannot be guessed by timing responses.
+ */
+public class AdminTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Admin-Token";
+
+    static final byte[] BODY = """
+            {"type":"about:blank","title":"Forbidden","status":403,"detail":"Admin token required"}"""
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] token;
+
+    public AdminTokenFilter(final String token) {
+        this.token = token == null || token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        final String header = request.getHeader(HEADER);
+        if (token != null && header != null
+                && MessageDigest.isEqual(token, header.getBytes(StandardCharsets.UTF_8))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(BODY.length);
+        response.getOutputStream().write(BODY);
+    }
+}
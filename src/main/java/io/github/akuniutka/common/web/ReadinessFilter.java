@@ -0,0 +1,70 @@
+package io.github.akuniutka.common.web;
+
+import io.github.akuniutka.common.startup.ApplicationReadiness;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Responds with 503 Service Unavailable to requests received before the application is ready, so that clients and
+ * load balancers retry rather than wait for the application to start up. Warm-up requests sent by the application
+ * itself are let through if they carry the token of {@link ApplicationReadiness}, and so are health probes, which
+ * report the state of the application themselves.
+ * <p>
+ * Requests carrying the warm-up token are marked with {@link #WARM_UP_MDC_KEY} in the MDC, so that their log lines
+ * can be sampled. Only this filter sets the key, so clients cannot have their own lines sampled.
+ */
+public class ReadinessFilter extends OncePerRequestFilter {
+
+    public static final String WARM_UP_HEADER = "X-Warm-Up-Token";
+    public static final String WARM_UP_MDC_KEY = "warmUp";
+
+    private static final String HEALTH_PATH = "/health/";
+
+    static final String RETRY_AFTER_SECONDS = "1";
+    static final byte[] BODY = """
+            {"type":"about:blank","title":"Service Unavailable","status":503,"detail":"Service is starting up"}"""
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private final ApplicationReadiness readiness;
+
+    public ReadinessFilter(final ApplicationReadiness readiness) {
+        this.readiness = readiness;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return request.getRequestURI().startsWith(HEALTH_PATH, request.getContextPath().length());
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        if (readiness.isWarmUpToken(request.getHeader(WARM_UP_HEADER))) {
+            MDC.put(WARM_UP_MDC_KEY, "true");
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                MDC.remove(WARM_UP_MDC_KEY);
+            }
+            return;
+        }
+        if (readiness.isReady()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(BODY.length);
+        response.getOutputStream().write(BODY);
+    }
+}
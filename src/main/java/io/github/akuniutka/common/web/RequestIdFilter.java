@@ -0,0 +1,51 @@
+package io.github.akuniutka.common.web;
+
+import io.github.akuniutka.common.startup.WarmUp;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Puts the id of a request into the MDC for the time the request is processed, so that every line logged for it
+ * carries the id, and returns the id in a response header. An id sent by the client (e.g. by a proxy in front) is
+ * kept if it looks sane and is not the id reserved for warm-up requests, otherwise a new one is generated.
+ */
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        final String requestId = resolveRequestId(request.getHeader(HEADER));
+        response.setHeader(HEADER, requestId);
+        MDC.put(MDC_KEY, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    /*
+     * Request ids need to be unique, not unpredictable, so they are generated without SecureRandom.
+     */
+    private static String resolveRequestId(final String header) {
+        if (header != null && VALID_ID.matcher(header).matches() && !WarmUp.REQUEST_ID.equals(header)) {
+            return header;
+        }
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}
@@ -3,7 +3,9 @@ package io.github.akuniutka.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableMBeanExport;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.jmx.support.RegistrationPolicy;
 
 import java.time.Clock;
 import java.time.Duration;
@@ -11,6 +13,7 @@ import java.time.Duration;
 @Configuration
 @PropertySource("classpath:application.properties")
 @ComponentScan(basePackages = "io.github.akuniutka")
+@EnableMBeanExport(registration = RegistrationPolicy.REPLACE_EXISTING)
 public class ApplicationConfig {
 
     @Bean
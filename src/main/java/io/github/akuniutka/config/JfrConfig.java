@@ -0,0 +1,53 @@
+package io.github.akuniutka.config;
+
+import io.github.akuniutka.common.jfr.MethodEventInterceptor;
+import io.github.akuniutka.user.mapper.UserMapper;
+import io.github.akuniutka.user.repository.UserRepository;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Records JFR events around calls of the user repository and the user mapper. Controller handlers are covered by
+ * the interceptor {@link WebConfig} registers, serialization of user DTOs by their converter.
+ */
+@Configuration
+public class JfrConfig {
+
+    /*
+     * Static, so that the post-processor is created before other beans without initializing this configuration.
+     */
+    @Bean
+    public static BeanPostProcessor jfrEventPostProcessor() {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+                /*
+                 * The advice goes into the repository proxy Spring Data creates rather than into a proxy of the
+                 * proxy, so that the repository keeps all interfaces it implements.
+                 */
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean
+                        && UserRepository.class.equals(factoryBean.getObjectType())) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    MethodEventInterceptor.forRepository())));
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof UserMapper) {
+                    final ProxyFactory proxyFactory = new ProxyFactory(bean);
+                    proxyFactory.setProxyTargetClass(true);
+                    proxyFactory.addAdvice(MethodEventInterceptor.forMapper());
+                    return proxyFactory.getProxy(bean.getClass().getClassLoader());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,59 +1,84 @@
 package io.github.akuniutka.config;
 
-import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.github.akuniutka.common.accesslog.DbTimeSessionEventListener;
+import io.github.akuniutka.common.entity.BaseHibernateEntity;
+import io.github.akuniutka.common.migration.MigrationEngine;
+import io.github.akuniutka.user.entity.User;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.data.repository.config.BootstrapMode;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.util.StringUtils;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Properties;
 import java.util.function.Consumer;
 
 @Configuration
 @EnableTransactionManagement
-@EnableJpaRepositories(basePackages = "io.github.akuniutka")
+@EnableJpaRepositories(basePackages = "io.github.akuniutka", bootstrapMode = BootstrapMode.LAZY)
 @RequiredArgsConstructor
-@Slf4j
 public class PersistenceConfig {
 
-    private static final String DATABASE_SCHEMA_PATH = "schema.sql";
-    private static final String DATABASE_DATA_PATH = "data.sql";
+    private static final String MIGRATION_LOCATIONS = "db/migration";
+    private static final String TRAINING_RUN_PROPERTY = "startup.training-run";
 
     private final Environment environment;
 
+    /*
+     * The pool is started by the first connection requested, i.e. by persistence bootstrap rather than at bean
+     * creation.
+     */
     @Bean
-    public DataSource dataSource() throws SQLException {
-        final HikariConfig config = new HikariConfig();
-        putPropertyIfNotNull("jdbc.driverClassName", config::setDriverClassName);
-        putPropertyIfNotNull("jdbc.url", config::setJdbcUrl);
-        putPropertyIfNotNull("jdbc.username", config::setUsername);
-        putPropertyIfNotNull("jdbc.password", config::setPassword);
-        final DataSource dataSource = new HikariDataSource(config);
-        runInitScriptIfRequired(dataSource);
+    public DataSource dataSource() {
+        final HikariDataSource dataSource = new HikariDataSource();
+        putPropertyIfNotNull("jdbc.driverClassName", dataSource::setDriverClassName);
+        putPropertyIfNotNull("jdbc.url", dataSource::setJdbcUrl);
+        putPropertyIfNotNull("jdbc.username", dataSource::setUsername);
+        putPropertyIfNotNull("jdbc.password", dataSource::setPassword);
         return dataSource;
     }
 
+    /*
+     * Entity classes are listed explicitly rather than scanned for at startup. A new entity has to be added here,
+     * which PersistenceConfigTest reminds of.
+     */
     @Bean
-    public LocalContainerEntityManagerFactoryBean entityManagerFactory(final DataSource dataSource) {
+    public PersistenceManagedTypes persistenceManagedTypes() {
+        return PersistenceManagedTypes.of(
+                BaseHibernateEntity.class.getName(),
+                User.class.getName());
+    }
+
+    /*
+     * The database is initialized and Hibernate builds its metamodel on a thread of its own while the rest of the
+     * application starts up. Until then, the EntityManagerFactory is a proxy which blocks callers, and repositories
+     * are not created until first used (see bootstrapMode above).
+     */
+    @Bean
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(final DataSource dataSource,
+            final PersistenceManagedTypes persistenceManagedTypes) {
         final HibernateJpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
-        final LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        final LocalContainerEntityManagerFactoryBean factory = new DatabaseInitializingEntityManagerFactoryBean();
         factory.setDataSource(dataSource);
         factory.setJpaVendorAdapter(vendorAdapter);
-        factory.setPackagesToScan("io.github.akuniutka");
+        factory.setManagedTypes(persistenceManagedTypes);
         factory.setJpaProperties(hibernateProperties());
+        factory.setBootstrapExecutor(new SimpleAsyncTaskExecutor("persistence-bootstrap-"));
         return factory;
     }
 
@@ -68,27 +93,40 @@ public class PersistenceConfig {
         final Properties properties = new Properties();
         properties.put("hibernate.jdbc.time_zone", environment.getRequiredProperty("hibernate.jdbc.time_zone"));
         properties.put("hibernate.show_sql", environment.getProperty("hibernate.show_sql", "false"));
+        // Time spent in the database by each request goes to the access log
+        properties.put("hibernate.session.events.auto", DbTimeSessionEventListener.class.getName());
+        if (isTrainingRun()) {
+            // Otherwise Hibernate connects to the database at startup to detect its version
+            properties.put("hibernate.boot.allow_jdbc_metadata_access", "false");
+            properties.put("jakarta.persistence.database-product-name", "PostgreSQL");
+        }
         return properties;
     }
 
-    private void runInitScriptIfRequired(final DataSource dataSource) throws SQLException {
-        final String propertyValue = environment.getProperty("jdbc.run-init-script");
-        if (propertyValue == null || !propertyValue.equalsIgnoreCase("true")) {
-            return;
-        }
-        final Connection connection = dataSource.getConnection();
-        ClassPathResource script = new ClassPathResource(DATABASE_SCHEMA_PATH);
-        if (!script.exists()) {
+    /*
+     * A training run starts the application without a database and stops it, so that classes loaded at startup can
+     * be archived for class data sharing (see Dockerfile).
+     */
+    private boolean isTrainingRun() {
+        return environment.getProperty(TRAINING_RUN_PROPERTY, Boolean.class, false);
+    }
+
+    /*
+     * Connecting here makes startup fail when the database is not available: Hibernate would fall back to defaults
+     * instead. Migrations are applied before Hibernate is bootstrapped, so that it starts with the current schema.
+     */
+    private void initializeDatabase(final DataSource dataSource) {
+        if (isTrainingRun() || !environment.getProperty("migration.enabled", Boolean.class, true)) {
             return;
         }
-        ScriptUtils.executeSqlScript(connection, script);
-        log.info("Database schema initialized");
-        script = new ClassPathResource(DATABASE_DATA_PATH);
-        if (!script.exists()) {
-            return;
+        final String locations = environment.getProperty("migration.locations", MIGRATION_LOCATIONS);
+        final MigrationEngine migrationEngine = new MigrationEngine(
+                List.of(StringUtils.tokenizeToStringArray(locations, ",")));
+        try (Connection connection = dataSource.getConnection()) {
+            migrationEngine.migrate(connection);
+        } catch (SQLException | DataAccessException exception) {
+            throw new IllegalStateException("Cannot initialize database", exception);
         }
-        ScriptUtils.executeSqlScript(connection, script);
-        log.info("Database populated with initial data");
     }
 
     private void putPropertyIfNotNull(final String propertyName, final Consumer<String> consumer) {
@@ -97,4 +135,17 @@ public class PersistenceConfig {
             consumer.accept(propertyValue);
         }
     }
+
+    /*
+     * Initializes the database on the bootstrap thread right before Hibernate, so that a failure is reported as
+     * a failure to create the EntityManagerFactory.
+     */
+    private final class DatabaseInitializingEntityManagerFactoryBean extends LocalContainerEntityManagerFactoryBean {
+
+        @Override
+        protected EntityManagerFactory createNativeEntityManagerFactory() {
+            initializeDatabase(getDataSource());
+            return super.createNativeEntityManagerFactory();
+        }
+    }
 }
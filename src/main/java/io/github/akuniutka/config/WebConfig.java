@@ -1,10 +1,130 @@
 package io.github.akuniutka.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.github.akuniutka.common.controller.InstrumentedJsonHttpMessageConverter;
+import io.github.akuniutka.common.controller.ProblemDetailHttpMessageConverter;
+import io.github.akuniutka.common.jfr.RequestEventInterceptor;
+import io.github.akuniutka.user.controller.UserDtoHttpMessageConverter;
+import io.github.akuniutka.user.dto.UserDto;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
 
 @Configuration
 @EnableWebMvc
-public class WebConfig {
+public class WebConfig implements WebMvcConfigurer {
+
+    /*
+     * Serializers for these types are resolved when the mapper is created rather than on the first request.
+     */
+    private static final List<Class<?>> EAGER_SERIALIZED_TYPES = List.of(UserDto.class);
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        /*
+         * Recycle generator buffers through a shared concurrent pool instead of the default thread-local one:
+         * the latter does not help when requests are served by short-lived (e.g. virtual) threads.
+         */
+        final JsonFactory jsonFactory = JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.newConcurrentDequePool())
+                .build();
+        return configure(Jackson2ObjectMapperBuilder.json().factory(jsonFactory));
+    }
+
+    /*
+     * Replace converters @EnableWebMvc creates with implicitly built mappers by ones using tuned mappers. Keep their
+     * positions, so that content negotiation is not affected: JSON converter goes first and remains the default for
+     * clients which accept any media type, binary formats are used only when requested explicitly. The hand-written
+     * converters for user DTOs and problem details go right before the JSON converter to take precedence over it.
+     */
+    @Override
+    public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+        final MappingJackson2HttpMessageConverter jsonConverter = new InstrumentedJsonHttpMessageConverter(
+                objectMapper());
+        replaceOrAdd(converters, MappingJackson2HttpMessageConverter.class, jsonConverter);
+        replaceOrAdd(converters, MappingJackson2SmileHttpMessageConverter.class,
+                new MappingJackson2SmileHttpMessageConverter(smileObjectMapper()));
+        replaceOrAdd(converters, MappingJackson2CborHttpMessageConverter.class,
+                new MappingJackson2CborHttpMessageConverter(cborObjectMapper()));
+        converters.add(converters.indexOf(jsonConverter), new UserDtoHttpMessageConverter());
+        converters.add(converters.indexOf(jsonConverter), new ProblemDetailHttpMessageConverter(objectMapper()));
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestEventInterceptor()).addPathPatterns("/users/**");
+    }
+
+    /*
+     * Mappers for binary formats are not exposed as beans, so that the JSON mapper remains the only ObjectMapper
+     * available for injection.
+     */
+    public ObjectMapper smileObjectMapper() {
+        final SmileFactory smileFactory = SmileFactory.builder()
+                .recyclerPool(JsonRecyclerPools.newConcurrentDequePool())
+                .build();
+        return configure(Jackson2ObjectMapperBuilder.smile().factory(smileFactory));
+    }
+
+    public ObjectMapper cborObjectMapper() {
+        final CBORFactory cborFactory = CBORFactory.builder()
+                .recyclerPool(JsonRecyclerPools.newConcurrentDequePool())
+                .build();
+        return configure(Jackson2ObjectMapperBuilder.cbor().factory(cborFactory));
+    }
+
+    /*
+     * Dates are written as ISO-8601 strings not only for UserDto, which requests it explicitly, but also for values
+     * without annotations, e.g. instants in maps returned for ?fields= requests.
+     */
+    private static ObjectMapper configure(final Jackson2ObjectMapperBuilder builder) {
+        final ObjectMapper objectMapper = builder
+                .modules(new JavaTimeModule(), new BlackbirdModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        resolveSerializers(objectMapper);
+        return objectMapper;
+    }
+
+    private static void resolveSerializers(final ObjectMapper objectMapper) {
+        final SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+        try {
+            for (Class<?> type : EAGER_SERIALIZED_TYPES) {
+                provider.findTypedValueSerializer(type, true, null);
+                provider.findTypedValueSerializer(objectMapper.getTypeFactory()
+                        .constructCollectionType(List.class, type), true, null);
+            }
+        } catch (JsonMappingException exception) {
+            throw new IllegalStateException("Cannot resolve serializers", exception);
+        }
+    }
 
+    private static void replaceOrAdd(final List<HttpMessageConverter<?>> converters,
+            final Class<?> replacedClass, final HttpMessageConverter<?> converter) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i).getClass() == replacedClass) {
+                converters.set(i, converter);
+                return;
+            }
+        }
+        converters.add(converter);
+    }
 }
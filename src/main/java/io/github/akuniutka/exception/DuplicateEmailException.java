@@ -2,13 +2,22 @@ package io.github.akuniutka.exception;
 
 import lombok.Getter;
 
+/**
+ * Thrown routinely on registrations with an email taken, so it captures no stack trace and builds its message only
+ * when asked for it.
+ */
 @Getter
 public class DuplicateEmailException extends RuntimeException {
 
     private final String email;
 
     public DuplicateEmailException(final String email) {
-        super("User with email %s already registered".formatted(email));
+        super(null, null, false, false);
         this.email = email;
     }
+
+    @Override
+    public String getMessage() {
+        return "User with email " + email + " already registered";
+    }
 }
@@ -0,0 +1,14 @@
+package io.github.akuniutka.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidCursorException extends RuntimeException {
+
+    private final String cursor;
+
+    public InvalidCursorException(final String cursor) {
+        super("Invalid cursor '%s'".formatted(cursor));
+        this.cursor = cursor;
+    }
+}
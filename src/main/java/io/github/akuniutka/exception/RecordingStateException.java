@@ -0,0 +1,8 @@
+package io.github.akuniutka.exception;
+
+public class RecordingStateException extends RuntimeException {
+
+    public RecordingStateException(final String message) {
+        super(message);
+    }
+}
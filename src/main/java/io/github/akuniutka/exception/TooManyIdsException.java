@@ -0,0 +1,16 @@
+package io.github.akuniutka.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyIdsException extends RuntimeException {
+
+    private final int count;
+    private final int limit;
+
+    public TooManyIdsException(final int count, final int limit) {
+        super("Cannot look up %d ids at once, the limit is %d".formatted(count, limit));
+        this.count = count;
+        this.limit = limit;
+    }
+}
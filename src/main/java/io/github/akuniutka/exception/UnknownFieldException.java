@@ -0,0 +1,14 @@
+package io.github.akuniutka.exception;
+
+import lombok.Getter;
+
+@Getter
+public class UnknownFieldException extends RuntimeException {
+
+    private final String field;
+
+    public UnknownFieldException(final String field) {
+        super("Unknown field '%s'".formatted(field));
+        this.field = field;
+    }
+}
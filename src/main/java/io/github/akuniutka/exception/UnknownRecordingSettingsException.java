@@ -0,0 +1,14 @@
+package io.github.akuniutka.exception;
+
+import lombok.Getter;
+
+@Getter
+public class UnknownRecordingSettingsException extends RuntimeException {
+
+    private final String settings;
+
+    public UnknownRecordingSettingsException(final String settings) {
+        super("Unknown recording settings '%s'".formatted(settings));
+        this.settings = settings;
+    }
+}
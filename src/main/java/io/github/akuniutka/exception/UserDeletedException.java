@@ -4,13 +4,22 @@ import lombok.Getter;
 
 import java.util.UUID;
 
+/**
+ * Thrown routinely on updates of users deleted, so it captures no stack trace and builds its message only when asked
+ * for it.
+ */
 @Getter
 public class UserDeletedException extends RuntimeException {
 
     private final UUID userId;
 
     public UserDeletedException(final UUID userId) {
-        super("Cannot update user %s: user deleted".formatted(userId));
+        super(null, null, false, false);
         this.userId = userId;
     }
+
+    @Override
+    public String getMessage() {
+        return "Cannot update user " + userId + ": user deleted";
+    }
 }
@@ -4,13 +4,22 @@ import lombok.Getter;
 
 import java.util.UUID;
 
+/**
+ * Thrown routinely on lookups of users who do not exist, so it captures no stack trace and builds its message only
+ * when asked for it.
+ */
 @Getter
 public class UserNotFoundException extends RuntimeException {
 
     private final UUID userId;
 
     public UserNotFoundException(final UUID userId) {
-        super("User %s does not exist".formatted(userId));
+        super(null, null, false, false);
         this.userId = userId;
     }
+
+    @Override
+    public String getMessage() {
+        return "User " + userId + " does not exist";
+    }
 }
@@ -0,0 +1,36 @@
+package io.github.akuniutka.health.controller;
+
+import io.github.akuniutka.health.dto.HealthDto;
+import io.github.akuniutka.health.service.HealthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Probed every few seconds, so nothing is logged. Probes are let through by ReadinessFilter while the application
+ * is starting up: liveness must not fail then, and readiness reports which checks are still down.
+ */
+@RestController
+@RequestMapping("/health")
+@RequiredArgsConstructor
+public class HealthController {
+
+    private final HealthService healthService;
+
+    @GetMapping("/live")
+    public ResponseEntity<HealthDto> getLiveness() {
+        return toResponse(healthService.getLiveness());
+    }
+
+    @GetMapping("/ready")
+    public ResponseEntity<HealthDto> getReadiness() {
+        return toResponse(healthService.getReadiness());
+    }
+
+    private static ResponseEntity<HealthDto> toResponse(final HealthDto dto) {
+        return ResponseEntity.status(dto.isUp() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(dto);
+    }
+}
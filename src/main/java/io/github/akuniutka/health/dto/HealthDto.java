@@ -0,0 +1,27 @@
+package io.github.akuniutka.health.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * Status reported by a health endpoint, {@code UP} or {@code DOWN}, and the statuses of the checks it is made of,
+ * if any.
+ */
+public record HealthDto(
+
+        String status,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Map<String, String> checks
+) {
+
+    public static final String UP = "UP";
+    public static final String DOWN = "DOWN";
+
+    @JsonIgnore
+    public boolean isUp() {
+        return UP.equals(status);
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.akuniutka.health.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Checks the database with {@code SELECT 1} on a background thread every {@code health.probe-interval-seconds} and
+ * keeps the result for health probes, so that probes never run a query themselves.
+ * <p>
+ * As {@code NotificationListener} does, the probe holds one connection of its own, opened with the driver directly:
+ * a pooled connection would queue behind user traffic when the pool is exhausted, which would make the application
+ * look unhealthy exactly when it is only busy. The connection is reopened after a failure. A result older than
+ * a few intervals, e.g. because the query hangs, counts as a failure. Only changes of the result are logged.
+ */
+@Component
+@Slf4j
+public class DatabaseProbe implements SmartLifecycle {
+
+    static final int STALE_AFTER_INTERVALS = 3;
+
+    private static final Result NOT_CHECKED = new Result(false, Long.MIN_VALUE);
+
+    private final ConnectionFactory connectionFactory;
+    private final Duration interval;
+
+    private boolean autoStartup = true;
+    private volatile Result result = NOT_CHECKED;
+    private volatile boolean running;
+    private Thread thread;
+    private Connection connection;
+
+    @Autowired
+    public DatabaseProbe(final Environment environment) {
+        this(() -> connect(environment),
+                Duration.ofSeconds(environment.getProperty("health.probe-interval-seconds", Long.class, 5L)));
+        // A training run must not connect to the database, see PersistenceConfig
+        this.autoStartup = !environment.getProperty("startup.training-run", Boolean.class, false);
+    }
+
+    DatabaseProbe(final ConnectionFactory connectionFactory, final Duration interval) {
+        this.connectionFactory = connectionFactory;
+        this.interval = interval;
+    }
+
+    /**
+     * Tells whether the last check succeeded and was made recently enough.
+     */
+    public boolean isUp() {
+        final Result current = result;
+        return current.up() && System.nanoTime() - current.checkedAt() < interval.toNanos() * STALE_AFTER_INTERVALS;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("database-probe")
+                .daemon()
+                .start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(interval);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /*
+     * Accessed by the probe thread only, except in tests.
+     */
+    void probe() {
+        boolean up;
+        try {
+            if (connection == null) {
+                connection = connectionFactory.getConnection();
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout((int) Math.max(1L, interval.toSeconds()));
+                statement.executeQuery("SELECT 1").close();
+            }
+            up = true;
+            if (!result.up()) {
+                log.info("Database probe succeeded");
+            }
+        } catch (SQLException exception) {
+            up = false;
+            if (result == NOT_CHECKED || result.up()) {
+                log.warn("Database probe failed: {}", exception.getMessage());
+            }
+            closeConnection();
+        }
+        result = new Result(up, System.nanoTime());
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                probe();
+                Thread.sleep(interval);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeConnection();
+        }
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException exception) {
+            log.debug("Cannot close database probe connection", exception);
+        } finally {
+            connection = null;
+        }
+    }
+
+    private static Connection connect(final Environment environment) throws SQLException {
+        final Properties properties = new Properties();
+        putPropertyIfNotNull(environment, properties, "user", "jdbc.username");
+        putPropertyIfNotNull(environment, properties, "password", "jdbc.password");
+        properties.setProperty("ApplicationName", "database-probe");
+        properties.setProperty("connectTimeout", "5");
+        properties.setProperty("tcpKeepAlive", "true");
+        return DriverManager.getConnection(environment.getRequiredProperty("jdbc.url"), properties);
+    }
+
+    private static void putPropertyIfNotNull(final Environment environment, final Properties properties,
+            final String name, final String propertyName) {
+        final String propertyValue = environment.getProperty(propertyName);
+        if (propertyValue != null) {
+            properties.setProperty(name, propertyValue);
+        }
+    }
+
+    @FunctionalInterface
+    interface ConnectionFactory {
+
+        Connection getConnection() throws SQLException;
+    }
+
+    private record Result(boolean up, long checkedAt) {
+
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.akuniutka.health.service;
+
+import io.github.akuniutka.health.dto.HealthDto;
+
+public interface HealthService {
+
+    HealthDto getLiveness();
+
+    HealthDto getReadiness();
+}
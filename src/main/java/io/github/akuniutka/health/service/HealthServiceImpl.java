@@ -0,0 +1,47 @@
+package io.github.akuniutka.health.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.akuniutka.common.startup.ApplicationReadiness;
+import io.github.akuniutka.health.dto.HealthDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Answers health probes from state already at hand, so that a probe neither waits for a connection nor runs
+ * a query. The application is live as long as it responds. It is ready when it has started up (including
+ * warm-up), the connection pool is running and the last {@link DatabaseProbe} result is fresh and successful.
+ */
+@Service
+@RequiredArgsConstructor
+public class HealthServiceImpl implements HealthService {
+
+    private static final HealthDto LIVE = new HealthDto(HealthDto.UP, null);
+
+    private final ApplicationReadiness readiness;
+    private final DataSource dataSource;
+    private final DatabaseProbe databaseProbe;
+
+    @Override
+    public HealthDto getLiveness() {
+        return LIVE;
+    }
+
+    @Override
+    public HealthDto getReadiness() {
+        final Map<String, String> checks = new LinkedHashMap<>();
+        checks.put("startup", toStatus(readiness.isReady()));
+        checks.put("pool", toStatus(dataSource instanceof HikariDataSource hikariDataSource
+                && hikariDataSource.isRunning()));
+        checks.put("database", toStatus(databaseProbe.isUp()));
+        final boolean up = checks.values().stream().allMatch(HealthDto.UP::equals);
+        return new HealthDto(toStatus(up), checks);
+    }
+
+    private static String toStatus(final boolean up) {
+        return up ? HealthDto.UP : HealthDto.DOWN;
+    }
+}
@@ -0,0 +1,248 @@
+package io.github.akuniutka.user.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.akuniutka.common.notify.NotificationHandler;
+import io.github.akuniutka.common.util.SingleFlight;
+import io.github.akuniutka.user.entity.User;
+import io.github.akuniutka.user.event.UserEvent;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * An in-process cache of users by id, kept consistent across nodes by user events every node receives over
+ * the notification channel.
+ * <p>
+ * Users returned are shared between callers and must not be modified: code which modifies a user has to read it
+ * from the repository.
+ * <p>
+ * Concurrent lookups of a user not cached share a single load, including loads which find no user or fail.
+ * Ids which no user was found for are remembered for a short time, so that repeated lookups of ids which do not
+ * exist do not reach the database. Counts of loads and of lookups coalesced are exposed over JMX.
+ * <p>
+ * Nothing is cached until the notification listener has connected for the first time: before that, changes made
+ * on other nodes would go unnoticed until entries expire.
+ */
+@Component
+@ManagedResource(objectName = "io.github.akuniutka:type=UserCache")
+@Slf4j
+public class UserCache implements NotificationHandler {
+
+    static final int MAXIMUM_SIZE = 10_000;
+    static final int LOAD_STRIPES = 16;
+
+    /*
+     * Bounds staleness should a notification be lost without the listener noticing a reconnect.
+     */
+    static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    static final int MAXIMUM_MISSING_SIZE = 100_000;
+
+    /*
+     * Bounds how long a user created on another node may be reported missing should the notification be lost.
+     */
+    static final Duration MISSING_EXPIRE_AFTER_WRITE = Duration.ofSeconds(30);
+
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, User> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .build();
+    private final Cache<UUID, Boolean> missing = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_MISSING_SIZE)
+            .expireAfterWrite(MISSING_EXPIRE_AFTER_WRITE)
+            .build();
+    private final SingleFlight<UUID, User> loads = new SingleFlight<>(LOAD_STRIPES);
+    private final AtomicLong multiLoads = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile boolean listening;
+
+    public UserCache(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the user cached or loads and caches it. An id which no user was found for is cached as missing.
+     * <p>
+     * A load runs outside the cache, so that a slow query does not hold a lock (and pin a virtual thread to its
+     * carrier). A user loaded is dropped right after caching if any invalidation happened while it was loading:
+     * it may have been read before a change the invalidation was for.
+     *
+     * @param id     the id of the user
+     * @param loader the function to load the user with, returns {@code null} when the user is not found
+     * @return the user or {@code null} when the user is not found
+     */
+    public User get(@NonNull final UUID id, @NonNull final Function<UUID, User> loader) {
+        final User user = cache.getIfPresent(id);
+        if (user != null) {
+            return user;
+        }
+        if (missing.getIfPresent(id) != null) {
+            return null;
+        }
+        return loads.execute(id, () -> load(id, loader));
+    }
+
+    /**
+     * Returns users cached and ids cached as missing, and loads the other users with a single call of the loader,
+     * caching them as {@link #get(UUID, Function)} does. A multi-load is not shared with concurrent lookups.
+     *
+     * @param ids    the ids of the users
+     * @param loader the function to load users with, returns a list with a user or {@code null} for each id given
+     * @return users by id in the order of ids, with {@code null} for users not found
+     */
+    public Map<UUID, User> getAll(@NonNull final List<UUID> ids,
+            @NonNull final Function<List<UUID>, List<User>> loader) {
+        final Map<UUID, User> users = new LinkedHashMap<>();
+        final Set<UUID> misses = new LinkedHashSet<>();
+        for (UUID id : ids) {
+            final User user = cache.getIfPresent(id);
+            users.put(id, user);
+            if (user == null && missing.getIfPresent(id) == null) {
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) {
+            return users;
+        }
+        final long stamp = invalidations.get();
+        final List<UUID> idsToLoad = new ArrayList<>(misses);
+        final List<User> loaded = loader.apply(idsToLoad);
+        multiLoads.incrementAndGet();
+        for (int i = 0; i < idsToLoad.size(); i++) {
+            users.put(idsToLoad.get(i), store(idsToLoad.get(i), loaded.get(i), stamp));
+        }
+        return users;
+    }
+
+    /**
+     * Evicts the user cached and forgets that the id is missing, e.g. once a user with the id has been created.
+     *
+     * @param id the id of the user
+     */
+    public void evict(@NonNull final UUID id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+        missing.invalidate(id);
+    }
+
+    @ManagedAttribute(description = "Estimated number of users cached")
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    @ManagedAttribute(description = "Estimated number of ids cached as missing")
+    public long getMissingSize() {
+        return missing.estimatedSize();
+    }
+
+    @ManagedAttribute(description = "Number of users loaded on lookups which missed the cache")
+    public long getLoadCount() {
+        return loads.getExecutedCount();
+    }
+
+    @ManagedAttribute(description = "Number of multi-loads of users which missed the cache")
+    public long getMultiLoadCount() {
+        return multiLoads.get();
+    }
+
+    @ManagedAttribute(description = "Number of lookups which joined a load in flight instead of loading")
+    public long getCoalescedLookupCount() {
+        return loads.getCoalescedCount();
+    }
+
+    @Override
+    public String getChannel() {
+        return UserEvent.CHANNEL;
+    }
+
+    /*
+     * A user cached is kept when it is not older than the change: it was loaded after the change had been
+     * committed, e.g. on this node right after the change was made.
+     */
+    @Override
+    public void onNotification(final String payload) {
+        final UserEvent event;
+        try {
+            event = objectMapper.readValue(payload, UserEvent.class);
+        } catch (JsonProcessingException exception) {
+            log.warn("Cannot read user event, flushing user cache: {}", exception.getMessage());
+            invalidateAll();
+            return;
+        }
+        if (event.id() == null) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        missing.invalidate(event.id());
+        cache.asMap().computeIfPresent(event.id(), (id, user) -> isOlder(user, event.modified()) ? null : user);
+    }
+
+    @Override
+    public void onConnect() {
+        listening = true;
+    }
+
+    /*
+     * Changes made while the listener was disconnected are unknown, so every user cached might be stale.
+     */
+    @Override
+    public void onReconnect() {
+        log.warn("User events might have been lost, flushing user cache: size = {}", cache.estimatedSize());
+        invalidateAll();
+    }
+
+    /*
+     * Invalidations are counted before they are applied: a load which caches a result after an invalidation has
+     * been counted drops the result itself, and an invalidation applied later removes it anyway.
+     */
+    private User load(final UUID id, final Function<UUID, User> loader) {
+        final long stamp = invalidations.get();
+        return store(id, loader.apply(id), stamp);
+    }
+
+    private User store(final UUID id, final User user, final long stamp) {
+        if (!listening) {
+            return user;
+        }
+        if (user != null) {
+            cache.put(id, user);
+            if (invalidations.get() != stamp) {
+                cache.asMap().remove(id, user);
+            }
+        } else {
+            missing.put(id, Boolean.TRUE);
+            if (invalidations.get() != stamp) {
+                missing.invalidate(id);
+            }
+        }
+        return user;
+    }
+
+    private void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+        missing.invalidateAll();
+    }
+
+    private static boolean isOlder(final User user, final Instant modified) {
+        return modified == null || user.getModified() == null || user.getModified().toInstant().isBefore(modified);
+    }
+}
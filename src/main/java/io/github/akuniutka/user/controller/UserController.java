@@ -3,9 +3,16 @@ package io.github.akuniutka.user.controller;
 import io.github.akuniutka.exception.DtoNotValidException;
 import io.github.akuniutka.user.mapper.UserMapper;
 import io.github.akuniutka.user.service.UserService;
+import io.github.akuniutka.user.dto.ChangeCursor;
 import io.github.akuniutka.user.dto.CreateUserRequest;
 import io.github.akuniutka.user.dto.UpdateUserRequest;
+import io.github.akuniutka.user.dto.UserChangesDto;
+import io.github.akuniutka.user.dto.UserChangesQuery;
 import io.github.akuniutka.user.dto.UserDto;
+import io.github.akuniutka.user.dto.UserField;
+import io.github.akuniutka.user.dto.UserQuery;
+import io.github.akuniutka.user.dto.UserSearchQuery;
+import io.github.akuniutka.user.dto.UserSearchResult;
 import io.github.akuniutka.user.entity.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,9 +25,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -47,16 +57,86 @@ public class UserController {
         return dto;
     }
 
+    /*
+     * Without query parameters returns all users as before. Any filter, sort order or page parameter switches to
+     * a page of users found in database with an index.
+     */
     @GetMapping
-    public List<UserDto> findAllUsers() {
-        log.info("Received request for users");
-        final List<User> users = userService.findAllUsers();
+    public List<UserDto> findAllUsers(@Valid final UserQuery query, final BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            throw new DtoNotValidException(bindingResult);
+        }
+        if (query.isEmpty()) {
+            log.info("Received request for users");
+        } else {
+            log.info("Received request for users: query = {}", query);
+        }
+        final List<User> users = query.isEmpty() ? userService.findAllUsers() : userService.findUsers(query);
         final List<UserDto> dtos = userMapper.mapToDto(users);
         log.info("Responded with users requested");
         log.debug("Users requested = {}", dtos);
         return dtos;
     }
 
+    /*
+     * Resolves many users in one request and one database query. Users not found are returned as nulls, so that
+     * a client can tell them from users it did not request.
+     */
+    @GetMapping(params = "ids")
+    public Map<UUID, UserDto> findUsersByIds(@RequestParam("ids") final List<UUID> ids) {
+        log.info("Received request for users by ids: count = {}", ids.size());
+        log.debug("Ids requested = {}", ids);
+        final Map<UUID, User> users = userService.findUsersByIds(ids);
+        final Map<UUID, UserDto> dtos = new LinkedHashMap<>();
+        users.forEach((id, user) -> dtos.put(id, user == null ? null : userMapper.mapToDto(user)));
+        log.info("Responded with users requested by ids");
+        log.debug("Users requested by ids = {}", dtos);
+        return dtos;
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public List<Map<String, Object>> findAllUsers(@RequestParam("fields") final String fields) {
+        log.info("Received request for users: fields = {}", fields);
+        final List<Map<String, Object>> users = userService.findAllUsers(UserField.parse(fields));
+        log.info("Responded with users requested");
+        log.debug("Users requested = {}", users);
+        return users;
+    }
+
+    @GetMapping("/search")
+    public List<UserSearchResult> searchUsers(@Valid final UserSearchQuery query, final BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            throw new DtoNotValidException(bindingResult);
+        }
+        log.info("Received request to search users: query = {}", query);
+        final List<UserSearchResult> users = userService.searchUsers(query);
+        log.info("Responded with users found: count = {}", users.size());
+        log.debug("Users found = {}", users);
+        return users;
+    }
+
+    /*
+     * Returns users changed after the cursor in the order of changes. The next cursor points to the last change
+     * returned, so a client resumes from it after the page is processed.
+     */
+    @GetMapping("/changes")
+    public UserChangesDto findChanges(@Valid final UserChangesQuery query, final BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            throw new DtoNotValidException(bindingResult);
+        }
+        log.info("Received request for user changes: query = {}", query);
+        final ChangeCursor since = query.since() == null ? ChangeCursor.START : ChangeCursor.decode(query.since());
+        final List<User> users = userService.findChanges(since, query.limit());
+        final ChangeCursor next = users.isEmpty() ? since : ChangeCursor.of(users.getLast());
+        final UserChangesDto dto = UserChangesDto.builder()
+                .changes(userMapper.mapToChangeDto(users))
+                .next(next.encode())
+                .build();
+        log.info("Responded with user changes: count = {}, next = {}", users.size(), dto.next());
+        log.debug("User changes = {}", dto);
+        return dto;
+    }
+
     @GetMapping("/{id}")
     public UserDto getUserById(@PathVariable("id") final UUID id) {
         log.info("Received request for user: id = {}", id);
@@ -67,6 +147,16 @@ public class UserController {
         return dto;
     }
 
+    @GetMapping(path = "/{id}", params = "fields")
+    public Map<String, Object> getUserById(@PathVariable("id") final UUID id,
+            @RequestParam("fields") final String fields) {
+        log.info("Received request for user: id = {}, fields = {}", id, fields);
+        final Map<String, Object> user = userService.getUserById(id, UserField.parse(fields));
+        log.info("Responded with user requested: id = {}", id);
+        log.debug("User requested = {}", user);
+        return user;
+    }
+
     @PatchMapping("/{id}")
     public UserDto updateUser(@PathVariable("id") final UUID id, @Valid @RequestBody final UpdateUserRequest request,
             final BindingResult bindingResult) {
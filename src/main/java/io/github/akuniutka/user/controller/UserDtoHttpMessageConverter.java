@@ -0,0 +1,367 @@
+package io.github.akuniutka.user.controller;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import io.github.akuniutka.common.jfr.SerializationEvent;
+import io.github.akuniutka.user.dto.UserDto;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Writes {@link UserDto} and collections of {@link UserDto} as JSON without Jackson's bean serialization. Field
+ * names are pre-encoded, UUIDs and instants are written digit by digit, and bytes go to a buffer taken from the
+ * same kind of recycler pool the tuned {@code ObjectMapper} uses. The output is byte-identical to that of
+ * {@code ObjectMapper} configured in {@code WebConfig}: the same field order, {@code null} for missing values, the
+ * same string escaping and ISO-8601 instants. Reading is left to the Jackson converter.
+ */
+public class UserDtoHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] FIRST_NAME = ascii(",\"firstName\":");
+    private static final byte[] LAST_NAME = ascii(",\"lastName\":");
+    private static final byte[] EMAIL = ascii(",\"email\":");
+    private static final byte[] STATE = ascii(",\"state\":");
+    private static final byte[] REGISTRATION_DATE = ascii(",\"registrationDate\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] HEX_DIGITS = ascii("0123456789ABCDEF");
+    private static final byte[] LOWER_HEX_DIGITS = ascii("0123456789abcdef");
+
+    /*
+     * Longest sequence written without checking the space left: an instant with nanoseconds in quotes or an
+     * escaped character.
+     */
+    private static final int MAX_CHUNK_BYTES = 32;
+
+    /*
+     * Instants outside this range need a sign or more than four digits for the year and are written via
+     * Instant.toString(). These are 0000-01-01T00:00:00Z and 10000-01-01T00:00:00Z.
+     */
+    private static final long MIN_FAST_EPOCH_SECOND = -62_167_219_200L;
+    private static final long MAX_FAST_EPOCH_SECOND = 253_402_300_800L;
+
+    private final RecyclerPool<BufferRecycler> bufferRecyclerPool = JsonRecyclerPools.newConcurrentDequePool();
+
+    public UserDtoHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    protected boolean supports(final Class<?> clazz) {
+        return UserDto.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(final Class<?> clazz, final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(final Type type, final Class<?> contextClass, final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(final Type type, final Class<?> clazz, final MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (type == null) {
+            return supports(clazz);
+        }
+        final ResolvableType resolvableType = ResolvableType.forType(type);
+        final Class<?> resolved = resolvableType.resolve(clazz);
+        if (UserDto.class == resolved) {
+            return true;
+        }
+        return resolved != null && Collection.class.isAssignableFrom(resolved)
+                && UserDto.class == resolvableType.asCollection().resolveGeneric();
+    }
+
+    /*
+     * Jackson writes JSON in UTF-8 unless another charset is requested explicitly; leave such requests to it.
+     */
+    @Override
+    protected boolean canWrite(final MediaType mediaType) {
+        if (mediaType != null && mediaType.getCharset() != null
+                && !StandardCharsets.UTF_8.equals(mediaType.getCharset())) {
+            return false;
+        }
+        return super.canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(final Type type, final Class<?> contextClass, final HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading is not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(final Class<?> clazz, final HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading is not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(final Object object, final Type type, final HttpOutputMessage outputMessage)
+            throws IOException {
+        SerializationEvent.record(object, type == null ? UserDto.class : type, () -> write(object, outputMessage));
+    }
+
+    private void write(final Object object, final HttpOutputMessage outputMessage) throws IOException {
+        final BufferRecycler bufferRecycler = bufferRecyclerPool.acquireAndLinkPooled();
+        final byte[] buffer = bufferRecycler.allocByteBuffer(BufferRecycler.BYTE_WRITE_ENCODING_BUFFER);
+        try {
+            final JsonWriter writer = new JsonWriter(outputMessage.getBody(), buffer);
+            if (object instanceof Collection<?> dtos) {
+                writer.writeArray(dtos);
+            } else {
+                writer.writeUserDto((UserDto) object);
+            }
+            writer.flush();
+        } finally {
+            bufferRecycler.releaseByteBuffer(BufferRecycler.BYTE_WRITE_ENCODING_BUFFER, buffer);
+            bufferRecycler.releaseToPool();
+        }
+    }
+
+    private static byte[] ascii(final String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class JsonWriter {
+
+        private final OutputStream out;
+        private final byte[] buffer;
+        private int position;
+
+        private JsonWriter(final OutputStream out, final byte[] buffer) {
+            this.out = out;
+            this.buffer = buffer;
+        }
+
+        void writeArray(final Collection<?> dtos) throws IOException {
+            ensureSpace(1);
+            buffer[position++] = '[';
+            boolean first = true;
+            for (Object dto : dtos) {
+                if (!first) {
+                    ensureSpace(1);
+                    buffer[position++] = ',';
+                }
+                first = false;
+                writeUserDto((UserDto) dto);
+            }
+            ensureSpace(1);
+            buffer[position++] = ']';
+        }
+
+        void writeUserDto(final UserDto dto) throws IOException {
+            if (dto == null) {
+                writeRaw(NULL);
+                return;
+            }
+            writeRaw(ID);
+            writeUuid(dto.id());
+            writeRaw(FIRST_NAME);
+            writeString(dto.firstName());
+            writeRaw(LAST_NAME);
+            writeString(dto.lastName());
+            writeRaw(EMAIL);
+            writeString(dto.email());
+            writeRaw(STATE);
+            writeString(dto.state());
+            writeRaw(REGISTRATION_DATE);
+            writeInstant(dto.registrationDate());
+            ensureSpace(1);
+            buffer[position++] = '}';
+        }
+
+        void flush() throws IOException {
+            if (position > 0) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+            out.flush();
+        }
+
+        private void writeRaw(final byte[] bytes) throws IOException {
+            ensureSpace(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeUuid(final UUID uuid) throws IOException {
+            if (uuid == null) {
+                writeRaw(NULL);
+                return;
+            }
+            ensureSpace(38);
+            buffer[position++] = '"';
+            final long msb = uuid.getMostSignificantBits();
+            final long lsb = uuid.getLeastSignificantBits();
+            writeHex(msb >>> 32, 8);
+            buffer[position++] = '-';
+            writeHex(msb >>> 16, 4);
+            buffer[position++] = '-';
+            writeHex(msb, 4);
+            buffer[position++] = '-';
+            writeHex(lsb >>> 48, 4);
+            buffer[position++] = '-';
+            writeHex(lsb, 12);
+            buffer[position++] = '"';
+        }
+
+        private void writeHex(final long value, final int digits) {
+            for (int i = digits - 1; i >= 0; i--) {
+                buffer[position + i] = LOWER_HEX_DIGITS[(int) (value >>> ((digits - 1 - i) * 4)) & 0xF];
+            }
+            position += digits;
+        }
+
+        /*
+         * Escapes the same characters as Jackson with default settings: quotes, backslashes and control characters,
+         * and also surrogates, which Jackson writes as escapes one by one instead of combining into a 4-byte UTF-8
+         * sequence. Everything else is encoded to UTF-8 as is.
+         */
+        private void writeString(final String value) throws IOException {
+            if (value == null) {
+                writeRaw(NULL);
+                return;
+            }
+            ensureSpace(1);
+            buffer[position++] = '"';
+            final int length = value.length();
+            for (int i = 0; i < length; i++) {
+                ensureSpace(MAX_CHUNK_BYTES);
+                final char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (c >= 0x20 && c != '"' && c != '\\') {
+                        buffer[position++] = (byte) c;
+                    } else {
+                        writeEscaped(c);
+                    }
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    writeUnicodeEscape(c);
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            ensureSpace(1);
+            buffer[position++] = '"';
+        }
+
+        private void writeEscaped(final char c) {
+            switch (c) {
+                case '"', '\\' -> writeShortEscape((byte) c);
+                case '\b' -> writeShortEscape((byte) 'b');
+                case '\t' -> writeShortEscape((byte) 't');
+                case '\n' -> writeShortEscape((byte) 'n');
+                case '\f' -> writeShortEscape((byte) 'f');
+                case '\r' -> writeShortEscape((byte) 'r');
+                default -> writeUnicodeEscape(c);
+            }
+        }
+
+        private void writeShortEscape(final byte escaped) {
+            buffer[position++] = '\\';
+            buffer[position++] = escaped;
+        }
+
+        private void writeUnicodeEscape(final char c) {
+            buffer[position++] = '\\';
+            buffer[position++] = 'u';
+            buffer[position++] = HEX_DIGITS[c >> 12];
+            buffer[position++] = HEX_DIGITS[(c >> 8) & 0xF];
+            buffer[position++] = HEX_DIGITS[(c >> 4) & 0xF];
+            buffer[position++] = HEX_DIGITS[c & 0xF];
+        }
+
+        /*
+         * Formats the same way as DateTimeFormatter.ISO_INSTANT: the fraction of second is omitted when zero and
+         * otherwise written with 3, 6 or 9 digits, whichever is enough.
+         */
+        private void writeInstant(final Instant instant) throws IOException {
+            if (instant == null) {
+                writeRaw(NULL);
+                return;
+            }
+            final long epochSecond = instant.getEpochSecond();
+            if (epochSecond < MIN_FAST_EPOCH_SECOND || epochSecond >= MAX_FAST_EPOCH_SECOND) {
+                writeString(instant.toString());
+                return;
+            }
+            ensureSpace(MAX_CHUNK_BYTES);
+            final long epochDay = Math.floorDiv(epochSecond, 86_400L);
+            final int secondOfDay = (int) Math.floorMod(epochSecond, 86_400L);
+
+            // Days to civil date, see https://howardhinnant.github.io/date_algorithms.html#civil_from_days
+            final long shiftedDay = epochDay + 719_468L;
+            final long era = Math.floorDiv(shiftedDay, 146_097L);
+            final int dayOfEra = (int) (shiftedDay - era * 146_097L);
+            final int yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+            final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+            final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+            final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+            final int year = (int) (yearOfEra + era * 400L) + (month <= 2 ? 1 : 0);
+
+            buffer[position++] = '"';
+            writeDigits(year, 4);
+            buffer[position++] = '-';
+            writeDigits(month, 2);
+            buffer[position++] = '-';
+            writeDigits(day, 2);
+            buffer[position++] = 'T';
+            writeDigits(secondOfDay / 3_600, 2);
+            buffer[position++] = ':';
+            writeDigits(secondOfDay / 60 % 60, 2);
+            buffer[position++] = ':';
+            writeDigits(secondOfDay % 60, 2);
+            final int nano = instant.getNano();
+            if (nano != 0) {
+                buffer[position++] = '.';
+                if (nano % 1_000_000 == 0) {
+                    writeDigits(nano / 1_000_000, 3);
+                } else if (nano % 1_000 == 0) {
+                    writeDigits(nano / 1_000, 6);
+                } else {
+                    writeDigits(nano, 9);
+                }
+            }
+            buffer[position++] = 'Z';
+            buffer[position++] = '"';
+        }
+
+        private void writeDigits(final int value, final int digits) {
+            int remainder = value;
+            for (int i = position + digits - 1; i >= position; i--) {
+                buffer[i] = (byte) ('0' + remainder % 10);
+                remainder /= 10;
+            }
+            position += digits;
+        }
+
+        private void ensureSpace(final int bytes) throws IOException {
+            if (position + bytes > buffer.length) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.akuniutka.user.controller;
+
+import io.github.akuniutka.user.event.UserEventStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+@Slf4j
+public class UserStreamController {
+
+    private final UserEventStream userEventStream;
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUserEvents() {
+        log.info("Received request for user event stream");
+        final SseEmitter emitter = userEventStream.subscribe();
+        log.info("Subscribed to user events: subscribers = {}", userEventStream.getSubscriberCount());
+        return emitter;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.akuniutka.user.dto;
+
+import io.github.akuniutka.exception.InvalidCursorException;
+import io.github.akuniutka.user.entity.User;
+import lombok.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the change feed of {@code GET /users/changes}: the change id and the id of the last user a client has
+ * seen. Clients get it as an opaque string and pass it back as is.
+ */
+public record ChangeCursor(long changeId, @NonNull UUID id) {
+
+    /**
+     * Position before any change.
+     */
+    public static final ChangeCursor START = new ChangeCursor(-1L, new UUID(0L, 0L));
+
+    private static final char SEPARATOR = '/';
+
+    public static ChangeCursor of(@NonNull final User user) {
+        return new ChangeCursor(user.getChangeId(), user.getId());
+    }
+
+    public static ChangeCursor decode(@NonNull final String cursor) {
+        try {
+            final String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separator = value.indexOf(SEPARATOR);
+            return new ChangeCursor(Long.parseLong(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException exception) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((Long.toString(changeId) + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.akuniutka.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A user changed since a cursor. Deleted users are tombstones: they carry no user data.
+ */
+@Builder
+public record UserChangeDto(
+
+        UUID id,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        Instant modified,
+
+        boolean deleted,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        UserDto user
+) {
+
+}
@@ -0,0 +1,19 @@
+package io.github.akuniutka.user.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * A page of the change feed with the cursor to request the next page. When there are no changes, the cursor is the
+ * one requested, so a client can poll with it later.
+ */
+@Builder
+public record UserChangesDto(
+
+        List<UserChangeDto> changes,
+
+        String next
+) {
+
+}
@@ -0,0 +1,20 @@
+package io.github.akuniutka.user.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+/**
+ * Cursor and page size of {@code GET /users/changes}. Without a cursor the feed starts from the beginning.
+ */
+@Builder
+public record UserChangesQuery(
+
+        String since,
+
+        @Positive
+        @Max(1000)
+        Integer limit
+) {
+
+}
@@ -0,0 +1,52 @@
+package io.github.akuniutka.user.dto;
+
+import io.github.akuniutka.exception.UnknownFieldException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+/**
+ * Fields of {@link UserDto} a client may request with {@code ?fields=}. The name of a field is used both in JSON and
+ * as the name of the corresponding attribute of {@code User} entity.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum UserField {
+
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    EMAIL("email"),
+    STATE("state"),
+    REGISTRATION_DATE("registrationDate");
+
+    private static final Map<String, UserField> BY_NAME = Arrays.stream(values())
+            .collect(toUnmodifiableMap(UserField::getName, Function.identity()));
+
+    private final String name;
+
+    /**
+     * Parses a comma-separated list of field names. Fields are returned in the order they have in {@link UserDto}
+     * regardless of the order in the list.
+     *
+     * @throws UnknownFieldException if the list contains a name which is not a field of {@link UserDto}
+     */
+    public static Set<UserField> parse(final String fields) {
+        final Set<UserField> result = EnumSet.noneOf(UserField.class);
+        for (String name : fields.split(",", -1)) {
+            final UserField field = BY_NAME.get(name.strip());
+            if (field == null) {
+                throw new UnknownFieldException(name.strip());
+            }
+            result.add(field);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.akuniutka.user.dto;
+
+import io.github.akuniutka.user.entity.User;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Filter, sort order and page of {@code GET /users}. Pages are continued by keyset: {@code after} is the id of the
+ * last user on the previous page.
+ * <p>
+ * Every query is served by an index of {@code (state, sort key, id)} or {@code (sort key, id)}, which gives both
+ * the rows filtered and their order, so a page is read without sorting. Hence a range filter is only supported on
+ * the sort key: {@code registeredFrom} and {@code registeredTo} with {@code sort=registrationDate},
+ * {@code lastNamePrefix} with {@code sort=lastName} and {@code emailPrefix} with {@code sort=email}. The state can
+ * be combined with any sort order.
+ */
+@Builder
+public record UserQuery(
+
+        User.State state,
+
+        Instant registeredFrom,
+
+        Instant registeredTo,
+
+        String emailPrefix,
+
+        String lastNamePrefix,
+
+        @Pattern(regexp = "id|registrationDate|lastName|email")
+        String sort,
+
+        UUID after,
+
+        @Positive
+        @Max(1000)
+        Integer limit
+) {
+
+    public boolean isEmpty() {
+        return state == null && registeredFrom == null && registeredTo == null && emailPrefix == null
+                && lastNamePrefix == null && sort == null && after == null && limit == null;
+    }
+
+    @AssertTrue(message = "must be registrationDate with registeredFrom or registeredTo, lastName with lastNamePrefix"
+            + " and email with emailPrefix")
+    public boolean isSortSupported() {
+        final String sortKey = sort == null ? "id" : sort;
+        return (registeredFrom == null && registeredTo == null || "registrationDate".equals(sortKey))
+                && (isUnset(lastNamePrefix) || "lastName".equals(sortKey))
+                && (isUnset(emailPrefix) || "email".equals(sortKey));
+    }
+
+    // An empty prefix selects every user and is not a filter
+    private static boolean isUnset(final String prefix) {
+        return prefix == null || prefix.isEmpty();
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.akuniutka.user.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+/**
+ * Text and limit of {@code GET /users/search}. Texts shorter than a trigram would match too many users to rank.
+ */
+@Builder
+public record UserSearchQuery(
+
+        @NotBlank
+        @Size(min = 3, max = 100)
+        String q,
+
+        @Positive
+        @Max(100)
+        Integer limit
+) {
+
+}
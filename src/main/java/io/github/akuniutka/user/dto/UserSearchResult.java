@@ -0,0 +1,27 @@
+package io.github.akuniutka.user.dto;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * A user found by text search: only fields an admin needs to pick the user, with similarity of the best matching
+ * field to the text searched, from 0 to 1.
+ */
+@Builder
+public record UserSearchResult(
+
+        UUID id,
+
+        String firstName,
+
+        String lastName,
+
+        String email,
+
+        String state,
+
+        double score
+) {
+
+}
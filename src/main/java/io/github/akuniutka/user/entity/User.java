@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -36,6 +37,14 @@ public class User extends BaseHibernateEntity {
     @Column(name = "registration_date")
     private Instant registrationDate;
 
+    /*
+     * Id of the transaction which wrote the user last, set by the database. Read for the change feed only: it is
+     * not refreshed on save.
+     */
+    @Column(name = "change_id", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Long changeId;
+
     public User(final UUID id) {
         super(id);
     }
@@ -0,0 +1,35 @@
+package io.github.akuniutka.user.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.akuniutka.user.dto.UserDto;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A change of a user, sent to all nodes as a notification payload. Events of deleted users carry no user data.
+ */
+@Builder
+public record UserEvent(
+
+        Type type,
+
+        UUID id,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        Instant modified,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        UserDto user
+) {
+
+    public static final String CHANNEL = "user_events";
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
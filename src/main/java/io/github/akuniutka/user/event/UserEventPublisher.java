@@ -0,0 +1,45 @@
+package io.github.akuniutka.user.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.akuniutka.common.notify.NotificationPublisher;
+import io.github.akuniutka.user.entity.User;
+import io.github.akuniutka.user.mapper.UserMapper;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserEventPublisher {
+
+    private final NotificationPublisher notificationPublisher;
+    private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Notifies all nodes of a change of a user saved. A change is already stored when it is published, so failure
+     * to publish it is logged rather than thrown: subscribers catch up through the change feed.
+     *
+     * @param type the type of the change
+     * @param user the user as saved
+     */
+    public void publish(@NonNull final UserEvent.Type type, @NonNull final User user) {
+        final UserEvent event = UserEvent.builder()
+                .type(type)
+                .id(user.getId())
+                .modified(user.getModified() == null ? null : user.getModified().toInstant())
+                .user(type == UserEvent.Type.DELETED ? null : userMapper.mapToDto(user))
+                .build();
+        try {
+            notificationPublisher.publish(UserEvent.CHANNEL, objectMapper.writeValueAsString(event));
+            log.debug("User event published = {}", event);
+        } catch (JsonProcessingException | DataAccessException exception) {
+            log.warn("Cannot publish user event: type = {}, id = {}: {}", type, user.getId(),
+                    exception.getMessage());
+        }
+    }
+}
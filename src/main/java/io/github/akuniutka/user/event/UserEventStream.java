@@ -0,0 +1,85 @@
+package io.github.akuniutka.user.event;
+
+import io.github.akuniutka.common.notify.NotificationHandler;
+import io.github.akuniutka.common.util.BroadcastBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Fans user events out from the notification channel to Server-Sent Events subscribers of this node. Events are
+ * passed on as received, so each one is serialized once per cluster rather than once per subscriber.
+ */
+@Component
+@Slf4j
+public class UserEventStream implements NotificationHandler, DisposableBean {
+
+    static final int BUFFER_CAPACITY = 1024;
+    static final Duration STREAM_TIMEOUT = Duration.ofMinutes(10);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final BroadcastBuffer<String> buffer = new BroadcastBuffer<>(BUFFER_CAPACITY, executor);
+
+    @Override
+    public String getChannel() {
+        return UserEvent.CHANNEL;
+    }
+
+    @Override
+    public void onNotification(final String payload) {
+        buffer.publish(payload);
+    }
+
+    /*
+     * Events sent while the listener was disconnected are lost, so subscribers are disconnected too: clients
+     * reconnect and catch up through the change feed.
+     */
+    @Override
+    public void onReconnect() {
+        log.warn("User events might have been lost, disconnecting subscribers: count = {}",
+                buffer.getSubscriberCount());
+        buffer.evictAll();
+    }
+
+    /**
+     * Opens a stream of user events published from now on. The stream completes after a timeout, so that clients
+     * gone unnoticed do not hold resources forever; clients are expected to reconnect.
+     *
+     * @return the emitter of events
+     */
+    public SseEmitter subscribe() {
+        final SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+        final BroadcastBuffer<String>.Subscription subscription = buffer.subscribe(
+                new BroadcastBuffer.Subscriber<>() {
+
+                    @Override
+                    public void onItem(final String event) throws Exception {
+                        emitter.send(SseEmitter.event().data(event));
+                    }
+
+                    @Override
+                    public void onEvicted() {
+                        log.warn("User event subscriber evicted: too slow or events lost");
+                        emitter.complete();
+                    }
+                });
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(exception -> subscription.cancel());
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return buffer.getSubscriberCount();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
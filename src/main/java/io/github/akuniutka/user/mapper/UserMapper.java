@@ -2,6 +2,7 @@ package io.github.akuniutka.user.mapper;
 
 import io.github.akuniutka.user.dto.CreateUserRequest;
 import io.github.akuniutka.user.dto.UpdateUserRequest;
+import io.github.akuniutka.user.dto.UserChangeDto;
 import io.github.akuniutka.user.dto.UserDto;
 import io.github.akuniutka.user.entity.User;
 import org.mapstruct.Mapper;
@@ -33,4 +34,19 @@ public abstract class UserMapper {
     public abstract UserDto mapToDto(User user);
 
     public abstract List<UserDto> mapToDto(List<User> users);
+
+    public UserChangeDto mapToChangeDto(final User user) {
+        if (user == null) {
+            return null;
+        }
+        final boolean deleted = user.getState() == User.State.DELETED;
+        return UserChangeDto.builder()
+                .id(user.getId())
+                .modified(user.getModified() == null ? null : user.getModified().toInstant())
+                .deleted(deleted)
+                .user(deleted ? null : mapToDto(user))
+                .build();
+    }
+
+    public abstract List<UserChangeDto> mapToChangeDto(List<User> users);
 }
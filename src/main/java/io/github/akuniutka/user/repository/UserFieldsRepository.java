@@ -0,0 +1,20 @@
+package io.github.akuniutka.user.repository;
+
+import io.github.akuniutka.user.dto.UserField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Selects only requested columns of users, without loading {@code User} entities into the persistence context.
+ * Each user is returned as a map from field names to values in the order of fields in {@code UserDto}.
+ */
+public interface UserFieldsRepository {
+
+    List<Map<String, Object>> findAllFields(Set<UserField> fields);
+
+    Optional<Map<String, Object>> findFieldsById(UUID id, Set<UserField> fields);
+}
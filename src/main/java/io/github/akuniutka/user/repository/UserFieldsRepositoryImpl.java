@@ -0,0 +1,63 @@
+package io.github.akuniutka.user.repository;
+
+import io.github.akuniutka.user.dto.UserField;
+import io.github.akuniutka.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+class UserFieldsRepositoryImpl implements UserFieldsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllFields(final Set<UserField> fields) {
+        return select(fields, null);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(final UUID id, final Set<UserField> fields) {
+        return select(fields, id).stream().findFirst();
+    }
+
+    /*
+     * A tuple query returns plain column values: Hibernate neither instantiates entities nor keeps snapshots of them
+     * for dirty checking. Results are read as a list: outside a transaction the shared entity manager is closed as
+     * soon as the query is executed, so a stream could not be read.
+     */
+    private List<Map<String, Object>> select(final Set<UserField> fields, final UUID id) {
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        final Root<User> user = query.from(User.class);
+        final List<Selection<?>> selections = fields.stream()
+                .<Selection<?>>map(field -> user.get(field.getName()).alias(field.getName()))
+                .toList();
+        query.multiselect(selections);
+        if (id != null) {
+            query.where(builder.equal(user.get(UserField.ID.getName()), id));
+        }
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> toMap(tuple, fields))
+                .toList();
+    }
+
+    private static Map<String, Object> toMap(final Tuple tuple, final Set<UserField> fields) {
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (UserField field : fields) {
+            values.put(field.getName(), tuple.get(field.getName()));
+        }
+        return values;
+    }
+}
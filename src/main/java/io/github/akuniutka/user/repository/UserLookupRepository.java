@@ -0,0 +1,18 @@
+package io.github.akuniutka.user.repository;
+
+import io.github.akuniutka.user.entity.User;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Loads many users by their ids in a single query.
+ */
+public interface UserLookupRepository {
+
+    /**
+     * Returns users in the order of ids requested, with {@code null} in place of each id no user exists for.
+     * Users already present in the persistence context are taken from there.
+     */
+    List<User> findAllByIdsInOrder(List<UUID> ids);
+}
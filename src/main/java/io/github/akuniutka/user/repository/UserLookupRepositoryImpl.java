@@ -0,0 +1,32 @@
+package io.github.akuniutka.user.repository;
+
+import io.github.akuniutka.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+class UserLookupRepositoryImpl implements UserLookupRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /*
+     * Hibernate's multi-id loader binds all ids not found in the persistence context as a single array parameter,
+     * so on PostgreSQL this is one "WHERE id = ANY(?)" query regardless of the number of ids. No second-level cache
+     * is configured. The transaction keeps the session obtained from the shared EntityManager open until loading
+     * completes.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllByIdsInOrder(final List<UUID> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(User.class)
+                .enableSessionCheck(true)
+                .enableOrderedReturn(true)
+                .multiLoad(ids);
+    }
+}
@@ -2,10 +2,27 @@ package io.github.akuniutka.user.repository;
 
 import io.github.akuniutka.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserFieldsRepository,
+        UserLookupRepository, UserSearchRepository, UserTextSearchRepository {
 
     boolean existsByEmailIgnoreCase(String email);
+
+    /*
+     * A range scan of users_change_id_id_idx: reads only rows changed after the cursor by transactions older than
+     * any transaction still running. Transactions which commit later have ids at or above the snapshot xmin, so they
+     * never fall behind a cursor already returned, however late they commit.
+     */
+    @Query(value = """
+            SELECT * FROM users
+            WHERE (change_id, id) > (:changeId, :id)
+              AND change_id < pg_snapshot_xmin(pg_current_snapshot())::TEXT::BIGINT
+            ORDER BY change_id, id
+            LIMIT :limit""", nativeQuery = true)
+    List<User> findChangedAfter(@Param("changeId") long changeId, @Param("id") UUID id, @Param("limit") int limit);
 }
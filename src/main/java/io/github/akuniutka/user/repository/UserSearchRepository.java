@@ -0,0 +1,15 @@
+package io.github.akuniutka.user.repository;
+
+import io.github.akuniutka.user.dto.UserQuery;
+import io.github.akuniutka.user.entity.User;
+
+import java.util.List;
+
+/**
+ * Filters and sorts users in database. Every supported combination of a filter and a sort order is backed by an
+ * index from {@code db/migration}, and pages are continued by keyset rather than by offset.
+ */
+public interface UserSearchRepository {
+
+    List<User> findPage(UserQuery query, int limit);
+}
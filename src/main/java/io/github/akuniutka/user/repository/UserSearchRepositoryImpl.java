@@ -0,0 +1,116 @@
+package io.github.akuniutka.user.repository;
+
+import io.github.akuniutka.user.dto.UserQuery;
+import io.github.akuniutka.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    /*
+     * Sort keys are the expressions of indexes in db/migration, with id as a tie-breaker, and are formatted with
+     * a table alias. Names are compared in "C" collation, so that prefix filters can be turned into index ranges
+     * (see prefixRange()). UserQuery only lets range filters on the sort key through, so that the index which
+     * gives the order also gives the rows.
+     */
+    private static final Map<String, String> SORT_KEYS = Map.of(
+            "id", "%1$s.id",
+            "registrationDate", "%1$s.registration_date, %1$s.id",
+            "lastName", "%1$s.last_name COLLATE \"C\", %1$s.id",
+            "email", "UPPER(%1$s.email) COLLATE \"C\", %1$s.id"
+    );
+
+    /*
+     * The email prefix is upper-cased by the database, as the index is, since Java and PostgreSQL do not agree
+     * on the upper case of every character (e.g. 'ß'). The upper bound of the range is the upper-cased prefix with
+     * its last code point incremented; code points of surrogates are not valid in PostgreSQL and are skipped.
+     */
+    private static final String EMAIL_FROM = "UPPER(:emailPrefix) COLLATE \"C\"";
+    private static final String EMAIL_TO = "(LEFT(UPPER(:emailPrefix), -1)"
+            + " || CHR(CASE ASCII(RIGHT(UPPER(:emailPrefix), 1)) WHEN 55295 THEN 57344"
+            + " ELSE ASCII(RIGHT(UPPER(:emailPrefix), 1)) + 1 END)) COLLATE \"C\"";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<User> findPage(final UserQuery query, final int limit) {
+        final SqlQuery sqlQuery = buildQuery(query, limit);
+        final Query nativeQuery = entityManager.createNativeQuery(sqlQuery.sql(), User.class);
+        sqlQuery.parameters().forEach(nativeQuery::setParameter);
+        return nativeQuery.getResultList();
+    }
+
+    static SqlQuery buildQuery(final UserQuery query, final int limit) {
+        final StringBuilder sql = new StringBuilder("SELECT u.* FROM users u WHERE TRUE");
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+        if (query.state() != null) {
+            sql.append(" AND u.state = :state");
+            parameters.put("state", query.state().name());
+        }
+        if (query.registeredFrom() != null) {
+            sql.append(" AND u.registration_date >= :registeredFrom");
+            parameters.put("registeredFrom", query.registeredFrom());
+        }
+        if (query.registeredTo() != null) {
+            sql.append(" AND u.registration_date < :registeredTo");
+            parameters.put("registeredTo", query.registeredTo());
+        }
+        if (query.emailPrefix() != null && !query.emailPrefix().isEmpty()) {
+            sql.append(" AND UPPER(u.email) COLLATE \"C\" >= ").append(EMAIL_FROM);
+            // No character is upper-cased to the maximum code point, so a prefix ending with it has no upper bound
+            if (nextPrefix(query.emailPrefix()) != null) {
+                sql.append(" AND UPPER(u.email) COLLATE \"C\" < ").append(EMAIL_TO);
+            }
+            parameters.put("emailPrefix", query.emailPrefix());
+        }
+        if (query.lastNamePrefix() != null && !query.lastNamePrefix().isEmpty()) {
+            prefixRange(sql, parameters, "u.last_name", "lastName", query.lastNamePrefix());
+        }
+        final String sortKey = SORT_KEYS.get(query.sort() == null ? "id" : query.sort());
+        if (query.after() != null) {
+            sql.append(" AND (").append(sortKey.formatted("u")).append(") > (SELECT ")
+                    .append(sortKey.formatted("p")).append(" FROM users p WHERE p.id = :after)");
+            parameters.put("after", query.after());
+        }
+        sql.append(" ORDER BY ").append(sortKey.formatted("u")).append(" LIMIT :limit");
+        parameters.put("limit", limit);
+        return new SqlQuery(sql.toString(), parameters);
+    }
+
+    /*
+     * LIKE 'prefix%' uses an index only when the pattern is known at planning time, which is not the case with
+     * generic plans of prepared statements. A range in "C" collation selects the same rows and always matches the
+     * index: UTF-8 byte order is the order of code points, so all strings with the prefix lie between the prefix
+     * and the prefix with its last code point incremented.
+     */
+    private static void prefixRange(final StringBuilder sql, final Map<String, Object> parameters,
+            final String expression, final String name, final String prefix) {
+        sql.append(" AND ").append(expression).append(" COLLATE \"C\" >= :").append(name).append("From");
+        parameters.put(name + "From", prefix);
+        final String upperBound = nextPrefix(prefix);
+        if (upperBound != null) {
+            sql.append(" AND ").append(expression).append(" COLLATE \"C\" < :").append(name).append("To");
+            parameters.put(name + "To", upperBound);
+        }
+    }
+
+    static String nextPrefix(final String prefix) {
+        final int last = prefix.codePointBefore(prefix.length());
+        if (last == Character.MAX_CODE_POINT) {
+            return null;
+        }
+        final int next = last + 1 == Character.MIN_SURROGATE ? Character.MAX_SURROGATE + 1 : last + 1;
+        return prefix.substring(0, prefix.length() - Character.charCount(last)) + Character.toString(next);
+    }
+
+    record SqlQuery(String sql, Map<String, Object> parameters) {
+
+    }
+}
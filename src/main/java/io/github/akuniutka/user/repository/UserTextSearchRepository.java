@@ -0,0 +1,11 @@
+package io.github.akuniutka.user.repository;
+
+import io.github.akuniutka.user.dto.UserSearchResult;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface UserTextSearchRepository {
+
+    List<UserSearchResult> searchByText(String text, int limit, Duration timeout);
+}
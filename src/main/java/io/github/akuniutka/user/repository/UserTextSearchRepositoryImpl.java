@@ -0,0 +1,63 @@
+package io.github.akuniutka.user.repository;
+
+import io.github.akuniutka.user.dto.UserSearchResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+class UserTextSearchRepositoryImpl implements UserTextSearchRepository {
+
+    /*
+     * "text <% column" holds when some extent of the column is similar enough to the text (see word_similarity()
+     * in pg_trgm docs), so partial names and emails match. Each condition is served by a trigram GIN index from
+     * db/migration, and PostgreSQL combines them in a BitmapOr. Only matching rows are ranked.
+     */
+    static final String SEARCH_SQL = """
+            SELECT u.id, u.first_name, u.last_name, u.email, u.state,
+                   GREATEST(word_similarity(:text, u.first_name), word_similarity(:text, u.last_name),
+                            word_similarity(:text, u.email)) AS score
+            FROM users u
+            WHERE :text <% u.first_name OR :text <% u.last_name OR :text <% u.email
+            ORDER BY score DESC, u.id
+            LIMIT :limit""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /*
+     * The timeout is set with set_config(..., true), i.e. SET LOCAL, so it is enforced by the server with
+     * millisecond precision and ends with the transaction: JDBC query timeouts are whole seconds. A query cancelled
+     * by the timeout surfaces as Spring's QueryTimeoutException.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<UserSearchResult> searchByText(final String text, final int limit, final Duration timeout) {
+        entityManager.createNativeQuery("SELECT set_config('statement_timeout', :timeout, true)")
+                .setParameter("timeout", Long.toString(timeout.toMillis()))
+                .getSingleResult();
+        final List<Tuple> rows = entityManager.createNativeQuery(SEARCH_SQL, Tuple.class)
+                .setParameter("text", text)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(UserTextSearchRepositoryImpl::toSearchResult)
+                .toList();
+    }
+
+    private static UserSearchResult toSearchResult(final Tuple row) {
+        return UserSearchResult.builder()
+                .id(row.get("id", UUID.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .email(row.get("email", String.class))
+                .state(row.get("state", String.class))
+                .score(row.get("score", Number.class).doubleValue())
+                .build();
+    }
+}
@@ -1,8 +1,15 @@
 package io.github.akuniutka.user.service;
 
+import io.github.akuniutka.user.dto.ChangeCursor;
+import io.github.akuniutka.user.dto.UserField;
+import io.github.akuniutka.user.dto.UserQuery;
+import io.github.akuniutka.user.dto.UserSearchQuery;
+import io.github.akuniutka.user.dto.UserSearchResult;
 import io.github.akuniutka.user.entity.User;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public interface UserService {
@@ -11,8 +18,20 @@ public interface UserService {
 
     List<User> findAllUsers();
 
+    List<Map<String, Object>> findAllUsers(Set<UserField> fields);
+
+    List<User> findUsers(UserQuery query);
+
+    List<UserSearchResult> searchUsers(UserSearchQuery query);
+
+    List<User> findChanges(ChangeCursor since, Integer limit);
+
     User getUserById(UUID id);
 
+    Map<String, Object> getUserById(UUID id, Set<UserField> fields);
+
+    Map<UUID, User> findUsersByIds(List<UUID> ids);
+
     User updateUser(User patch);
 
     User deleteUserById(UUID id);
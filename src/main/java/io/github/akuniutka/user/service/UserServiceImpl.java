@@ -1,16 +1,29 @@
 package io.github.akuniutka.user.service;
 
 import io.github.akuniutka.exception.DuplicateEmailException;
+import io.github.akuniutka.exception.InvalidCursorException;
+import io.github.akuniutka.exception.TooManyIdsException;
 import io.github.akuniutka.exception.UserDeletedException;
 import io.github.akuniutka.exception.UserNotFoundException;
+import io.github.akuniutka.user.cache.UserCache;
+import io.github.akuniutka.user.dto.ChangeCursor;
+import io.github.akuniutka.user.dto.UserField;
+import io.github.akuniutka.user.dto.UserQuery;
+import io.github.akuniutka.user.dto.UserSearchQuery;
+import io.github.akuniutka.user.dto.UserSearchResult;
 import io.github.akuniutka.user.entity.User;
+import io.github.akuniutka.user.event.UserEvent;
+import io.github.akuniutka.user.event.UserEventPublisher;
 import io.github.akuniutka.user.repository.UserRepository;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -18,16 +31,25 @@ import java.util.UUID;
 @Slf4j
 public class UserServiceImpl implements UserService {
 
+    static final int MAX_IDS_PER_LOOKUP = 1000;
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int DEFAULT_SEARCH_LIMIT = 20;
+    static final Duration SEARCH_TIMEOUT = Duration.ofMillis(500);
+
     private final UserInitializer initializer;
     private final UserPatcher patcher;
     private final UserRemover remover;
     private final UserRepository repository;
+    private final UserEventPublisher eventPublisher;
+    private final UserCache userCache;
 
     @Override
     public User addUser(@NonNull User user) {
         requireEmailNotYetExist(user.getEmail());
         initializer.initUserProperties(user);
         user = repository.save(user);
+        userCache.evict(user.getId());
+        eventPublisher.publish(UserEvent.Type.CREATED, user);
         log.info("New user added: id = {}", user.getId());
         log.debug("User added = {}", user);
         return user;
@@ -38,19 +60,63 @@ public class UserServiceImpl implements UserService {
         return repository.findAll();
     }
 
+    @Override
+    public List<Map<String, Object>> findAllUsers(@NonNull final Set<UserField> fields) {
+        return repository.findAllFields(fields);
+    }
+
+    @Override
+    public List<User> findUsers(@NonNull final UserQuery query) {
+        // A page after a user who does not exist would come back empty as if there were no more users
+        if (query.after() != null && !repository.existsById(query.after())) {
+            throw new InvalidCursorException(query.after().toString());
+        }
+        return repository.findPage(query, query.limit() == null ? DEFAULT_PAGE_SIZE : query.limit());
+    }
+
+    @Override
+    public List<UserSearchResult> searchUsers(@NonNull final UserSearchQuery query) {
+        return repository.searchByText(query.q(), query.limit() == null ? DEFAULT_SEARCH_LIMIT : query.limit(),
+                SEARCH_TIMEOUT);
+    }
+
+    @Override
+    public List<User> findChanges(@NonNull final ChangeCursor since, final Integer limit) {
+        return repository.findChangedAfter(since.changeId(), since.id(), limit == null ? DEFAULT_PAGE_SIZE : limit);
+    }
+
     @Override
     public User getUserById(@NonNull final UUID id) {
-        return repository.findById(id).orElseThrow(() -> new UserNotFoundException(id));
+        final User user = userCache.get(id, key -> repository.findById(key).orElse(null));
+        if (user == null) {
+            throw new UserNotFoundException(id);
+        }
+        return user;
+    }
+
+    @Override
+    public Map<String, Object> getUserById(@NonNull final UUID id, @NonNull final Set<UserField> fields) {
+        return repository.findFieldsById(id, fields).orElseThrow(() -> new UserNotFoundException(id));
+    }
+
+    @Override
+    public Map<UUID, User> findUsersByIds(@NonNull final List<UUID> ids) {
+        if (ids.size() > MAX_IDS_PER_LOOKUP) {
+            throw new TooManyIdsException(ids.size(), MAX_IDS_PER_LOOKUP);
+        }
+        return userCache.getAll(ids, repository::findAllByIdsInOrder);
     }
 
     @Override
     public User updateUser(@NonNull final User patch) {
-        User user = getUserById(patch.getId());
+        User user = findUserToModify(patch.getId());
         requireNotDeleted(user);
         requireEmailNotYetExistOrEquals(patch.getEmail(), user.getEmail());
         boolean hasChanges = patcher.applyPatchToUser(patch, user);
         if (hasChanges) {
             user = repository.save(user);
+            userCache.evict(user.getId());
+            eventPublisher.publish(UserEvent.Type.UPDATED, user);
             log.info("User updated: id = {}", user.getId());
             log.debug("User updated = {}", user);
         } else {
@@ -62,10 +128,12 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public User deleteUserById(@NonNull final UUID id) {
-        User user = getUserById(id);
+        User user = findUserToModify(id);
         boolean hasChanges = remover.markUserAsDeleted(user);
         if (hasChanges) {
             user = repository.save(user);
+            userCache.evict(user.getId());
+            eventPublisher.publish(UserEvent.Type.DELETED, user);
             log.info("User marked deleted: id = {}", user.getId());
             log.debug("User deleted = {}", user);
         } else {
@@ -75,6 +143,13 @@ public class UserServiceImpl implements UserService {
         return user;
     }
 
+    /*
+     * Users in the cache are shared, so a user to modify is read from the repository.
+     */
+    private User findUserToModify(final UUID id) {
+        return repository.findById(id).orElseThrow(() -> new UserNotFoundException(id));
+    }
+
     private void requireEmailNotYetExist(final String email) {
         if (repository.existsByEmailIgnoreCase(email)) {
             throw new DuplicateEmailException(email);
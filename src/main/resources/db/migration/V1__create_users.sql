@@ -1,3 +1,5 @@
+-- Written with IF NOT EXISTS: the migration is also applied to databases created by the former init script, which
+-- already have these objects.
 CREATE TABLE IF NOT EXISTS users
 (
   id                UUID PRIMARY KEY,
@@ -0,0 +1,2 @@
+-- Trigram operator classes for the text search indexes of V4.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -0,0 +1,17 @@
+-- migration: no-transaction
+-- Filters and sort orders of GET /users, see UserSearchRepositoryImpl. Names are indexed in "C" collation,
+-- so that prefix filters become index ranges.
+-- Indexes are built without blocking writes to users. An index is dropped first, as a build that failed before
+-- leaves an invalid index behind, which IF NOT EXISTS would keep.
+DROP INDEX CONCURRENTLY IF EXISTS users_state_id_idx;
+CREATE INDEX CONCURRENTLY users_state_id_idx ON users (state, id);
+DROP INDEX CONCURRENTLY IF EXISTS users_registration_date_id_idx;
+CREATE INDEX CONCURRENTLY users_registration_date_id_idx ON users (registration_date, id);
+DROP INDEX CONCURRENTLY IF EXISTS users_state_registration_date_id_idx;
+CREATE INDEX CONCURRENTLY users_state_registration_date_id_idx ON users (state, registration_date, id);
+DROP INDEX CONCURRENTLY IF EXISTS users_last_name_id_idx;
+CREATE INDEX CONCURRENTLY users_last_name_id_idx ON users (last_name COLLATE "C", id);
+DROP INDEX CONCURRENTLY IF EXISTS users_state_last_name_id_idx;
+CREATE INDEX CONCURRENTLY users_state_last_name_id_idx ON users (state, last_name COLLATE "C", id);
+DROP INDEX CONCURRENTLY IF EXISTS users_email_prefix_idx;
+CREATE INDEX CONCURRENTLY users_email_prefix_idx ON users ((UPPER(email)) COLLATE "C");
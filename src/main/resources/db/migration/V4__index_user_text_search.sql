@@ -0,0 +1,8 @@
+-- migration: no-transaction
+-- Text search of GET /users/search, see UserTextSearchRepositoryImpl. Built as the indexes of V3 are.
+DROP INDEX CONCURRENTLY IF EXISTS users_first_name_trgm_idx;
+CREATE INDEX CONCURRENTLY users_first_name_trgm_idx ON users USING GIN (first_name gin_trgm_ops);
+DROP INDEX CONCURRENTLY IF EXISTS users_last_name_trgm_idx;
+CREATE INDEX CONCURRENTLY users_last_name_trgm_idx ON users USING GIN (last_name gin_trgm_ops);
+DROP INDEX CONCURRENTLY IF EXISTS users_email_trgm_idx;
+CREATE INDEX CONCURRENTLY users_email_trgm_idx ON users USING GIN (email gin_trgm_ops);
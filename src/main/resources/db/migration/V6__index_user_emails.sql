@@ -0,0 +1,8 @@
+-- migration: no-transaction
+-- Sort by email of GET /users, which the email prefix filter is served with, see UserSearchRepositoryImpl. Built as
+-- the indexes of V3 are. The index of V3 on email alone gives no order to continue pages by and is dropped.
+DROP INDEX CONCURRENTLY IF EXISTS users_email_id_idx;
+CREATE INDEX CONCURRENTLY users_email_id_idx ON users ((UPPER(email)) COLLATE "C", id);
+DROP INDEX CONCURRENTLY IF EXISTS users_state_email_id_idx;
+CREATE INDEX CONCURRENTLY users_state_email_id_idx ON users (state, (UPPER(email)) COLLATE "C", id);
+DROP INDEX CONCURRENTLY IF EXISTS users_email_prefix_idx;
@@ -0,0 +1,13 @@
+-- Position of a user in the change feed of GET /users/changes, see UserRepository.findChangedAfter(): the id of
+-- the transaction which wrote the row last. Set by the database so that no writer can skip it. Rows written before
+-- this migration are placed before all later changes.
+ALTER TABLE users ADD COLUMN change_id BIGINT NOT NULL DEFAULT 0;
+
+CREATE FUNCTION stamp_user_change() RETURNS TRIGGER LANGUAGE plpgsql AS '
+BEGIN
+  NEW.change_id := pg_current_xact_id()::TEXT::BIGINT;
+  RETURN NEW;
+END';
+
+CREATE TRIGGER users_change_id_trg BEFORE INSERT OR UPDATE ON users
+  FOR EACH ROW EXECUTE FUNCTION stamp_user_change();
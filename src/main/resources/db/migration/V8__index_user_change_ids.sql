@@ -0,0 +1,5 @@
+-- migration: no-transaction
+-- Change feed of GET /users/changes, see UserRepository.findChangedAfter(). Built as the indexes of V3 are.
+DROP INDEX CONCURRENTLY IF EXISTS users_change_id_id_idx;
+CREATE INDEX CONCURRENTLY users_change_id_id_idx ON users (change_id, id);
+DROP INDEX CONCURRENTLY IF EXISTS users_modified_id_idx;
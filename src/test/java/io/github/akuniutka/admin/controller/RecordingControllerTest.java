@@ -0,0 +1,96 @@
+package io.github.akuniutka.admin.controller;
+
+import io.github.akuniutka.admin.dto.RecordingDto;
+import io.github.akuniutka.admin.service.RecordingService;
+import io.github.akuniutka.log.InjectLogCaptor;
+import io.github.akuniutka.log.LogCaptor;
+import io.github.akuniutka.log.LogEvents;
+import io.github.akuniutka.log.WithLogCapture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("RecordingController Unit Tests")
+@ExtendWith(MockitoExtension.class)
+@WithLogCapture(RecordingController.class)
+class RecordingControllerTest {
+
+    private static final RecordingDto RUNNING = RecordingDto.builder()
+            .name("bookmark-it")
+            .state("RUNNING")
+            .settings("profile")
+            .startTime(Instant.parse("2026-10-19T10:15:30Z"))
+            .build();
+    private static final RecordingDto STOPPED = RecordingDto.builder()
+            .name("bookmark-it")
+            .state("STOPPED")
+            .settings("profile")
+            .startTime(Instant.parse("2026-10-19T10:15:30Z"))
+            .file("recordings/recording-20261019-102030.jfr")
+            .build();
+
+    @InjectLogCaptor
+    LogCaptor logCaptor;
+
+    @Mock
+    private RecordingService mockRecordingService;
+
+    @InjectMocks
+    private RecordingController controller;
+
+    @DisplayName("""
+            When get the recording,
+            then return the recording state from the service and log
+            """)
+    @Test
+    void whenGetRecording_ThenReturnStateAndLog() {
+        given(mockRecordingService.getRecording()).willReturn(RUNNING);
+
+        final RecordingDto dto = controller.getRecording();
+
+        then(dto).isEqualTo(RUNNING);
+        then(logCaptor.getEvents()).containsExactlyElementsOf(LogEvents.of(
+                "INFO", "Received request for flight recording state"
+        ));
+    }
+
+    @DisplayName("""
+            When start a recording,
+            then pass the settings to the service, return the recording and log
+            """)
+    @Test
+    void whenStartRecording_ThenStartWithSettingsAndLog() {
+        given(mockRecordingService.startRecording("profile")).willReturn(RUNNING);
+
+        final RecordingDto dto = controller.startRecording("profile");
+
+        then(dto).isEqualTo(RUNNING);
+        then(logCaptor.getEvents()).containsExactlyElementsOf(LogEvents.of(
+                "INFO", "Received request to start flight recording: settings = profile"
+        ));
+    }
+
+    @DisplayName("""
+            When stop the recording,
+            then return the recording dumped and log
+            """)
+    @Test
+    void whenStopRecording_ThenReturnRecordingDumpedAndLog() {
+        given(mockRecordingService.stopRecording()).willReturn(STOPPED);
+
+        final RecordingDto dto = controller.stopRecording();
+
+        then(dto).isEqualTo(STOPPED);
+        then(logCaptor.getEvents()).containsExactlyElementsOf(LogEvents.of(
+                "INFO", "Received request to stop flight recording"
+        ));
+    }
+}
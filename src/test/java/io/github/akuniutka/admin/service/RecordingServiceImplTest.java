@@ -0,0 +1,161 @@
+package io.github.akuniutka.admin.service;
+
+import io.github.akuniutka.admin.dto.RecordingDto;
+import io.github.akuniutka.exception.RecordingStateException;
+import io.github.akuniutka.exception.UnknownRecordingSettingsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("RecordingServiceImpl Unit Tests")
+class RecordingServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T10:15:30Z");
+
+    @TempDir
+    private Path directory;
+
+    private RecordingServiceImpl recordingService;
+
+    @BeforeEach
+    void setUp() {
+        recordingService = new RecordingServiceImpl(Clock.fixed(NOW, ZoneOffset.UTC),
+                new MockEnvironment()
+                        .withProperty("jfr.directory", directory.resolve("recordings").toString())
+                        .withProperty("jfr.max-files", "2"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if ("RUNNING".equals(recordingService.getRecording().state())) {
+            recordingService.stopRecording();
+        }
+    }
+
+    @DisplayName("""
+            Given no recording has been started,
+            when get the recording,
+            then return the recording in the NEW state
+            """)
+    @Test
+    void givenNoRecording_WhenGetRecording_ThenReturnNew() {
+
+        final RecordingDto dto = recordingService.getRecording();
+
+        then(dto).isEqualTo(RecordingDto.builder().state("NEW").build());
+    }
+
+    @DisplayName("""
+            When start a recording,
+            then return the recording running with the settings requested
+            """)
+    @Test
+    void whenStartRecording_ThenReturnRunningRecording() {
+
+        final RecordingDto dto = recordingService.startRecording("profile");
+
+        then(dto.name()).isEqualTo(RecordingServiceImpl.RECORDING_NAME);
+        then(dto.state()).isEqualTo("RUNNING");
+        then(dto.settings()).isEqualTo("profile");
+        then(dto.startTime()).isNotNull();
+        then(dto.file()).isNull();
+        then(recordingService.getRecording()).isEqualTo(dto);
+    }
+
+    @DisplayName("""
+            Given a recording is running,
+            when stop the recording,
+            then dump the recording to a file named after the time and forget the recording
+            """)
+    @Test
+    void givenRecordingRunning_WhenStopRecording_ThenDumpToFile() {
+        recordingService.startRecording("default");
+
+        final RecordingDto dto = recordingService.stopRecording();
+
+        final Path file = directory.resolve("recordings").resolve("recording-20261019-101530.jfr");
+        then(dto.state()).isEqualTo("STOPPED");
+        then(dto.file()).isEqualTo(file.toString());
+        then(file).isRegularFile();
+        then(Files.isReadable(file)).isTrue();
+        then(recordingService.getRecording().state()).isEqualTo("NEW");
+    }
+
+    @DisplayName("""
+            Given as many dumps as allowed are kept,
+            when stop the recording,
+            then delete the oldest dump and keep other files
+            """)
+    @Test
+    void givenMaxFilesKept_WhenStopRecording_ThenDeleteOldestDump() throws Exception {
+        final Path recordings = Files.createDirectories(directory.resolve("recordings"));
+        final Path oldest = Files.createFile(recordings.resolve("recording-20261017-080000.jfr"));
+        final Path older = Files.createFile(recordings.resolve("recording-20261018-090000.jfr"));
+        final Path other = Files.createFile(recordings.resolve("notes.txt"));
+        recordingService.startRecording("default");
+
+        recordingService.stopRecording();
+
+        then(oldest).doesNotExist();
+        then(older).exists();
+        then(recordings.resolve("recording-20261019-101530.jfr")).exists();
+        then(other).exists();
+    }
+
+    @DisplayName("""
+            Given a recording is running,
+            when start a recording,
+            then throw an exception
+            """)
+    @Test
+    void givenRecordingRunning_WhenStartRecording_ThenThrowRecordingStateException() {
+        recordingService.startRecording("default");
+
+        final Throwable throwable = catchThrowable(() -> recordingService.startRecording("default"));
+
+        then(throwable)
+                .isInstanceOf(RecordingStateException.class)
+                .hasMessage("Recording already running");
+    }
+
+    @DisplayName("""
+            Given no recording is running,
+            when stop the recording,
+            then throw an exception
+            """)
+    @Test
+    void givenNoRecording_WhenStopRecording_ThenThrowRecordingStateException() {
+
+        final Throwable throwable = catchThrowable(() -> recordingService.stopRecording());
+
+        then(throwable)
+                .isInstanceOf(RecordingStateException.class)
+                .hasMessage("No recording running");
+    }
+
+    @DisplayName("""
+            When start a recording with unknown settings,
+            then throw an exception
+            """)
+    @Test
+    void whenStartRecordingWithUnknownSettings_ThenThrowUnknownRecordingSettingsException() {
+
+        final Throwable throwable = catchThrowable(() -> recordingService.startRecording("../etc/passwd"));
+
+        then(throwable)
+                .isInstanceOf(UnknownRecordingSettingsException.class)
+                .hasMessage("Unknown recording settings '../etc/passwd'");
+    }
+}
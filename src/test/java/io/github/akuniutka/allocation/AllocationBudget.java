@@ -0,0 +1,23 @@
+package io.github.akuniutka.allocation;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails a test when a request measured by {@link AllocationMeter} allocated more bytes than the budget. The first
+ * {@link #warmups()} requests are not checked, so that one-off allocations (class initialization, lazily built
+ * caches) do not count.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@ExtendWith(AllocationBudgetExtension.class)
+public @interface AllocationBudget {
+
+    long bytes();
+
+    int warmups() default 20;
+}
@@ -0,0 +1,83 @@
+package io.github.akuniutka.allocation;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestInstancePostProcessor;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.opentest4j.AssertionFailedError;
+
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.List;
+
+public class AllocationBudgetExtension implements TestInstancePostProcessor, BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create("AllocationMeter");
+    private static final String STORE_KEY = "Meter";
+
+    @Override
+    public void postProcessTestInstance(final Object testInstance, final ExtensionContext context)
+            throws IllegalAccessException {
+        final List<Field> targetFields = AnnotationSupport.findAnnotatedFields(testInstance.getClass(),
+                InjectAllocationMeter.class, field -> field.getType() == AllocationMeter.class,
+                HierarchyTraversalMode.TOP_DOWN);
+        if (targetFields.isEmpty()) {
+            return;
+        }
+        final AllocationMeter meter = new AllocationMeter();
+        for (Field field : targetFields) {
+            field.setAccessible(true);
+            field.set(testInstance, meter);
+        }
+        context.getStore(NAMESPACE).put(STORE_KEY, meter);
+    }
+
+    @Override
+    public void beforeEach(final ExtensionContext context) {
+        Assumptions.assumeTrue(AllocationMeter.isSupported(), "Thread allocation measurement is not supported");
+        getMeter(context).reset();
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        final AllocationBudget budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(),
+                AllocationBudget.class).orElse(null);
+        if (budget == null) {
+            return;
+        }
+        final List<AllocationMeter.Measurement> measurements = getMeter(context).getMeasurements();
+        if (measurements.size() <= budget.warmups()) {
+            throw new AssertionFailedError("Expected more than %d requests to be measured, but got %d"
+                    .formatted(budget.warmups(), measurements.size()));
+        }
+        final AllocationMeter.Measurement worst = measurements.subList(budget.warmups(), measurements.size())
+                .stream()
+                .max(Comparator.comparingLong(AllocationMeter.Measurement::bytes))
+                .orElseThrow();
+        if (worst.bytes() > budget.bytes()) {
+            throw new AssertionFailedError("%s allocated %,d bytes, budget is %,d bytes"
+                    .formatted(worst.request(), worst.bytes(), budget.bytes()));
+        }
+    }
+
+    /*
+     * Fields are injected into the instance of the innermost class, so the meter is looked up in enclosing contexts
+     * as well.
+     */
+    private static AllocationMeter getMeter(ExtensionContext context) {
+        while (context != null) {
+            final AllocationMeter meter = context.getStore(NAMESPACE).get(STORE_KEY, AllocationMeter.class);
+            if (meter != null) {
+                return meter;
+            }
+            context = context.getParent().orElse(null);
+        }
+        throw new IllegalStateException("No field annotated with @InjectAllocationMeter in test class");
+    }
+}
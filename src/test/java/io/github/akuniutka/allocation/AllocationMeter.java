@@ -0,0 +1,60 @@
+package io.github.akuniutka.allocation;
+
+import com.sun.management.ThreadMXBean;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A servlet filter which measures bytes allocated by the thread handling a request, from the moment the request
+ * enters the filter till the response is written. Allocations made by a test to build the request and to check the
+ * response are not counted.
+ */
+public class AllocationMeter extends OncePerRequestFilter {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final List<Measurement> measurements = new ArrayList<>();
+
+    static boolean isSupported() {
+        if (!THREAD_MX_BEAN.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        final long threadId = Thread.currentThread().threadId();
+        final long before = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final long allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - before;
+            final String query = request.getQueryString();
+            measurements.add(new Measurement(request.getMethod() + " " + request.getRequestURI()
+                    + (query == null ? "" : "?" + query), allocated));
+        }
+    }
+
+    public List<Measurement> getMeasurements() {
+        return List.copyOf(measurements);
+    }
+
+    void reset() {
+        measurements.clear();
+    }
+
+    public record Measurement(String request, long bytes) {
+
+    }
+}
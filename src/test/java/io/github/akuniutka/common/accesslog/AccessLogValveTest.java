@@ -0,0 +1,152 @@
+package io.github.akuniutka.common.accesslog;
+
+import org.apache.catalina.Container;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("AccessLogValve Unit Tests")
+class AccessLogValveTest {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(12L);
+    private static final long DB_TIME = TimeUnit.MILLISECONDS.toNanos(5L);
+
+    @TempDir
+    private Path directory;
+
+    private final AccessLogValve valve = new AccessLogValve();
+    private final Request request = mock(Request.class);
+    private final Response response = mock(Response.class);
+
+    @BeforeEach
+    void setUp() {
+        final Map<String, Object> notes = new HashMap<>();
+        willAnswer(invocation -> notes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .given(request).setNote(anyString(), any());
+        given(request.getNote(anyString())).willAnswer(invocation -> notes.get(invocation.getArgument(0)));
+        given(request.getMethod()).willReturn("GET");
+        given(response.getStatus()).willReturn(200);
+        given(response.getBytesWritten(false)).willReturn(245L);
+        final Container container = mock(Container.class);
+        given(container.getDomain()).willReturn("Test");
+        given(container.getMBeanKeyProperties()).willReturn(",context=/");
+        valve.setContainer(container);
+        valve.setDirectory(directory.toString());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        valve.stop();
+        valve.destroy();
+    }
+
+    @DisplayName("""
+            Given a request a handler matched,
+            when the request passes the valve and is logged,
+            then write the route, status, bytes, latency and time the request spent in the database
+            """)
+    @Test
+    void givenMatchedRequest_WhenInvokeAndLog_ThenWriteRecord() throws Exception {
+        given(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)).willReturn("/users/{id}");
+        valve.setNext(new DatabaseWork(DB_TIME));
+        valve.start();
+
+        valve.invoke(request, response);
+        valve.log(request, response, LATENCY);
+        valve.stop();
+
+        final List<String> fields = List.of(Files.readAllLines(directory.resolve("access.log")).getFirst()
+                .split(" "));
+        then(fields.subList(1, 6)).containsExactly("GET", "/users/{id}", "200", "245", "12000");
+        then(Long.parseLong(fields.get(6))).isGreaterThanOrEqualTo(TimeUnit.NANOSECONDS.toMicros(DB_TIME));
+    }
+
+    @DisplayName("""
+            Given an asynchronous request dispatched twice,
+            when the request is logged,
+            then write the time spent in the database by both dispatches
+            """)
+    @Test
+    void givenAsyncRequest_WhenLog_ThenWriteDbTimeOfAllDispatches() throws Exception {
+        valve.setNext(new DatabaseWork(DB_TIME));
+        valve.start();
+
+        valve.invoke(request, response);
+        valve.invoke(request, response);
+        valve.log(request, response, LATENCY);
+        valve.stop();
+
+        final String[] fields = Files.readAllLines(directory.resolve("access.log")).getFirst().split(" ");
+        then(fields[2]).isEqualTo("-");
+        then(Long.parseLong(fields[6])).isGreaterThanOrEqualTo(2L * TimeUnit.NANOSECONDS.toMicros(DB_TIME));
+    }
+
+    @DisplayName("""
+            Given the valve is not started,
+            when log a request,
+            then do nothing
+            """)
+    @Test
+    void givenNotStarted_WhenLog_ThenDoNothing() {
+
+        valve.log(request, response, LATENCY);
+
+        then(directory).isEmptyDirectory();
+        then(valve.getDroppedCount()).isZero();
+    }
+
+    @DisplayName("""
+            Given no request is served by the current thread,
+            when Hibernate executes a statement,
+            then ignore the time
+            """)
+    @Test
+    void givenNoRequest_WhenExecuteStatement_ThenIgnore() {
+        final DbTimeSessionEventListener listener = new DbTimeSessionEventListener();
+
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+
+        then(request.getNote("any")).isNull();
+    }
+
+    private static final class DatabaseWork extends ValveBase {
+
+        private final long nanos;
+
+        private DatabaseWork(final long nanos) {
+            this.nanos = nanos;
+        }
+
+        @Override
+        public void invoke(final Request request, final Response response) {
+            final DbTimeSessionEventListener listener = new DbTimeSessionEventListener();
+            listener.jdbcExecuteStatementStart();
+            final long deadline = System.nanoTime() + nanos;
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            listener.jdbcExecuteStatementEnd();
+        }
+    }
+}
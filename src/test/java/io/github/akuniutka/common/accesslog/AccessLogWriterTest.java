@@ -0,0 +1,177 @@
+package io.github.akuniutka.common.accesslog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("AccessLogWriter Unit Tests")
+class AccessLogWriterTest {
+
+    private static final long TIMESTAMP = Instant.parse("2026-10-19T10:15:30.123Z").toEpochMilli();
+    private static final String FILE_NAME = "access.log";
+
+    @TempDir
+    private Path directory;
+
+    private AccessLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @DisplayName("""
+            When append records and stop,
+            then write the records as lines and truncate the file to the size written
+            """)
+    @Test
+    void whenAppendAndStop_ThenWriteLinesAndTruncateFile() throws Exception {
+        writer = start(64 * 1024, 3, 16);
+
+        writer.append(TIMESTAMP, "GET", "/users/{id}", 200, 245L, micros(1_834L), micros(912L));
+        writer.append(TIMESTAMP + 1_001L, "POST", "/users", 409, 0L, 999L, 0L);
+        writer.stop();
+
+        then(Files.readAllLines(directory.resolve(FILE_NAME))).containsExactly(
+                "2026-10-19T10:15:30.123Z GET /users/{id} 200 245 1834 912",
+                "2026-10-19T10:15:31.124Z POST /users 409 0 0 0");
+    }
+
+    @DisplayName("""
+            When append a record with fields which would break the format,
+            then replace bad characters, cut long fields and write dashes for missing and negative values
+            """)
+    @Test
+    void whenAppendBadFields_ThenSanitize() throws Exception {
+        writer = start(64 * 1024, 3, 16);
+
+        writer.append(TIMESTAMP, "GE T", "/users/Ёж\n" + "x".repeat(300), 200, -1L, 0L, 0L);
+        writer.append(TIMESTAMP, null, "", 400, 0L, 0L, 0L);
+        writer.stop();
+
+        then(Files.readAllLines(directory.resolve(FILE_NAME))).containsExactly(
+                "2026-10-19T10:15:30.123Z GE?T /users/???" + "x".repeat(246) + " 200 - 0 0",
+                "2026-10-19T10:15:30.123Z - - 400 0 0 0");
+    }
+
+    @DisplayName("""
+            Given the file is full,
+            when append a record,
+            then rotate files keeping at most max files
+            """)
+    @Test
+    void givenFileFull_WhenAppend_ThenRotateFiles() throws Exception {
+        writer = start(AccessLogWriter.MAX_RECORD_LENGTH + 10, 2, 16);
+
+        writer.append(TIMESTAMP, "GET", "/first", 200, 0L, 0L, 0L);
+        writer.append(TIMESTAMP, "GET", "/second", 200, 0L, 0L, 0L);
+        writer.append(TIMESTAMP, "GET", "/third", 200, 0L, 0L, 0L);
+        writer.stop();
+
+        try (var files = Files.list(directory)) {
+            then(files.map(path -> path.getFileName().toString()).toList())
+                    .containsExactlyInAnyOrder(FILE_NAME, FILE_NAME + ".1");
+        }
+        then(Files.readString(directory.resolve(FILE_NAME + ".1"))).contains("/second").doesNotContain("/first");
+        then(Files.readString(directory.resolve(FILE_NAME))).contains("/third");
+    }
+
+    @DisplayName("""
+            Given a file is left by a previous run,
+            when start,
+            then rotate the file and start a new one
+            """)
+    @Test
+    void givenFileLeftByPreviousRun_WhenStart_ThenRotate() throws Exception {
+        Files.writeString(directory.resolve(FILE_NAME), "previous\n");
+
+        writer = start(64 * 1024, 3, 16);
+        writer.stop();
+
+        then(Files.readAllLines(directory.resolve(FILE_NAME + ".1"))).containsExactly("previous");
+        then(Files.size(directory.resolve(FILE_NAME))).isZero();
+    }
+
+    @DisplayName("""
+            Given the buffer is full,
+            when append a record,
+            then drop it without blocking and count it
+            """)
+    @Test
+    void givenBufferFull_WhenAppend_ThenDrop() throws Exception {
+        writer = new AccessLogWriter(directory, FILE_NAME, 64 * 1024, 3, 2);
+
+        then(writer.append(TIMESTAMP, "GET", "/users", 200, 0L, 0L, 0L)).isTrue();
+        then(writer.append(TIMESTAMP, "GET", "/users", 200, 0L, 0L, 0L)).isTrue();
+        then(writer.append(TIMESTAMP, "GET", "/users", 200, 0L, 0L, 0L)).isFalse();
+
+        then(writer.getDroppedCount()).isEqualTo(1L);
+        writer = null;
+    }
+
+    @DisplayName("""
+            When create a writer with a buffer size which is not a power of two,
+            then throw an exception
+            """)
+    @Test
+    void whenCreateWithBufferSizeNotPowerOfTwo_ThenThrowIllegalArgumentException() {
+
+        final Throwable throwable = catchThrowable(() -> new AccessLogWriter(directory, FILE_NAME, 64 * 1024, 3, 10));
+
+        then(throwable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Buffer size must be a power of two: 10");
+    }
+
+    @DisplayName("""
+            When append records from several threads,
+            then write every record once
+            """)
+    @Test
+    void whenAppendConcurrently_ThenWriteEveryRecordOnce() throws Exception {
+        writer = start(1024 * 1024, 3, 1024);
+        final int threads = 4;
+        final int recordsPerThread = 2_000;
+
+        final List<Thread> producers = IntStream.range(0, threads)
+                .mapToObj(thread -> Thread.ofPlatform().start(() -> {
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        while (!writer.append(TIMESTAMP, "GET", "/t" + thread, 200, i, 0L, 0L)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }))
+                .toList();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        writer.stop();
+
+        final List<String> lines = Files.readAllLines(directory.resolve(FILE_NAME));
+        then(lines).hasSize(threads * recordsPerThread).doesNotHaveDuplicates();
+    }
+
+    private AccessLogWriter start(final long maxFileSize, final int maxFiles, final int bufferSize)
+            throws Exception {
+        final AccessLogWriter newWriter = new AccessLogWriter(directory, FILE_NAME, maxFileSize, maxFiles, bufferSize);
+        newWriter.start();
+        return newWriter;
+    }
+
+    private static long micros(final long micros) {
+        return TimeUnit.MICROSECONDS.toNanos(micros);
+    }
+}
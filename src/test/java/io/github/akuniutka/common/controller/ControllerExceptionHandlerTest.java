@@ -2,6 +2,11 @@ package io.github.akuniutka.common.controller;
 
 import io.github.akuniutka.exception.DtoNotValidException;
 import io.github.akuniutka.exception.DuplicateEmailException;
+import io.github.akuniutka.exception.InvalidCursorException;
+import io.github.akuniutka.exception.RecordingStateException;
+import io.github.akuniutka.exception.TooManyIdsException;
+import io.github.akuniutka.exception.UnknownFieldException;
+import io.github.akuniutka.exception.UnknownRecordingSettingsException;
 import io.github.akuniutka.exception.UserDeletedException;
 import io.github.akuniutka.exception.UserNotFoundException;
 import io.github.akuniutka.log.InjectLogCaptor;
@@ -13,6 +18,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpStatus;
@@ -105,6 +111,114 @@ class ControllerExceptionHandlerTest {
         ));
     }
 
+    @DisplayName("""
+            When handle UnknownFieldException,
+            then log error message and return BAD_REQUEST
+            """)
+    @Test
+    void whenHandleUnknownFieldException_ThenReturnProblemDetailAndLog() {
+        final UnknownFieldException exception = new UnknownFieldException("password");
+
+        final ProblemDetail response = exceptionHandler.handleUnknownFieldException(exception);
+
+        then(response)
+                .hasFieldOrPropertyWithValue("status", HttpStatus.BAD_REQUEST.value())
+                .hasFieldOrPropertyWithValue("detail", "Unknown field 'password'");
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "WARN", "Unknown field 'password'"
+        ));
+    }
+
+    @DisplayName("""
+            When handle UnknownRecordingSettingsException,
+            then log error message and return BAD_REQUEST
+            """)
+    @Test
+    void whenHandleUnknownRecordingSettingsException_ThenReturnProblemDetailAndLog() {
+        final UnknownRecordingSettingsException exception = new UnknownRecordingSettingsException("custom");
+
+        final ProblemDetail response = exceptionHandler.handleUnknownRecordingSettingsException(exception);
+
+        then(response)
+                .hasFieldOrPropertyWithValue("status", HttpStatus.BAD_REQUEST.value())
+                .hasFieldOrPropertyWithValue("detail", "Unknown recording settings 'custom'");
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "WARN", "Unknown recording settings 'custom'"
+        ));
+    }
+
+    @DisplayName("""
+            When handle RecordingStateException,
+            then log error message and return CONFLICT
+            """)
+    @Test
+    void whenHandleRecordingStateException_ThenReturnProblemDetailAndLog() {
+        final RecordingStateException exception = new RecordingStateException("No recording running");
+
+        final ProblemDetail response = exceptionHandler.handleRecordingStateException(exception);
+
+        then(response)
+                .hasFieldOrPropertyWithValue("status", HttpStatus.CONFLICT.value())
+                .hasFieldOrPropertyWithValue("detail", "No recording running");
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "WARN", "No recording running"
+        ));
+    }
+
+    @DisplayName("""
+            When handle TooManyIdsException,
+            then log error message and return BAD_REQUEST
+            """)
+    @Test
+    void whenHandleTooManyIdsException_ThenReturnProblemDetailAndLog() {
+        final TooManyIdsException exception = new TooManyIdsException(1001, 1000);
+
+        final ProblemDetail response = exceptionHandler.handleTooManyIdsException(exception);
+
+        then(response)
+                .hasFieldOrPropertyWithValue("status", HttpStatus.BAD_REQUEST.value())
+                .hasFieldOrPropertyWithValue("detail", "Cannot look up 1001 ids at once, the limit is 1000");
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "WARN", "Cannot look up 1001 ids at once, the limit is 1000"
+        ));
+    }
+
+    @DisplayName("""
+            When handle QueryTimeoutException,
+            then log error message and return SERVICE_UNAVAILABLE
+            """)
+    @Test
+    void whenHandleQueryTimeoutException_ThenReturnProblemDetailAndLog() {
+        final QueryTimeoutException exception = new QueryTimeoutException("Query timed out");
+
+        final ProblemDetail response = exceptionHandler.handleQueryTimeoutException(exception);
+
+        then(response)
+                .hasFieldOrPropertyWithValue("status", HttpStatus.SERVICE_UNAVAILABLE.value())
+                .hasFieldOrPropertyWithValue("detail", "Query took too long. Try a more specific one.");
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "WARN", "Query timed out"
+        ));
+    }
+
+    @DisplayName("""
+            When handle InvalidCursorException,
+            then log error message and return BAD_REQUEST
+            """)
+    @Test
+    void whenHandleInvalidCursorException_ThenReturnProblemDetailAndLog() {
+        final InvalidCursorException exception = new InvalidCursorException("garbage");
+
+        final ProblemDetail response = exceptionHandler.handleInvalidCursorException(exception);
+
+        then(response)
+                .hasFieldOrPropertyWithValue("status", HttpStatus.BAD_REQUEST.value())
+                .hasFieldOrPropertyWithValue("detail", "Invalid cursor 'garbage'");
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "WARN", "Invalid cursor 'garbage'"
+        ));
+    }
+
     @DisplayName("""
             When handle UserNotFoundException,
             then log error message and return NOT_FOUND
@@ -123,6 +237,34 @@ class ControllerExceptionHandlerTest {
         ));
     }
 
+    @DisplayName("""
+            When create exceptions handled routinely,
+            then they have no stack trace
+            """)
+    @Test
+    void whenCreateRoutineExceptions_ThenNoStackTrace() {
+
+        final List<RuntimeException> exceptions = List.of(new UserNotFoundException(ID),
+                new DuplicateEmailException(EMAIL), new UserDeletedException(ID));
+
+        then(exceptions).allSatisfy(exception -> then(exception.getStackTrace()).isEmpty());
+    }
+
+    @DisplayName("""
+            When handle UserNotFoundException more times per second than the limit,
+            then log only as many times as the limit
+            """)
+    @Test
+    void whenHandleUserNotFoundExceptionOverLimit_ThenLogUpToLimit() {
+        final UserNotFoundException exception = new UserNotFoundException(ID);
+
+        for (int i = 0; i <= ControllerExceptionHandler.ROUTINE_ERROR_LOG_LIMIT; i++) {
+            exceptionHandler.handleUserNotFoundException(exception);
+        }
+
+        then(logCaptor.getEvents()).hasSize(ControllerExceptionHandler.ROUTINE_ERROR_LOG_LIMIT);
+    }
+
     @DisplayName("""
             When handle DuplicateEmailException,
             then log error message and return CONFLICT
@@ -0,0 +1,97 @@
+package io.github.akuniutka.common.controller;
+
+import io.github.akuniutka.config.WebConfig;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("InstrumentedJsonHttpMessageConverter Unit Tests")
+class InstrumentedJsonHttpMessageConverterTest {
+
+    private static final String SERIALIZATION_EVENT = "io.github.akuniutka.Serialization";
+
+    @TempDir
+    private Path directory;
+
+    private final InstrumentedJsonHttpMessageConverter converter =
+            new InstrumentedJsonHttpMessageConverter(new WebConfig().objectMapper());
+
+    @DisplayName("""
+            Given a recording is running,
+            when write a list and a map,
+            then write them as JSON and record an event with the element type and row count for each
+            """)
+    @Test
+    void givenRecording_WhenWrite_ThenWriteJsonAndRecordEvents() throws Exception {
+        final MockHttpOutputMessage listMessage = new MockHttpOutputMessage();
+        final MockHttpOutputMessage mapMessage = new MockHttpOutputMessage();
+
+        final List<RecordedEvent> events = record(SERIALIZATION_EVENT, () -> {
+            converter.write(List.of(new Item("a"), new Item("b")), new ParameterizedTypeReference<List<Item>>() {
+            }.getType(), MediaType.APPLICATION_JSON, listMessage);
+            converter.write(Map.of("id", "a"), new ParameterizedTypeReference<Map<String, Object>>() {
+            }.getType(), MediaType.APPLICATION_JSON, mapMessage);
+        });
+
+        then(listMessage.getBodyAsString()).isEqualTo("""
+                [{"name":"a"},{"name":"b"}]""");
+        then(mapMessage.getBodyAsString()).isEqualTo("""
+                {"id":"a"}""");
+        then(events).extracting(event -> event.getString("type")).containsExactly("Item", "Map");
+        then(events).extracting(event -> event.getInt("rowCount")).containsExactly(2, 1);
+    }
+
+    @DisplayName("""
+            Given a recording has the serialization event disabled,
+            when write a body,
+            then write it as JSON and record nothing
+            """)
+    @Test
+    void givenSerializationEventDisabled_WhenWrite_ThenWriteJsonAndRecordNothing() throws Exception {
+        final MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        final List<RecordedEvent> events = record("io.github.akuniutka.Request",
+                () -> converter.write(new Item("a"), Item.class, MediaType.APPLICATION_JSON, message));
+
+        then(message.getBodyAsString()).isEqualTo("""
+                {"name":"a"}""");
+        then(events).isEmpty();
+    }
+
+    private List<RecordedEvent> record(final String eventName, final Write action) throws Exception {
+        final Path file = directory.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.disable(SERIALIZATION_EVENT);
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> SERIALIZATION_EVENT.equals(event.getEventType().getName()))
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface Write {
+
+        void run() throws Exception;
+    }
+
+    record Item(String name) {
+
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.akuniutka.common.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.akuniutka.config.WebConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("ProblemDetailHttpMessageConverter Unit Tests")
+class ProblemDetailHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new WebConfig().objectMapper();
+    private final ProblemDetailHttpMessageConverter converter = new ProblemDetailHttpMessageConverter(objectMapper);
+
+    @DisplayName("""
+            When write a problem detail with a detail and an instance for any status,
+            then write the same bytes as the object mapper
+            """)
+    @ParameterizedTest
+    @EnumSource(HttpStatus.class)
+    void whenWriteProblemDetail_ThenWriteSameBytesAsObjectMapper(final HttpStatus status) throws Exception {
+        final ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, "User does not exist");
+        problemDetail.setInstance(URI.create("/users/92f08b0a-4302-40ff-823d-b9ce18522552"));
+
+        final byte[] bytes = write(problemDetail);
+
+        then(bytes).isEqualTo(objectMapper.writeValueAsBytes(problemDetail));
+    }
+
+    @DisplayName("""
+            When write a problem detail without a detail and an instance,
+            then write the same bytes as the object mapper
+            """)
+    @Test
+    void whenWriteProblemDetailWithoutDetailAndInstance_ThenWriteSameBytesAsObjectMapper() throws Exception {
+        final ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+
+        final byte[] bytes = write(problemDetail);
+
+        then(bytes).isEqualTo(objectMapper.writeValueAsBytes(problemDetail));
+    }
+
+    @DisplayName("""
+            When write a problem detail with special characters in the detail,
+            then write the same bytes as the object mapper
+            """)
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "User with email \"quoted\\\"@mail.com already registered",
+            "\b\t\n\f\r\u0000\u001f\u007f",
+            "Łukasz Żółć 王小明 \u2028\u2029",
+            "emoji 😀 and broken \ud83d",
+            ""
+    })
+    void whenWriteSpecialCharacters_ThenWriteSameBytesAsObjectMapper(final String detail) throws Exception {
+        final ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, detail);
+        problemDetail.setInstance(URI.create("/users?email=%22a%22"));
+
+        final byte[] bytes = write(problemDetail);
+
+        then(bytes).isEqualTo(objectMapper.writeValueAsBytes(problemDetail));
+    }
+
+    @DisplayName("""
+            When write a problem detail with properties, a custom type, a custom title or a non-standard status,
+            then write the same bytes as the object mapper
+            """)
+    @Test
+    void whenWriteCustomProblemDetail_ThenWriteSameBytesAsObjectMapper() throws Exception {
+        final ProblemDetail withProperties = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Bad data");
+        withProperties.setProperty("errors", List.of("must not be blank"));
+        final ProblemDetail withType = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Bad data");
+        withType.setType(URI.create("https://example.com/problems/bad-data"));
+        final ProblemDetail withTitle = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Bad data");
+        withTitle.setTitle("Bad Data");
+        final ProblemDetail withCustomStatus = ProblemDetail.forStatus(499);
+
+        for (ProblemDetail problemDetail : List.of(withProperties, withType, withTitle, withCustomStatus)) {
+
+            final byte[] bytes = write(problemDetail);
+
+            then(bytes).isEqualTo(objectMapper.writeValueAsBytes(problemDetail));
+        }
+    }
+
+    @DisplayName("""
+            When check if can write,
+            then accept problem details as JSON in UTF-8 only
+            """)
+    @Test
+    void whenCheckCanWrite_ThenAcceptProblemDetailsAsJsonInUtf8Only() {
+        then(converter.canWrite(ProblemDetail.class, MediaType.APPLICATION_PROBLEM_JSON)).isTrue();
+        then(converter.canWrite(ProblemDetail.class, MediaType.APPLICATION_JSON)).isTrue();
+        then(converter.canWrite(ProblemDetail.class, null)).isTrue();
+
+        then(converter.canWrite(ProblemDetail.class,
+                MediaType.parseMediaType("application/json;charset=UTF-16"))).isFalse();
+        then(converter.canWrite(ProblemDetail.class, MediaType.APPLICATION_PROBLEM_XML)).isFalse();
+        then(converter.canWrite(String.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @DisplayName("""
+            When check if can read,
+            then refuse
+            """)
+    @Test
+    void whenCheckCanRead_ThenRefuse() {
+        then(converter.canRead(ProblemDetail.class, MediaType.APPLICATION_PROBLEM_JSON)).isFalse();
+    }
+
+    private byte[] write(final ProblemDetail problemDetail) throws Exception {
+        final MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(problemDetail, MediaType.APPLICATION_PROBLEM_JSON, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+}
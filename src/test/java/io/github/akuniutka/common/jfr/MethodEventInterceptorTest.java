@@ -0,0 +1,176 @@
+package io.github.akuniutka.common.jfr;
+
+import io.github.akuniutka.user.TestUser;
+import io.github.akuniutka.user.entity.User;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static io.github.akuniutka.user.TestUser.ID;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("MethodEventInterceptor Unit Tests")
+class MethodEventInterceptorTest {
+
+    private static final String REPOSITORY_EVENT = "io.github.akuniutka.Repository";
+    private static final String MAPPING_EVENT = "io.github.akuniutka.Mapping";
+
+    @TempDir
+    private Path directory;
+
+    private final Lookup repository = proxy(MethodEventInterceptor.forRepository());
+
+    @DisplayName("""
+            Given a recording is running,
+            when call a repository,
+            then record an event with the type, method, user id and row count
+            """)
+    @Test
+    void givenRecording_WhenCallRepository_ThenRecordEvent() throws Exception {
+
+        final List<RecordedEvent> events = record(REPOSITORY_EVENT, () -> repository.findById(ID));
+
+        then(events).singleElement().satisfies(event -> {
+            then(event.getString("type")).isEqualTo("Lookup");
+            then(event.getString("method")).isEqualTo("findById");
+            then(event.getString("userId")).isEqualTo(ID.toString());
+            then(event.getInt("rowCount")).isEqualTo(1);
+        });
+    }
+
+    @DisplayName("""
+            Given a recording is running,
+            when call methods returning different results,
+            then count rows of collections, pages, arrays and optionals and tell other values from rows
+            """)
+    @Test
+    void givenRecording_WhenCallMethodsReturningDifferentResults_ThenCountRows() throws Exception {
+
+        final List<RecordedEvent> events = record(REPOSITORY_EVENT, () -> {
+            repository.findAll();
+            repository.findPage();
+            repository.findArray();
+            repository.findById(UUID.randomUUID());
+            repository.count();
+            repository.save(TestUser.persisted());
+        });
+
+        then(events).extracting(event -> event.getInt("rowCount")).containsExactly(3, 2, 4, 0, -1, 1);
+        then(events.getLast().getString("userId")).isEqualTo(ID.toString());
+    }
+
+    @DisplayName("""
+            Given a recording has the repository event disabled,
+            when call a repository,
+            then record nothing
+            """)
+    @Test
+    void givenRepositoryEventDisabled_WhenCallRepository_ThenRecordNothing() throws Exception {
+
+        final List<RecordedEvent> events = record(MAPPING_EVENT, () -> repository.findById(ID));
+
+        then(events).isEmpty();
+    }
+
+    @DisplayName("""
+            When a call throws an exception,
+            then rethrow it and record nothing
+            """)
+    @Test
+    void whenCallThrows_ThenRethrowAndRecordNothing() throws Exception {
+        final RuntimeException expected = new RuntimeException("Test exception");
+        final Lookup failing = proxy(MethodEventInterceptor.forRepository(), expected);
+
+        final List<RecordedEvent> events = record(REPOSITORY_EVENT,
+                () -> then(catchThrowable(failing::count)).isSameAs(expected));
+
+        then(events).isEmpty();
+    }
+
+    private List<RecordedEvent> record(final String eventName, final Runnable action) throws Exception {
+        final Path file = directory.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.disable(REPOSITORY_EVENT);
+            recording.disable(MAPPING_EVENT);
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static Lookup proxy(final MethodEventInterceptor interceptor) {
+        return proxy(interceptor, null);
+    }
+
+    private static Lookup proxy(final MethodEventInterceptor interceptor, final RuntimeException exception) {
+        final ProxyFactory proxyFactory = new ProxyFactory(new LookupImpl(exception));
+        proxyFactory.addAdvice(interceptor);
+        return (Lookup) proxyFactory.getProxy();
+    }
+
+    interface Lookup {
+
+        Optional<User> findById(UUID id);
+
+        List<User> findAll();
+
+        Slice<User> findPage();
+
+        User[] findArray();
+
+        long count();
+
+        User save(User user);
+    }
+
+    private record LookupImpl(RuntimeException exception) implements Lookup {
+
+        @Override
+        public Optional<User> findById(final UUID id) {
+            return ID.equals(id) ? Optional.of(TestUser.persisted()) : Optional.empty();
+        }
+
+        @Override
+        public List<User> findAll() {
+            return List.of(TestUser.persisted(), TestUser.persisted(), TestUser.persisted());
+        }
+
+        @Override
+        public Slice<User> findPage() {
+            return new PageImpl<>(List.of(TestUser.persisted(), TestUser.persisted()));
+        }
+
+        @Override
+        public User[] findArray() {
+            return new User[4];
+        }
+
+        @Override
+        public long count() {
+            if (exception != null) {
+                throw exception;
+            }
+            return 3L;
+        }
+
+        @Override
+        public User save(final User user) {
+            return user;
+        }
+    }
+}
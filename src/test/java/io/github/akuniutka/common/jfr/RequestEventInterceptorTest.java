@@ -0,0 +1,81 @@
+package io.github.akuniutka.common.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.akuniutka.user.TestUser.ID;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("RequestEventInterceptor Unit Tests")
+class RequestEventInterceptorTest {
+
+    private static final String REQUEST_EVENT = "io.github.akuniutka.Request";
+
+    @TempDir
+    private Path directory;
+
+    private final RequestEventInterceptor interceptor = new RequestEventInterceptor();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/" + ID);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @DisplayName("""
+            Given a recording is running,
+            when a request is handled,
+            then record an event with the method, route, user id and status
+            """)
+    @Test
+    void givenRecording_WhenHandleRequest_ThenRecordEvent() throws Exception {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/users/{id}");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", ID.toString()));
+        response.setStatus(404);
+
+        final List<RecordedEvent> events = record(() -> {
+            interceptor.preHandle(request, response, new Object());
+            interceptor.afterCompletion(request, response, new Object(), null);
+        });
+
+        then(events).singleElement().satisfies(event -> {
+            then(event.getString("method")).isEqualTo("GET");
+            then(event.getString("route")).isEqualTo("/users/{id}");
+            then(event.getString("userId")).isEqualTo(ID.toString());
+            then(event.getInt("status")).isEqualTo(404);
+        });
+    }
+
+    @DisplayName("""
+            Given no recording is running,
+            when a request is handled,
+            then do not create an event
+            """)
+    @Test
+    void givenNoRecording_WhenHandleRequest_ThenNoEventCreated() {
+
+        interceptor.preHandle(request, response, new Object());
+
+        then(request.getAttributeNames().hasMoreElements()).isFalse();
+        interceptor.afterCompletion(request, response, new Object(), null);
+    }
+
+    private List<RecordedEvent> record(final Runnable action) throws Exception {
+        final Path file = directory.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(REQUEST_EVENT).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+}
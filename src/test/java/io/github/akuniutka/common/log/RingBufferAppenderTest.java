@@ -0,0 +1,196 @@
+package io.github.akuniutka.common.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("RingBufferAppender Unit Tests")
+class RingBufferAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+    private final CollectingAppender collector = new CollectingAppender();
+    private final RingBufferAppender appender = new RingBufferAppender();
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(MDC.getMDCAdapter());
+    }
+
+    @AfterEach
+    void tearDown() {
+        collector.release();
+        appender.stop();
+    }
+
+    @DisplayName("""
+            Given the appender is started,
+            when log events,
+            then pass them to the attached appender in order with the MDC captured
+            """)
+    @Test
+    void givenStarted_WhenLog_ThenPassEventsInOrder() throws Exception {
+        start(16, 0);
+        collector.release();
+        MDC.put("requestId", "abc");
+        try {
+            appender.doAppend(event(Level.INFO, "first"));
+            appender.doAppend(event(Level.WARN, "second"));
+        } finally {
+            MDC.remove("requestId");
+        }
+
+        collector.await(2);
+
+        then(collector.events).extracting(ILoggingEvent::getFormattedMessage).containsExactly("first", "second");
+        then(collector.events.getFirst().getMDCPropertyMap()).containsEntry("requestId", "abc");
+        then(appender.getDroppedCount()).isZero();
+    }
+
+    @DisplayName("""
+            Given the buffer is filled up to the discarding threshold,
+            when log events of INFO and WARN,
+            then drop INFO and keep WARN
+            """)
+    @Test
+    void givenBufferAtThreshold_WhenLog_ThenDropInfoAndKeepWarn() {
+        start(8, 4);
+        fill(4);
+
+        appender.doAppend(event(Level.INFO, "dropped"));
+        appender.doAppend(event(Level.WARN, "kept"));
+
+        then(appender.getDroppedCount()).isEqualTo(1);
+    }
+
+    @DisplayName("""
+            Given the buffer is full,
+            when log an ERROR,
+            then drop it without blocking
+            """)
+    @Test
+    void givenBufferFull_WhenLogError_ThenDropWithoutBlocking() {
+        start(8, 0);
+        fill(8);
+
+        appender.doAppend(event(Level.ERROR, "dropped"));
+
+        then(appender.getDroppedCount()).isEqualTo(1);
+    }
+
+    @DisplayName("""
+            Given events have been dropped,
+            when the buffer drains,
+            then report the number of events dropped with a WARN event
+            """)
+    @Test
+    void givenEventsDropped_WhenBufferDrains_ThenReportDropped() throws Exception {
+        start(8, 0);
+        fill(8);
+        appender.doAppend(event(Level.ERROR, "dropped"));
+        appender.doAppend(event(Level.ERROR, "dropped"));
+
+        collector.release();
+
+        collector.await(10);
+        final ILoggingEvent report = collector.events.getLast();
+        then(report.getLevel()).isEqualTo(Level.WARN);
+        then(report.getFormattedMessage()).isEqualTo("2 logging events dropped by appender ASYNC: 2 in total");
+    }
+
+    @DisplayName("""
+            When start with a queue size which is not a power of two,
+            then do not start
+            """)
+    @Test
+    void whenStartWithQueueSizeNotPowerOfTwo_ThenNotStart() {
+        appender.setContext(context);
+        appender.setName("ASYNC");
+        appender.setQueueSize(10);
+        appender.addAppender(collector);
+
+        appender.start();
+
+        then(appender.isStarted()).isFalse();
+    }
+
+    private void start(final int queueSize, final int discardingThreshold) {
+        collector.setContext(context);
+        collector.start();
+        appender.setContext(context);
+        appender.setName("ASYNC");
+        appender.setQueueSize(queueSize);
+        appender.setDiscardingThreshold(discardingThreshold);
+        appender.setReportInterval(0L);
+        appender.addAppender(collector);
+        appender.start();
+    }
+
+    /*
+     * The first event blocks the worker in the collecting appender, the rest stay in the buffer.
+     */
+    private void fill(final int count) {
+        appender.doAppend(event(Level.WARN, "blocker"));
+        collector.awaitBlocked();
+        for (int i = 0; i < count; i++) {
+            appender.doAppend(event(Level.WARN, "filler"));
+        }
+    }
+
+    private LoggingEvent event(final Level level, final String message) {
+        return new LoggingEvent(RingBufferAppenderTest.class.getName(), logger, level, message, null, null);
+    }
+
+    private static final class CollectingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        protected void append(final ILoggingEvent event) {
+            blocked.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        void awaitBlocked() {
+            try {
+                then(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void await(final int count) throws InterruptedException {
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            then(events).hasSize(count);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.akuniutka.common.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("SamplingFilter Unit Tests")
+class SamplingFilterTest {
+
+    private static final String LOGGER = "io.github.akuniutka.user.controller.UserController";
+
+    private final LoggerContext context = new LoggerContext();
+    private final SamplingFilter filter = new SamplingFilter();
+
+    @BeforeEach
+    void setUp() {
+        filter.setContext(context);
+        filter.setLoggerName(LOGGER);
+        filter.setMessagePrefix("Received request");
+        filter.setRate(3);
+        filter.start();
+    }
+
+    @DisplayName("""
+            When events matching the filter come,
+            then let through one in rate events starting from the first
+            """)
+    @Test
+    void whenMatchingEvents_ThenLetThroughOneInRate() {
+        final List<FilterReply> replies = new ArrayList<>();
+
+        for (int i = 0; i < 7; i++) {
+            replies.add(filter.decide(event(LOGGER, Level.INFO, "Received request for users")));
+        }
+
+        then(replies).containsExactly(FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY,
+                FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY, FilterReply.NEUTRAL);
+    }
+
+    @DisplayName("""
+            When events of other loggers, with other messages or above the maximum level come,
+            then leave them to other filters
+            """)
+    @Test
+    void whenNotMatchingEvents_ThenNeutral() {
+        filter.decide(event(LOGGER, Level.INFO, "Received request for users"));
+
+        then(filter.decide(event(LOGGER + "Test", Level.INFO, "Received request"))).isEqualTo(FilterReply.NEUTRAL);
+        then(filter.decide(event("io.github.akuniutka", Level.INFO, "Received request")))
+                .isEqualTo(FilterReply.NEUTRAL);
+        then(filter.decide(event(LOGGER, Level.INFO, "Responded with users"))).isEqualTo(FilterReply.NEUTRAL);
+        then(filter.decide(event(LOGGER, Level.WARN, "Received request"))).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @DisplayName("""
+            Given the logger name is a package,
+            when events of loggers in the package come,
+            then sample them
+            """)
+    @Test
+    void givenLoggerNameIsPackage_WhenEventsOfLoggersInPackage_ThenSample() {
+        final SamplingFilter packageFilter = new SamplingFilter();
+        packageFilter.setContext(context);
+        packageFilter.setLoggerName("io.github.akuniutka.user");
+        packageFilter.setRate(2);
+        packageFilter.start();
+
+        then(packageFilter.decide(event(LOGGER, Level.DEBUG, "any"))).isEqualTo(FilterReply.NEUTRAL);
+        then(packageFilter.decide(event(LOGGER, Level.DEBUG, "any"))).isEqualTo(FilterReply.DENY);
+    }
+
+    @DisplayName("""
+            Given an MDC key and value are set,
+            when events with and without the value in the MDC come,
+            then sample only events with the value
+            """)
+    @Test
+    void givenMdcValueSet_WhenEventsWithAndWithoutValue_ThenSampleOnlyEventsWithValue() {
+        final SamplingFilter mdcFilter = new SamplingFilter();
+        mdcFilter.setContext(context);
+        mdcFilter.setLoggerName("io.github.akuniutka");
+        mdcFilter.setMdcKey("warmUp");
+        mdcFilter.setMdcValue("true");
+        mdcFilter.setMaxLevel("WARN");
+        mdcFilter.setRate(2);
+        mdcFilter.start();
+
+        then(mdcFilter.decide(event(LOGGER, Level.WARN, "any", "true"))).isEqualTo(FilterReply.NEUTRAL);
+        then(mdcFilter.decide(event(LOGGER, Level.INFO, "any", "true"))).isEqualTo(FilterReply.DENY);
+        then(mdcFilter.decide(event(LOGGER, Level.INFO, "any", "false"))).isEqualTo(FilterReply.NEUTRAL);
+        then(mdcFilter.decide(event(LOGGER, Level.INFO, "any", null))).isEqualTo(FilterReply.NEUTRAL);
+        then(mdcFilter.decide(event(LOGGER, Level.ERROR, "any", "true"))).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @DisplayName("""
+            Given an MDC key is set without a value,
+            when start the filter,
+            then do not start it
+            """)
+    @Test
+    void givenMdcKeyWithoutValue_WhenStart_ThenNotStarted() {
+        final SamplingFilter mdcFilter = new SamplingFilter();
+        mdcFilter.setContext(context);
+        mdcFilter.setLoggerName("io.github.akuniutka");
+        mdcFilter.setMdcKey("warmUp");
+
+        mdcFilter.start();
+
+        then(mdcFilter.isStarted()).isFalse();
+    }
+
+    private LoggingEvent event(final String loggerName, final Level level, final String message,
+            final String warmUp) {
+        final LoggingEvent event = event(loggerName, level, message);
+        event.setMDCPropertyMap(warmUp == null ? Map.of() : Map.of("warmUp", warmUp));
+        return event;
+    }
+
+    private LoggingEvent event(final String loggerName, final Level level, final String message) {
+        return new LoggingEvent(SamplingFilterTest.class.getName(), context.getLogger(loggerName), level, message,
+                null, null);
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.akuniutka.common.migration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+@DisplayName("MigrationEngine Integration Tests")
+class MigrationEngineIT {
+
+    // A database of its own, so that the application schema is not touched
+    private static final String URL = "jdbc:tc:postgresql://db:5432/migration_it";
+
+    private final MigrationEngine migrationEngine = new MigrationEngine(List.of("migration/it"));
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(URL);
+        execute(connection, "DROP TABLE IF EXISTS items, schema_history");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @DisplayName("""
+            Given an empty database,
+            when migrate,
+            then apply all migrations in order, including one outside a transaction, and record them
+            """)
+    @Test
+    void givenEmptyDatabase_WhenMigrate_ThenApplyAndRecordAllMigrations() throws Exception {
+
+        final int applied = migrationEngine.migrate(connection);
+
+        then(applied).isEqualTo(2);
+        then(query("SELECT version || ' ' || description || ' ' || transactional FROM schema_history"
+                + " ORDER BY version")).containsExactly("1 create items true", "2 index item names false");
+        then(query("SELECT name FROM items ORDER BY id")).containsExactly("first", "second");
+        then(query("SELECT indisvalid::text FROM pg_index WHERE indexrelid = 'items_name_idx'::regclass"))
+                .containsExactly("true");
+        then(connection.getAutoCommit()).isTrue();
+    }
+
+    @DisplayName("""
+            Given all migrations have been applied,
+            when migrate,
+            then apply nothing
+            """)
+    @Test
+    void givenAllApplied_WhenMigrate_ThenApplyNothing() throws Exception {
+        migrationEngine.migrate(connection);
+
+        final int applied = migrationEngine.migrate(connection);
+
+        then(applied).isZero();
+        then(query("SELECT count(*) FROM schema_history")).containsExactly("2");
+    }
+
+    @DisplayName("""
+            Given a migration has been changed after it was applied,
+            when migrate,
+            then throw an exception
+            """)
+    @Test
+    void givenAppliedMigrationChanged_WhenMigrate_ThenThrowException() throws Exception {
+        migrationEngine.migrate(connection);
+        execute(connection, "UPDATE schema_history SET checksum = checksum + 1 WHERE version = 1");
+
+        thenThrownBy(() -> migrationEngine.migrate(connection))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Migration 1 has been changed after it was applied: V1__create_items.sql");
+    }
+
+    @DisplayName("""
+            Given a migration fails,
+            when migrate,
+            then roll back its changes and do not record it
+            """)
+    @Test
+    void givenMigrationFails_WhenMigrate_ThenRollBackAndDoNotRecord() throws Exception {
+        execute(connection, "CREATE TABLE items (id INTEGER PRIMARY KEY, name VARCHAR(50) NOT NULL)");
+        execute(connection, "INSERT INTO items (id, name) VALUES (1, 'existing')");
+
+        thenThrownBy(() -> migrationEngine.migrate(connection)).isInstanceOf(RuntimeException.class);
+
+        then(query("SELECT count(*) FROM schema_history")).containsExactly("0");
+        then(query("SELECT name FROM items")).containsExactly("existing");
+        then(connection.getAutoCommit()).isTrue();
+    }
+
+    @DisplayName("""
+            Given another instance holds the migration lock,
+            when migrate,
+            then wait for the lock to be released and apply migrations afterwards
+            """)
+    @Test
+    void givenLockHeld_WhenMigrate_ThenWaitForLock() throws Exception {
+        try (Connection otherConnection = DriverManager.getConnection(URL)) {
+            execute(otherConnection, "SELECT pg_advisory_lock(" + MigrationEngine.LOCK_KEY + ")");
+
+            final CompletableFuture<Integer> migration = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return migrationEngine.migrate(connection);
+                } catch (SQLException exception) {
+                    throw new IllegalStateException(exception);
+                }
+            });
+            Thread.sleep(1_000);
+            then(migration).isNotDone();
+
+            execute(otherConnection, "SELECT pg_advisory_unlock(" + MigrationEngine.LOCK_KEY + ")");
+            then(migration.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        }
+    }
+
+    private List<String> query(final String sql) throws SQLException {
+        final List<String> values = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+        }
+        return values;
+    }
+
+    private static void execute(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
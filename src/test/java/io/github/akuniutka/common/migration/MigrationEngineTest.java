@@ -0,0 +1,83 @@
+package io.github.akuniutka.common.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+@DisplayName("MigrationEngine Unit Tests")
+class MigrationEngineTest {
+
+    @DisplayName("""
+            When find migrations,
+            then return migrations from all locations sorted by version
+            """)
+    @Test
+    void whenFindMigrations_ThenReturnMigrationsSortedByVersion() {
+        final MigrationEngine migrationEngine = new MigrationEngine(List.of("migration/valid", "migration/extra"));
+
+        final List<Migration> migrations = migrationEngine.findMigrations();
+
+        then(migrations)
+                .extracting(migration -> migration.script().getFilename())
+                .containsExactly("V1__create_first.sql", "V2__create_second.sql", "V5__create_third.sql",
+                        "V10__index_first.sql");
+    }
+
+    @DisplayName("""
+            Given a location does not exist,
+            when find migrations,
+            then return no migrations
+            """)
+    @Test
+    void givenLocationNotExists_WhenFindMigrations_ThenReturnNoMigrations() {
+        final MigrationEngine migrationEngine = new MigrationEngine(List.of("migration/not-existing"));
+
+        final List<Migration> migrations = migrationEngine.findMigrations();
+
+        then(migrations).isEmpty();
+    }
+
+    @DisplayName("""
+            Given two migrations have the same version,
+            when find migrations,
+            then throw an exception
+            """)
+    @Test
+    void givenDuplicateVersions_WhenFindMigrations_ThenThrowException() {
+        final MigrationEngine migrationEngine = new MigrationEngine(List.of("migration/duplicate"));
+
+        thenThrownBy(migrationEngine::findMigrations)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Duplicate migration version 1: ");
+    }
+
+    @DisplayName("""
+            Given the migrations of the application,
+            when find migrations,
+            then every migration creating an index on an existing table runs outside a transaction
+            and builds the index concurrently
+            """)
+    @Test
+    void givenApplicationMigrations_WhenFindMigrations_ThenIndexesBuiltConcurrently() throws IOException {
+        final MigrationEngine migrationEngine = new MigrationEngine(List.of("db/migration"));
+
+        final List<Migration> migrations = migrationEngine.findMigrations();
+
+        then(migrations).isNotEmpty();
+        for (Migration migration : migrations.subList(1, migrations.size())) {
+            final String script = migration.script().getContentAsString(StandardCharsets.UTF_8);
+            if (script.contains("CREATE INDEX")) {
+                then(migration.transactional()).as(migration.script().getFilename()).isFalse();
+                then(script.lines().filter(line -> line.startsWith("CREATE INDEX")))
+                        .as(migration.script().getFilename())
+                        .allMatch(line -> line.startsWith("CREATE INDEX CONCURRENTLY "));
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.akuniutka.common.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+@DisplayName("Migration Unit Tests")
+class MigrationTest {
+
+    @DisplayName("""
+            When create a migration from a script,
+            then take the version and the description from the file name and run it in a transaction
+            """)
+    @Test
+    void whenCreateMigration_ThenParseFileNameAndRunInTransaction() {
+
+        final Migration migration = Migration.of(script("V12__index_user_names.sql", "CREATE INDEX a ON b (c);\n"));
+
+        then(migration.version()).isEqualTo(12);
+        then(migration.description()).isEqualTo("index user names");
+        then(migration.transactional()).isTrue();
+    }
+
+    @DisplayName("""
+            Given a script starts with the no-transaction directive,
+            when create a migration,
+            then run it outside a transaction
+            """)
+    @Test
+    void givenNoTransactionDirective_WhenCreateMigration_ThenRunOutsideTransaction() {
+
+        final Migration migration = Migration.of(script("V3__index.sql", """
+                -- migration: no-transaction
+                CREATE INDEX CONCURRENTLY a ON b (c);
+                """));
+
+        then(migration.transactional()).isFalse();
+    }
+
+    @DisplayName("""
+            Given the no-transaction directive is not on the first line,
+            when create a migration,
+            then run it in a transaction
+            """)
+    @Test
+    void givenDirectiveNotOnFirstLine_WhenCreateMigration_ThenRunInTransaction() {
+
+        final Migration migration = Migration.of(script("V3__index.sql", """
+                CREATE INDEX a ON b (c);
+                -- migration: no-transaction
+                """));
+
+        then(migration.transactional()).isTrue();
+    }
+
+    @DisplayName("""
+            When create migrations from the same script with different line endings,
+            then the checksums are equal, and differ from the checksum of a changed script
+            """)
+    @Test
+    void whenCreateMigrationsWithDifferentLineEndings_ThenChecksumsEqual() {
+
+        final Migration unix = Migration.of(script("V1__a.sql", "SELECT 1;\nSELECT 2;\n"));
+        final Migration windows = Migration.of(script("V1__a.sql", "SELECT 1;\r\nSELECT 2;\r\n"));
+        final Migration changed = Migration.of(script("V1__a.sql", "SELECT 1;\nSELECT 3;\n"));
+
+        then(windows.checksum()).isEqualTo(unix.checksum());
+        then(changed.checksum()).isNotEqualTo(unix.checksum());
+    }
+
+    @DisplayName("""
+            Given a file name does not follow the naming convention,
+            when create a migration,
+            then throw an exception
+            """)
+    @ParameterizedTest
+    @ValueSource(strings = {"schema.sql", "V1_create.sql", "V__create.sql", "v1__create.sql", "V1__create.txt",
+            "V1__create-users.sql", "V1234567890__create.sql"})
+    void givenInvalidFileName_WhenCreateMigration_ThenThrowException(final String fileName) {
+
+        thenThrownBy(() -> Migration.of(script(fileName, "SELECT 1;")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Invalid migration file name: " + fileName);
+    }
+
+    private static Resource script(final String fileName, final String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+
+            @Override
+            public String getFilename() {
+                return fileName;
+            }
+        };
+    }
+}
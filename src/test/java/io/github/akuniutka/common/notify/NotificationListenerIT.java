@@ -0,0 +1,62 @@
+package io.github.akuniutka.common.notify;
+
+import io.github.akuniutka.config.ApplicationConfig;
+import io.github.akuniutka.user.event.UserEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+import org.springframework.test.web.servlet.assertj.MvcTestResult;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("NotificationListener Integration Tests")
+@SpringJUnitWebConfig(ApplicationConfig.class)
+class NotificationListenerIT {
+
+    private static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration RETRY_INTERVAL = Duration.ofMillis(200);
+
+    @Autowired
+    private NotificationPublisher notificationPublisher;
+
+    @Autowired
+    private NotificationListener notificationListener;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @DisplayName("""
+            Given a client subscribed to user events,
+            when a notification is published to the user events channel,
+            then the listener receives it and the client gets it as an event
+            """)
+    @Test
+    void givenClientSubscribed_WhenPublishNotification_ThenClientGetsEvent() throws Exception {
+        final String payload = """
+                {"type":"DELETED","id":"%s"}""".formatted(UUID.randomUUID());
+        final MvcTestResult response = MockMvcTester.from(webApplicationContext)
+                .get()
+                .uri("/users/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .asyncExchange();
+
+        /*
+         * The listener connects in background, so notifications published before it has issued LISTEN are lost.
+         */
+        final long deadline = System.nanoTime() + DELIVERY_TIMEOUT.toNanos();
+        while (!response.getResponse().getContentAsString().contains(payload) && System.nanoTime() < deadline) {
+            notificationPublisher.publish(UserEvent.CHANNEL, payload);
+            Thread.sleep(RETRY_INTERVAL);
+        }
+
+        then(notificationListener.isRunning()).isTrue();
+        then(response.getResponse().getContentAsString()).contains("data:" + payload + "\n\n");
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.akuniutka.common.notify;
+
+import org.assertj.core.api.BDDAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+@DisplayName("NotificationListener Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class NotificationListenerTest {
+
+    private static final String CHANNEL = "test_events";
+    private static final Duration RECONNECT_DELAY = Duration.ofMillis(10);
+    private static final long TIMEOUT_MILLIS = 5_000L;
+
+    @Mock
+    private NotificationHandler mockHandler;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private Statement mockStatement;
+
+    @Mock
+    private PGConnection mockPgConnection;
+
+    private NotificationListener listener;
+
+    @AfterEach
+    void tearDown() {
+        if (listener != null) {
+            listener.stop();
+        }
+    }
+
+    @DisplayName("""
+            Given a training run,
+            when create the listener,
+            then do not let the application context start it
+            """)
+    @Test
+    void givenTrainingRun_WhenCreate_ThenNotAutoStartup() {
+
+        listener = new NotificationListener(new MockEnvironment().withProperty("startup.training-run", "true"),
+                List.of());
+
+        BDDAssertions.then(listener.isAutoStartup()).isFalse();
+    }
+
+    @DisplayName("""
+            Given not a training run,
+            when create the listener,
+            then let the application context start it
+            """)
+    @Test
+    void givenNotTrainingRun_WhenCreate_ThenAutoStartup() {
+
+        listener = new NotificationListener(new MockEnvironment(), List.of());
+
+        BDDAssertions.then(listener.isAutoStartup()).isTrue();
+    }
+
+    @DisplayName("""
+            Given the first connection attempt fails,
+            when the listener connects at the next attempt,
+            then let handlers know notifications might have been lost and that it listens
+            """)
+    @Test
+    void givenFirstConnectFails_WhenConnected_ThenReconnectAndConnectHandlers() throws Exception {
+        givenConnectionListens();
+        final AtomicInteger attempts = new AtomicInteger();
+        listener = new NotificationListener(List.of(mockHandler), () -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new SQLException("Connection refused");
+            }
+            return mockConnection;
+        }, RECONNECT_DELAY);
+
+        listener.start();
+
+        final InOrder inOrder = inOrder(mockHandler);
+        inOrder.verify(mockHandler, timeout(TIMEOUT_MILLIS)).onReconnect();
+        inOrder.verify(mockHandler, timeout(TIMEOUT_MILLIS)).onConnect();
+    }
+
+    @DisplayName("""
+            Given the first connection attempt succeeds,
+            when the listener connects,
+            then let handlers know it listens and do not report lost notifications
+            """)
+    @Test
+    void givenFirstConnectSucceeds_WhenConnected_ThenConnectHandlersOnly() throws Exception {
+        givenConnectionListens();
+        listener = new NotificationListener(List.of(mockHandler), () -> mockConnection, RECONNECT_DELAY);
+
+        listener.start();
+
+        then(mockHandler).should(timeout(TIMEOUT_MILLIS)).onConnect();
+        then(mockHandler).should(never()).onReconnect();
+    }
+
+    private void givenConnectionListens() throws SQLException {
+        given(mockHandler.getChannel()).willReturn(CHANNEL);
+        given(mockConnection.createStatement()).willReturn(mockStatement);
+        given(mockConnection.unwrap(PGConnection.class)).willReturn(mockPgConnection);
+        given(mockPgConnection.getNotifications(anyInt())).willReturn(null);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.akuniutka.common.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("BeanTimingApplicationStartup Unit Tests")
+class BeanTimingApplicationStartupTest {
+
+    private final BeanTimingApplicationStartup applicationStartup = new BeanTimingApplicationStartup();
+
+    @DisplayName("""
+            Given an application context with the startup set,
+            when refresh the context,
+            then record beans created with the slowest first
+            """)
+    @Test
+    void givenApplicationContext_WhenRefresh_ThenRecordBeansSlowestFirst() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.setApplicationStartup(applicationStartup);
+            context.registerBean("fastBean", Object.class, Object::new);
+            context.registerBean("slowBean", Object.class, () -> {
+                sleep(Duration.ofMillis(50));
+                return new Object();
+            });
+
+            context.refresh();
+        }
+
+        final Map<String, Duration> slowestBeans = applicationStartup.getSlowestBeans(Integer.MAX_VALUE);
+        then(slowestBeans).containsKeys("slowBean", "fastBean");
+        then(slowestBeans.keySet()).first().isEqualTo("slowBean");
+        then(slowestBeans.get("slowBean")).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+    }
+
+    @DisplayName("""
+            Given more beans created than requested,
+            when get the slowest beans,
+            then return as many beans as requested
+            """)
+    @Test
+    void givenMoreBeansThanLimit_WhenGetSlowestBeans_ThenReturnLimitBeans() {
+        for (String beanName : new String[] {"first", "second", "third"}) {
+            applicationStartup.start("spring.beans.instantiate").tag("beanName", beanName).end();
+        }
+
+        then(applicationStartup.getSlowestBeans(2)).hasSize(2);
+    }
+
+    @DisplayName("""
+            When start a step other than bean instantiation,
+            then do not record it
+            """)
+    @Test
+    void whenStartOtherStep_ThenDoNotRecord() {
+
+        final StartupStep step = applicationStartup.start("spring.context.refresh");
+        step.tag("beanName", "notBean").end();
+
+        then(applicationStartup.getSlowestBeans(10)).isEmpty();
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
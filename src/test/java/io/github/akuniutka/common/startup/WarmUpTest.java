@@ -0,0 +1,204 @@
+package io.github.akuniutka.common.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.akuniutka.config.WebConfig;
+import io.github.akuniutka.log.InjectLogCaptor;
+import io.github.akuniutka.log.LogCaptor;
+import io.github.akuniutka.log.LogEvent;
+import io.github.akuniutka.log.WithLogCapture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("WarmUp Unit Tests")
+@WithLogCapture(WarmUp.class)
+class WarmUpTest {
+
+    private static final String TOKEN = "0123456789abcdef0123456789abcdef";
+    private static final String USERS = """
+            [{"id":"92f08b0a-4302-40ff-823d-b9ce18522552"},{"id":"aac0ecd5-6e4d-4a83-a6da-6bc2ed6b3e34"}]""";
+
+    @InjectLogCaptor
+    LogCaptor logCaptor;
+
+    private final ObjectMapper objectMapper = new WebConfig().objectMapper();
+    private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+    private HttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @DisplayName("""
+            Given users are listed,
+            when run a single iteration,
+            then list users in each format, request the users listed by id, search, send invalid writes,
+            mark every request with the token and the request id and report the iteration finished
+            """)
+    @Test
+    void givenUsersListed_WhenRunSingleIteration_ThenSendScenarioAndReportFinished() throws Exception {
+        startServer(200, 0L);
+
+        final WarmUp.Result result = warmUp().run(1, 1, Duration.ofSeconds(10));
+
+        then(result).isEqualTo(new WarmUp.Result(1, 11L, 0L, true));
+        then(List.copyOf(requests).subList(0, 10)).containsExactly(
+                "GET /users?limit=20 application/json",
+                "GET /users?limit=20 application/x-jackson-smile",
+                "GET /users?limit=20 application/cbor",
+                "GET /users/92f08b0a-4302-40ff-823d-b9ce18522552 application/json",
+                "GET /users/92f08b0a-4302-40ff-823d-b9ce18522552?fields=id,email application/json",
+                "GET /users/aac0ecd5-6e4d-4a83-a6da-6bc2ed6b3e34 application/json",
+                "GET /users/aac0ecd5-6e4d-4a83-a6da-6bc2ed6b3e34?fields=id,email application/json",
+                "GET /users?ids=92f08b0a-4302-40ff-823d-b9ce18522552,aac0ecd5-6e4d-4a83-a6da-6bc2ed6b3e34 "
+                        + "application/json",
+                "GET /users/search?q=john application/json",
+                "POST /users {\"firstName\":\"\",\"lastName\":\"\",\"email\":\"not an email\"}");
+        then(List.copyOf(requests).get(10)).matches("PATCH /users/[0-9a-f-]{36} \\{\"email\":\"not an email\"}");
+        then(logCaptor.getEvents()).singleElement()
+                .satisfies(event -> {
+                    then(event.level()).isEqualTo("INFO");
+                    then(event.message()).matches("Warm-up finished in \\d+ ms: iterations = 1, requests = 11, "
+                            + "failures = 0");
+                });
+    }
+
+    @DisplayName("""
+            Given the server responds with INTERNAL_SERVER_ERROR,
+            when run,
+            then request an unknown user instead of users listed and count every response as a failure
+            """)
+    @Test
+    void givenServerError_WhenRun_ThenRequestUnknownUserAndCountFailures() throws Exception {
+        startServer(500, 0L);
+
+        final WarmUp.Result result = warmUp().run(2, 2, Duration.ofSeconds(10));
+
+        then(result).isEqualTo(new WarmUp.Result(2, 18L, 18L, true));
+        then(requests).filteredOn(request -> request.startsWith("GET /users/") && !request.contains("search"))
+                .hasSize(4)
+                .allMatch(request -> request.matches("GET /users/[0-9a-f-]{36}(\\?fields=id,email)? .*"));
+    }
+
+    @DisplayName("""
+            Given the server responds slower than the time budget,
+            when run,
+            then stop when the budget runs out and log a warning
+            """)
+    @Test
+    void givenSlowServer_WhenRun_ThenStopWhenBudgetRunsOut() throws Exception {
+        startServer(200, 200L);
+
+        final WarmUp.Result result = warmUp().run(1_000, 2, Duration.ofMillis(100));
+
+        then(result.finished()).isFalse();
+        then(result.iterations()).isZero();
+        then(result.requests()).isBetween(1L, 4L);
+        then(logCaptor.getEvents()).singleElement()
+                .satisfies(event -> {
+                    then(event.level()).isEqualTo("WARN");
+                    then(event.message()).matches("Warm-up stopped after \\d+ ms: iterations = 0 of 1000, "
+                            + "requests = \\d, failures = 0");
+                });
+    }
+
+    @DisplayName("""
+            Given nothing listens on the port,
+            when run,
+            then stop at the first request and log a warning
+            """)
+    @Test
+    void givenNoServer_WhenRun_ThenStopAndLogWarning() throws Exception {
+        final int port;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = socket.getLocalPort();
+        }
+
+        final WarmUp.Result result = new WarmUp(URI.create("http://127.0.0.1:" + port), TOKEN, objectMapper)
+                .run(1_000, 1, Duration.ofSeconds(10));
+
+        then(result).isEqualTo(new WarmUp.Result(0, 0L, 0L, false));
+        then(logCaptor.getEvents()).extracting(LogEvent::level).containsExactly("WARN", "WARN");
+        then(logCaptor.getEvents().get(0).message()).isEqualTo("Cannot send warm-up request, warm-up is stopped");
+    }
+
+    @DisplayName("""
+            When get the default number of iterations,
+            then return the fewest iterations with as many requests as the C2 compile threshold
+            """)
+    @Test
+    void whenGetDefaultIterations_ThenReturnFewestIterationsReachingCompileThreshold() {
+
+        final int iterations = WarmUp.defaultIterations();
+
+        then(WarmUp.REQUESTS_PER_ITERATION).isEqualTo(47);
+        then((long) iterations * WarmUp.REQUESTS_PER_ITERATION).isGreaterThanOrEqualTo(WarmUp.compileThreshold());
+        then((long) (iterations - 1) * WarmUp.REQUESTS_PER_ITERATION).isLessThan(WarmUp.compileThreshold());
+    }
+
+    private WarmUp warmUp() {
+        return new WarmUp(URI.create("http://127.0.0.1:" + server.getAddress().getPort()), TOKEN, objectMapper);
+    }
+
+    /*
+     * Records each request as its method, URI and either Accept header or body. Requests without the token or the
+     * request id are answered with FORBIDDEN and not recorded.
+     */
+    private void startServer(final int status, final long delayMillis) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                sleep(delayMillis);
+                if (!TOKEN.equals(exchange.getRequestHeaders().getFirst("X-Warm-Up-Token"))
+                        || !"warm-up".equals(exchange.getRequestHeaders().getFirst("X-Request-Id"))) {
+                    exchange.sendResponseHeaders(403, -1);
+                    return;
+                }
+                requests.add(describe(exchange));
+                final byte[] body = status == 200 && isJsonList(exchange)
+                        ? USERS.getBytes(StandardCharsets.UTF_8)
+                        : new byte[0];
+                exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+                exchange.getResponseBody().write(body);
+            }
+        });
+        server.start();
+    }
+
+    private static String describe(final HttpExchange exchange) throws IOException {
+        final String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        return String.join(" ", exchange.getRequestMethod(), exchange.getRequestURI().toString(),
+                body.isEmpty() ? exchange.getRequestHeaders().getFirst("Accept") : body);
+    }
+
+    private static boolean isJsonList(final HttpExchange exchange) {
+        return "/users?limit=20".equals(exchange.getRequestURI().toString())
+                && "application/json".equals(exchange.getRequestHeaders().getFirst("Accept"));
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package io.github.akuniutka.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("BroadcastBuffer Unit Tests")
+class BroadcastBufferTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final BroadcastBuffer<String> buffer = new BroadcastBuffer<>(4, tasks::add);
+
+    @DisplayName("""
+            When create a buffer with capacity not a power of two,
+            then throw an exception
+            """)
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 3, 1000})
+    void whenCreateBufferWithCapacityNotPowerOfTwo_ThenThrowIllegalArgumentException(final int capacity) {
+
+        final Throwable throwable = catchThrowable(() -> new BroadcastBuffer<String>(capacity, Runnable::run));
+
+        then(throwable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Capacity must be a power of two: " + capacity);
+    }
+
+    @DisplayName("""
+            Given subscribers exist,
+            when publish items,
+            then deliver all items published after subscription to every subscriber in order
+            """)
+    @Test
+    void givenSubscribers_WhenPublish_ThenDeliverItemsPublishedAfterSubscriptionInOrder() {
+        final RecordingSubscriber first = new RecordingSubscriber();
+        final RecordingSubscriber second = new RecordingSubscriber();
+        buffer.subscribe(first);
+        buffer.publish("a");
+        buffer.subscribe(second);
+
+        buffer.publish("b");
+        buffer.publish("c");
+        runTasks();
+
+        then(first.items).containsExactly("a", "b", "c");
+        then(second.items).containsExactly("b", "c");
+    }
+
+    @DisplayName("""
+            Given a subscriber has not received items yet,
+            when publish more items,
+            then schedule one delivery task for the subscriber
+            """)
+    @Test
+    void givenDeliveryPending_WhenPublishMore_ThenScheduleOneDeliveryTask() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        buffer.subscribe(subscriber);
+
+        buffer.publish("a");
+        buffer.publish("b");
+
+        then(tasks).hasSize(1);
+        runTasks();
+        then(subscriber.items).containsExactly("a", "b");
+    }
+
+    @DisplayName("""
+            Given a subscriber falls behind by more than the capacity,
+            when it gets to deliver items,
+            then evict the subscriber without delivering items overwritten and keep other subscribers
+            """)
+    @Test
+    void givenSubscriberLapped_WhenDeliver_ThenEvictSubscriber() {
+        final RecordingSubscriber slow = new RecordingSubscriber();
+        final RecordingSubscriber fast = new RecordingSubscriber();
+        buffer.subscribe(slow);
+        buffer.publish("a");
+        final Runnable slowDelivery = tasks.poll();
+        buffer.subscribe(fast);
+        for (String item : List.of("b", "c", "d", "e")) {
+            buffer.publish(item);
+            runTasks();
+        }
+
+        slowDelivery.run();
+
+        then(slow.items).isEmpty();
+        then(slow.evicted).isTrue();
+        then(fast.items).containsExactly("b", "c", "d", "e");
+        then(fast.evicted).isFalse();
+        then(buffer.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @DisplayName("""
+            Given a subscriber fails to handle an item,
+            when publish more items,
+            then cancel the subscription
+            """)
+    @Test
+    void givenSubscriberFails_WhenPublishMore_ThenCancelSubscription() {
+        final List<String> items = new ArrayList<>();
+        buffer.subscribe(new BroadcastBuffer.Subscriber<>() {
+
+            @Override
+            public void onItem(final String item) throws IOException {
+                items.add(item);
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void onEvicted() {
+            }
+        });
+
+        buffer.publish("a");
+        runTasks();
+        buffer.publish("b");
+        runTasks();
+
+        then(items).containsExactly("a");
+        then(buffer.getSubscriberCount()).isZero();
+    }
+
+    @DisplayName("""
+            Given a subscription is cancelled,
+            when publish items,
+            then do not deliver them
+            """)
+    @Test
+    void givenSubscriptionCancelled_WhenPublish_ThenDoNotDeliver() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        buffer.subscribe(subscriber).cancel();
+
+        buffer.publish("a");
+        runTasks();
+
+        then(subscriber.items).isEmpty();
+        then(subscriber.evicted).isFalse();
+    }
+
+    @DisplayName("""
+            When evict all subscribers,
+            then notify each subscriber once and stop delivering items
+            """)
+    @Test
+    void whenEvictAll_ThenNotifySubscribersAndStopDelivering() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        buffer.subscribe(subscriber);
+
+        buffer.evictAll();
+        buffer.evictAll();
+        buffer.publish("a");
+        runTasks();
+
+        then(subscriber.evictions).isEqualTo(1);
+        then(subscriber.items).isEmpty();
+        then(buffer.getSubscriberCount()).isZero();
+    }
+
+    @DisplayName("""
+            Given subscribers on a concurrent executor,
+            when publish many items,
+            then every subscriber receives all of them in order
+            """)
+    @Test
+    void givenConcurrentExecutor_WhenPublishManyItems_ThenEverySubscriberReceivesAllInOrder() throws Exception {
+        final int count = 10_000;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final BroadcastBuffer<Integer> concurrentBuffer = new BroadcastBuffer<>(16_384, executor);
+            final CountDownLatch latch = new CountDownLatch(4);
+            final List<List<Integer>> received = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                final List<Integer> items = new ArrayList<>();
+                received.add(items);
+                concurrentBuffer.subscribe(new BroadcastBuffer.Subscriber<>() {
+
+                    @Override
+                    public void onItem(final Integer item) {
+                        items.add(item);
+                        if (item == count - 1) {
+                            latch.countDown();
+                        }
+                    }
+
+                    @Override
+                    public void onEvicted() {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            for (int i = 0; i < count; i++) {
+                concurrentBuffer.publish(i);
+            }
+
+            then(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            final List<Integer> expected = IntStream.range(0, count).boxed().toList();
+            then(received).allSatisfy(items -> then(items).isEqualTo(expected));
+        }
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    private static class RecordingSubscriber implements BroadcastBuffer.Subscriber<String> {
+
+        private final List<String> items = new ArrayList<>();
+        private boolean evicted;
+        private int evictions;
+
+        @Override
+        public void onItem(final String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onEvicted() {
+            evicted = true;
+            evictions++;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.akuniutka.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("LogThrottle Unit Tests")
+class LogThrottleTest {
+
+    private static final Duration PERIOD = Duration.ofSeconds(1);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final LogThrottle throttle = new LogThrottle(2, PERIOD, nanoTime::get);
+
+    @DisplayName("""
+            When create a throttle with a limit which is not positive,
+            then throw an exception
+            """)
+    @Test
+    void whenCreateWithLimitNotPositive_ThenThrowIllegalArgumentException() {
+
+        final Throwable throwable = catchThrowable(() -> new LogThrottle(0, PERIOD));
+
+        then(throwable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Limit must be positive: 0");
+    }
+
+    @DisplayName("""
+            Given the limit has not been reached in the period,
+            when take a permit,
+            then permit with nothing suppressed
+            """)
+    @Test
+    void givenLimitNotReached_WhenTryAcquire_ThenPermit() {
+
+        then(throttle.tryAcquire()).isZero();
+        then(throttle.tryAcquire()).isZero();
+    }
+
+    @DisplayName("""
+            Given the limit has been reached in the period,
+            when take a permit,
+            then refuse
+            """)
+    @Test
+    void givenLimitReached_WhenTryAcquire_ThenRefuse() {
+        throttle.tryAcquire();
+        throttle.tryAcquire();
+
+        final long result = throttle.tryAcquire();
+
+        then(result).isEqualTo(-1L);
+    }
+
+    @DisplayName("""
+            Given messages have been suppressed in a period,
+            when take a permit in the next period,
+            then permit and report the number of messages suppressed once
+            """)
+    @Test
+    void givenMessagesSuppressed_WhenTryAcquireInNextPeriod_ThenPermitAndReportSuppressed() {
+        for (int i = 0; i < 5; i++) {
+            throttle.tryAcquire();
+        }
+        nanoTime.addAndGet(PERIOD.toNanos());
+
+        final long first = throttle.tryAcquire();
+        final long second = throttle.tryAcquire();
+
+        then(first).isEqualTo(3L);
+        then(second).isZero();
+    }
+}
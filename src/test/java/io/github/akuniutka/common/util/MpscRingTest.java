@@ -0,0 +1,143 @@
+package io.github.akuniutka.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("MpscRing Unit Tests")
+class MpscRingTest {
+
+    private final MpscRing ring = new MpscRing(4);
+    private final String[] items = new String[4];
+
+    @DisplayName("""
+            When create a ring with capacity not a power of two,
+            then throw an exception
+            """)
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 3, 1000})
+    void whenCreateRingWithCapacityNotPowerOfTwo_ThenThrowIllegalArgumentException(final int capacity) {
+
+        final Throwable throwable = catchThrowable(() -> new MpscRing(capacity));
+
+        then(throwable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Capacity must be a power of two: " + capacity);
+    }
+
+    @DisplayName("""
+            Given items have been published,
+            when read the ring,
+            then return items in the order published and count slots until released
+            """)
+    @Test
+    void givenItemsPublished_WhenRead_ThenReturnItemsInOrderPublished() {
+        put("a");
+        put("b");
+
+        final List<String> read = new ArrayList<>();
+        for (int index = ring.peek(); index >= 0; index = ring.peek()) {
+            then(ring.size()).isEqualTo(2 - read.size());
+            read.add(items[index]);
+            ring.release(index);
+        }
+
+        then(read).containsExactly("a", "b");
+        then(ring.size()).isZero();
+    }
+
+    @DisplayName("""
+            Given a slot has been claimed and not published yet,
+            when peek,
+            then return no slot
+            """)
+    @Test
+    void givenSlotClaimedNotPublished_WhenPeek_ThenReturnNoSlot() {
+        final int index = ring.claim();
+
+        final int peeked = ring.peek();
+
+        then(index).isZero();
+        then(peeked).isEqualTo(-1);
+        then(ring.size()).isEqualTo(1);
+    }
+
+    @DisplayName("""
+            Given the ring is full,
+            when claim a slot,
+            then return no slot until the consumer releases one
+            """)
+    @Test
+    void givenRingFull_WhenClaim_ThenReturnNoSlotUntilReleased() {
+        for (int i = 0; i < ring.capacity(); i++) {
+            put("item" + i);
+        }
+
+        then(ring.claim()).isEqualTo(-1);
+        ring.release(ring.peek());
+        then(ring.claim()).isZero();
+    }
+
+    @DisplayName("""
+            Given several producers put items concurrently,
+            when the consumer reads the ring, parking while it is empty,
+            then read every item exactly once
+            """)
+    @Test
+    void givenConcurrentProducers_WhenConsumerReads_ThenReadEveryItemOnce() throws Exception {
+        final MpscRing sharedRing = new MpscRing(64);
+        final int[] values = new int[64];
+        final int producers = 4;
+        final int perProducer = 10_000;
+        final long[] sums = new long[1];
+        final int[] count = new int[1];
+        final Thread consumer = Thread.ofPlatform().start(() -> {
+            while (count[0] < producers * perProducer) {
+                final int index = sharedRing.peek();
+                if (index < 0) {
+                    sharedRing.await();
+                    continue;
+                }
+                sums[0] += values[index];
+                count[0]++;
+                sharedRing.release(index);
+            }
+        });
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                executor.execute(() -> {
+                    for (int i = 1; i <= perProducer; i++) {
+                        int index = sharedRing.claim();
+                        while (index < 0) {
+                            Thread.onSpinWait();
+                            index = sharedRing.claim();
+                        }
+                        values[index] = i;
+                        sharedRing.publish(index);
+                    }
+                });
+            }
+        }
+        consumer.join(TimeUnit.SECONDS.toMillis(10));
+
+        then(consumer.isAlive()).isFalse();
+        then(count[0]).isEqualTo(producers * perProducer);
+        then(sums[0]).isEqualTo((long) producers * perProducer * (perProducer + 1) / 2);
+    }
+
+    private void put(final String item) {
+        final int index = ring.claim();
+        items[index] = item;
+        ring.publish(index);
+    }
+}
@@ -0,0 +1,184 @@
+package io.github.akuniutka.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("SingleFlight Unit Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>(4);
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("""
+            When create a registry with a stripe count which is not a power of two,
+            then throw an exception
+            """)
+    @Test
+    void whenCreateWithStripeCountNotPowerOfTwo_ThenThrowIllegalArgumentException() {
+
+        final Throwable throwable = catchThrowable(() -> new SingleFlight<String, String>(3));
+
+        then(throwable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Stripe count must be a power of two: 3");
+    }
+
+    @DisplayName("""
+            When execute a call,
+            then return its result, count the call executed and unregister it
+            """)
+    @Test
+    void whenExecute_ThenReturnResultAndCountAndUnregister() {
+
+        final String result = singleFlight.execute("key", () -> "value");
+
+        then(result).isEqualTo("value");
+        then(singleFlight.getExecutedCount()).isEqualTo(1);
+        then(singleFlight.getCoalescedCount()).isZero();
+        then(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @DisplayName("""
+            Given a call is in flight,
+            when callers execute calls for the same key,
+            then they get the result of the call in flight without executing their own
+            """)
+    @Test
+    void givenCallInFlight_WhenExecuteForSameKey_ThenShareResult() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger executions = new AtomicInteger();
+        final Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "value";
+        }));
+        then(started.await(5, TimeUnit.SECONDS)).isTrue();
+        final List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                executions.incrementAndGet();
+                return "other";
+            })));
+        }
+        awaitCoalesced(CALLERS);
+
+        release.countDown();
+
+        then(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        for (Future<String> follower : followers) {
+            then(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        then(executions).hasValue(1);
+        then(singleFlight.getExecutedCount()).isEqualTo(1);
+        then(singleFlight.getCoalescedCount()).isEqualTo(CALLERS);
+        then(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @DisplayName("""
+            Given a call is in flight,
+            when the call fails,
+            then callers waiting for it get the same exception
+            """)
+    @Test
+    void givenCallInFlight_WhenCallFails_ThenShareException() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final IllegalStateException failure = new IllegalStateException("Failed");
+        final Future<Throwable> leader = executor.submit(() -> catchThrowable(() ->
+                singleFlight.execute("key", () -> {
+                    started.countDown();
+                    await(release);
+                    throw failure;
+                })));
+        then(started.await(5, TimeUnit.SECONDS)).isTrue();
+        final Future<Throwable> follower = executor.submit(() -> catchThrowable(() ->
+                singleFlight.execute("key", () -> "value")));
+        awaitCoalesced(1);
+
+        release.countDown();
+
+        then(leader.get(5, TimeUnit.SECONDS)).isSameAs(failure);
+        then(follower.get(5, TimeUnit.SECONDS)).isSameAs(failure);
+        then(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @DisplayName("""
+            Given a call has completed,
+            when execute a call for the same key,
+            then execute the call again
+            """)
+    @Test
+    void givenCallCompleted_WhenExecuteForSameKey_ThenExecuteAgain() {
+        singleFlight.execute("key", () -> "first");
+
+        final String result = singleFlight.execute("key", () -> "second");
+
+        then(result).isEqualTo("second");
+        then(singleFlight.getExecutedCount()).isEqualTo(2);
+        then(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    @DisplayName("""
+            Given a call is in flight,
+            when execute a call for another key,
+            then execute it without waiting
+            """)
+    @Test
+    void givenCallInFlight_WhenExecuteForOtherKey_ThenExecuteWithoutWaiting() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            return "value";
+        }));
+        then(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final String result = singleFlight.execute("other", () -> "other value");
+
+        then(result).isEqualTo("other value");
+        release.countDown();
+        then(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    }
+
+    private void awaitCoalesced(final long count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        then(singleFlight.getCoalescedCount()).isEqualTo(count);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
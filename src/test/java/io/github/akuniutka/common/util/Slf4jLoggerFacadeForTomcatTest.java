@@ -0,0 +1,163 @@
+package io.github.akuniutka.common.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.github.akuniutka.log.InjectLogCaptor;
+import io.github.akuniutka.log.LogCaptor;
+import io.github.akuniutka.log.LogEvents;
+import io.github.akuniutka.log.WithLogCapture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("Slf4jLoggerFacadeForTomcat Unit Tests")
+@WithLogCapture(Slf4jLoggerFacadeForTomcatTest.TomcatComponent.class)
+class Slf4jLoggerFacadeForTomcatTest {
+
+    private static final String LOGGER_NAME = TomcatComponent.class.getName();
+
+    @InjectLogCaptor
+    private LogCaptor logCaptor;
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LOGGER_NAME);
+    private Slf4jLoggerFacadeForTomcat facade;
+
+    @BeforeEach
+    void setUp() {
+        logger.setLevel(Level.INFO);
+        facade = new Slf4jLoggerFacadeForTomcat(LOGGER_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.setLevel(null);
+    }
+
+    @DisplayName("""
+            Given a facade created by ServiceLoader,
+            when check levels and log,
+            then report all levels disabled and do nothing
+            """)
+    @Test
+    void givenServiceLoaderInstance_WhenCheckLevelsAndLog_ThenDisabledAndDoNothing() {
+        final Slf4jLoggerFacadeForTomcat serviceLoaderInstance = new Slf4jLoggerFacadeForTomcat();
+
+        serviceLoaderInstance.error("message");
+        serviceLoaderInstance.fatal("message", new RuntimeException());
+
+        then(serviceLoaderInstance.isTraceEnabled()).isFalse();
+        then(serviceLoaderInstance.isDebugEnabled()).isFalse();
+        then(serviceLoaderInstance.isInfoEnabled()).isFalse();
+        then(serviceLoaderInstance.isWarnEnabled()).isFalse();
+        then(serviceLoaderInstance.isErrorEnabled()).isFalse();
+        then(serviceLoaderInstance.isFatalEnabled()).isFalse();
+    }
+
+    @DisplayName("""
+            Given the logger is at INFO,
+            when check levels,
+            then report INFO and above enabled
+            """)
+    @Test
+    void givenLoggerAtInfo_WhenCheckLevels_ThenInfoAndAboveEnabled() {
+        then(facade.isTraceEnabled()).isFalse();
+        then(facade.isDebugEnabled()).isFalse();
+        then(facade.isInfoEnabled()).isTrue();
+        then(facade.isWarnEnabled()).isTrue();
+        then(facade.isErrorEnabled()).isTrue();
+        then(facade.isFatalEnabled()).isTrue();
+    }
+
+    @DisplayName("""
+            Given the level of the logger or of its parent has been changed,
+            when check levels,
+            then report levels according to the new level
+            """)
+    @Test
+    void givenLevelChanged_WhenCheckLevels_ThenReportNewLevel() {
+        final Logger parent = (Logger) LoggerFactory.getLogger(Slf4jLoggerFacadeForTomcatTest.class.getPackageName());
+        final Level parentLevel = parent.getLevel();
+        try {
+            logger.setLevel(Level.DEBUG);
+            then(facade.isDebugEnabled()).isTrue();
+
+            logger.setLevel(null);
+            parent.setLevel(Level.ERROR);
+            then(facade.isWarnEnabled()).isFalse();
+            then(facade.isErrorEnabled()).isTrue();
+        } finally {
+            parent.setLevel(parentLevel);
+        }
+    }
+
+    @DisplayName("""
+            Given the logger is at INFO,
+            when log messages at different levels,
+            then log INFO and above only with FATAL logged as ERROR
+            """)
+    @Test
+    void givenLoggerAtInfo_WhenLog_ThenLogInfoAndAboveOnly() {
+
+        facade.trace("trace");
+        facade.debug("debug", new RuntimeException());
+        facade.info("info");
+        facade.warn("warn", new RuntimeException());
+        facade.error("error");
+        facade.fatal("fatal");
+
+        then(logCaptor.getEvents()).containsExactlyElementsOf(LogEvents.of(
+                "INFO", "info",
+                "WARN", "warn",
+                "ERROR", "error",
+                "ERROR", "fatal"));
+    }
+
+    @DisplayName("""
+            When log a message which is not a string,
+            then turn it into a string only if the event is logged
+            """)
+    @Test
+    void whenLogNonStringMessage_ThenConvertOnlyIfLogged() {
+        final CountingMessage message = new CountingMessage();
+
+        facade.debug(message);
+        facade.debug(message, new RuntimeException());
+        then(message.conversions).hasValue(0);
+
+        facade.info(message);
+        then(logCaptor.getEvents()).containsExactlyElementsOf(LogEvents.of("INFO", "message"));
+        then(message.conversions).hasValue(1);
+    }
+
+    @DisplayName("""
+            When log a message with placeholders,
+            then log it as is
+            """)
+    @Test
+    void whenLogMessageWithPlaceholders_ThenLogAsIs() {
+
+        facade.info("Parameter {} is not set");
+
+        then(logCaptor.getEvents()).containsExactlyElementsOf(LogEvents.of("INFO", "Parameter {} is not set"));
+    }
+
+    static class TomcatComponent {
+    }
+
+    private static final class CountingMessage {
+
+        private final AtomicInteger conversions = new AtomicInteger();
+
+        @Override
+        public String toString() {
+            conversions.incrementAndGet();
+            return "message";
+        }
+    }
+}
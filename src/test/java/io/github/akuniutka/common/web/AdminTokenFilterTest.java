@@ -0,0 +1,88 @@
+package io.github.akuniutka.common.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("AdminTokenFilter Unit Tests")
+class AdminTokenFilterTest {
+
+    private static final String TOKEN = "0123456789abcdef";
+
+    @DisplayName("""
+            When filter a request with the admin token,
+            then pass the request on
+            """)
+    @Test
+    void whenFilterWithToken_ThenPassRequestOn() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/admin/recording");
+        request.addHeader("X-Admin-Token", TOKEN);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        new AdminTokenFilter(TOKEN).doFilter(request, response, filterChain);
+
+        then(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        then(filterChain.getRequest()).isSameAs(request);
+    }
+
+    @DisplayName("""
+            When filter a request without the admin token,
+            then respond with FORBIDDEN and a problem detail and do not pass the request on
+            """)
+    @Test
+    void whenFilterWithoutToken_ThenRespondWithForbidden() throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        new AdminTokenFilter(TOKEN).doFilter(new MockHttpServletRequest("POST", "/admin/recording"), response,
+                filterChain);
+
+        then(response.getStatus()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        then(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        then(response.getContentAsString()).isEqualTo("""
+                {"type":"about:blank","title":"Forbidden","status":403,"detail":"Admin token required"}""");
+        then(filterChain.getRequest()).isNull();
+    }
+
+    @DisplayName("""
+            When filter a request with a wrong admin token,
+            then respond with FORBIDDEN and do not pass the request on
+            """)
+    @Test
+    void whenFilterWithWrongToken_ThenRespondWithForbidden() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/admin/recording");
+        request.addHeader("X-Admin-Token", TOKEN + "0");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        new AdminTokenFilter(TOKEN).doFilter(request, response, filterChain);
+
+        then(response.getStatus()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        then(filterChain.getRequest()).isNull();
+    }
+
+    @DisplayName("""
+            Given no admin token is set,
+            when filter a request with an empty token,
+            then respond with FORBIDDEN and do not pass the request on
+            """)
+    @Test
+    void givenNoToken_WhenFilterWithEmptyToken_ThenRespondWithForbidden() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/recording");
+        request.addHeader("X-Admin-Token", "");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        new AdminTokenFilter("").doFilter(request, response, filterChain);
+
+        then(response.getStatus()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        then(filterChain.getRequest()).isNull();
+    }
+}
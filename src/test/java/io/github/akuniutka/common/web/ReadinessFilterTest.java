@@ -0,0 +1,147 @@
+package io.github.akuniutka.common.web;
+
+import io.github.akuniutka.common.startup.ApplicationReadiness;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("ReadinessFilter Unit Tests")
+class ReadinessFilterTest {
+
+    private final ApplicationReadiness readiness = new ApplicationReadiness();
+    private final ReadinessFilter filter = new ReadinessFilter(readiness);
+
+    @DisplayName("""
+            Given the application is not ready,
+            when filter a request,
+            then respond with SERVICE_UNAVAILABLE and a problem detail asking to retry
+            and do not pass the request on
+            """)
+    @Test
+    void givenNotReady_WhenFilter_ThenRespondWithServiceUnavailable() throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/users"), response, filterChain);
+
+        then(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        then(response.getHeader("Retry-After")).isEqualTo("1");
+        then(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        then(response.getContentAsString()).isEqualTo("""
+                {"type":"about:blank","title":"Service Unavailable","status":503,"detail":"Service is starting up"}""");
+        then(filterChain.getRequest()).isNull();
+    }
+
+    @DisplayName("""
+            Given the application is ready,
+            when filter a request,
+            then pass the request on
+            """)
+    @Test
+    void givenReady_WhenFilter_ThenPassRequestOn() throws Exception {
+        readiness.markReady();
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(request, response, filterChain);
+
+        then(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        then(filterChain.getRequest()).isSameAs(request);
+    }
+
+    @DisplayName("""
+            Given the application is not ready,
+            when filter a request with the warm-up token,
+            then pass the request on
+            """)
+    @Test
+    void givenNotReadyAndWarmUpToken_WhenFilter_ThenPassRequestOn() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+        request.addHeader("X-Warm-Up-Token", readiness.getWarmUpToken());
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final AtomicReference<String> warmUpInMdc = new AtomicReference<>();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                warmUpInMdc.set(MDC.get(ReadinessFilter.WARM_UP_MDC_KEY));
+            }
+        }));
+
+        then(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        then(warmUpInMdc).hasValue("true");
+        then(MDC.get(ReadinessFilter.WARM_UP_MDC_KEY)).isNull();
+    }
+
+    @DisplayName("""
+            Given the application is ready,
+            when filter a request without the warm-up token,
+            then pass the request on without marking it as warm-up in the MDC
+            """)
+    @Test
+    void givenReadyAndNoWarmUpToken_WhenFilter_ThenNotMarkWarmUp() throws Exception {
+        readiness.markReady();
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+        request.addHeader("X-Request-Id", "warm-up");
+        final AtomicReference<String> warmUpInMdc = new AtomicReference<>("unset");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                warmUpInMdc.set(MDC.get(ReadinessFilter.WARM_UP_MDC_KEY));
+            }
+        }));
+
+        then(warmUpInMdc).hasNullValue();
+    }
+
+    @DisplayName("""
+            Given the application is not ready,
+            when filter a request with a wrong warm-up token,
+            then respond with SERVICE_UNAVAILABLE and do not pass the request on
+            """)
+    @Test
+    void givenNotReadyAndWrongWarmUpToken_WhenFilter_ThenRespondWithServiceUnavailable() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+        request.addHeader("X-Warm-Up-Token", new ApplicationReadiness().getWarmUpToken());
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(request, response, filterChain);
+
+        then(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        then(filterChain.getRequest()).isNull();
+    }
+
+    @DisplayName("""
+            Given the application is not ready,
+            when filter a health probe,
+            then pass the request on
+            """)
+    @Test
+    void givenNotReady_WhenFilterHealthProbe_ThenPassRequestOn() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/health/live");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(request, response, filterChain);
+
+        then(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        then(filterChain.getRequest()).isSameAs(request);
+    }
+}
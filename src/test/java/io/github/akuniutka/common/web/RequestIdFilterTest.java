@@ -0,0 +1,122 @@
+package io.github.akuniutka.common.web;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import io.github.akuniutka.common.log.SamplingFilter;
+import io.github.akuniutka.common.startup.ApplicationReadiness;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("RequestIdFilter Unit Tests")
+class RequestIdFilterTest {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @DisplayName("""
+            Given a request has a valid request id,
+            when filter the request,
+            then put the id into the MDC while processing, return it in the response and clear the MDC after
+            """)
+    @Test
+    void givenValidRequestId_WhenFilter_ThenUseIt() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+        request.addHeader(RequestIdFilter.HEADER, "req-42.a_B");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final AtomicReference<String> requestIdInMdc = new AtomicReference<>();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                requestIdInMdc.set(MDC.get(RequestIdFilter.MDC_KEY));
+            }
+        }));
+
+        then(requestIdInMdc).hasValue("req-42.a_B");
+        then(response.getHeader(RequestIdFilter.HEADER)).isEqualTo("req-42.a_B");
+        then(MDC.get(RequestIdFilter.MDC_KEY)).isNull();
+    }
+
+    @DisplayName("""
+            Given a request has no request id or one which is not sane,
+            when filter the request,
+            then generate a new id
+            """)
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "has space", "line\nbreak", "xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx"})
+    void givenNoOrInvalidRequestId_WhenFilter_ThenGenerateNewId(final String header) throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+        if (header != null) {
+            request.addHeader(RequestIdFilter.HEADER, header);
+        }
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        then(response.getHeader(RequestIdFilter.HEADER))
+                .isNotEqualTo(header)
+                .matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+    }
+
+    @DisplayName("""
+            Given a client sends the request id reserved for warm-up,
+            when filter the request and log lines for it,
+            then generate a new id and do not sample the lines
+            """)
+    @Test
+    void givenClientSendsWarmUpRequestId_WhenFilterAndLog_ThenGenerateNewIdAndNotSample() throws Exception {
+        final ApplicationReadiness readiness = new ApplicationReadiness();
+        readiness.markReady();
+        final LoggerContext context = new LoggerContext();
+        final SamplingFilter samplingFilter = new SamplingFilter();
+        samplingFilter.setContext(context);
+        samplingFilter.setLoggerName("io.github.akuniutka");
+        samplingFilter.setMdcKey(ReadinessFilter.WARM_UP_MDC_KEY);
+        samplingFilter.setMdcValue("true");
+        samplingFilter.setMaxLevel("WARN");
+        samplingFilter.setRate(1000);
+        samplingFilter.start();
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+        request.addHeader(RequestIdFilter.HEADER, "warm-up");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final List<FilterReply> replies = new ArrayList<>();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                for (int i = 0; i < 3; i++) {
+                    final LoggingEvent event = new LoggingEvent(RequestIdFilterTest.class.getName(),
+                            context.getLogger("io.github.akuniutka.user.controller.UserController"), Level.WARN,
+                            "DTO validation error", null, null);
+                    event.setMDCPropertyMap(MDC.getCopyOfContextMap());
+                    replies.add(samplingFilter.decide(event));
+                }
+            }
+        }, new ReadinessFilter(readiness)));
+
+        then(response.getHeader(RequestIdFilter.HEADER))
+                .isNotEqualTo("warm-up")
+                .matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+        then(replies).containsOnly(FilterReply.NEUTRAL);
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.akuniutka.config;
+
+import io.github.akuniutka.user.TestUser;
+import io.github.akuniutka.user.TestUserDto;
+import io.github.akuniutka.user.mapper.UserMapper;
+import io.github.akuniutka.user.mapper.UserMapperImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("JfrConfig Unit Tests")
+class JfrConfigTest {
+
+    private final BeanPostProcessor postProcessor = JfrConfig.jfrEventPostProcessor();
+
+    @DisplayName("""
+            When post-process a user mapper,
+            then return a proxy of the mapper which maps the same way
+            """)
+    @Test
+    void whenPostProcessUserMapper_ThenReturnProxyMappingSameWay() {
+
+        final Object bean = postProcessor.postProcessAfterInitialization(new UserMapperImpl(), "userMapperImpl");
+
+        then(AopUtils.isCglibProxy(bean)).isTrue();
+        then(bean).isInstanceOfSatisfying(UserMapper.class,
+                mapper -> then(mapper.mapToDto(TestUser.persisted())).isEqualTo(TestUserDto.base()));
+    }
+
+    @DisplayName("""
+            When post-process other beans,
+            then return them as they are
+            """)
+    @Test
+    void whenPostProcessOtherBean_ThenReturnAsIs() {
+        final Object bean = new Object();
+
+        then(postProcessor.postProcessBeforeInitialization(bean, "bean")).isSameAs(bean);
+        then(postProcessor.postProcessAfterInitialization(bean, "bean")).isSameAs(bean);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.akuniutka.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypesScanner;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("PersistenceConfig Unit Tests")
+class PersistenceConfigTest {
+
+    private final PersistenceConfig persistenceConfig = new PersistenceConfig(new MockEnvironment()
+            .withProperty("jdbc.url", "jdbc:postgresql://localhost:1/not_existing"));
+
+    @DisplayName("""
+            When create a data source,
+            then do not connect to the database until a connection is requested
+            """)
+    @Test
+    void whenCreateDataSource_ThenDoNotConnect() {
+
+        final DataSource dataSource = persistenceConfig.dataSource();
+
+        then(dataSource).isInstanceOfSatisfying(HikariDataSource.class, hikariDataSource -> {
+            then(hikariDataSource.getJdbcUrl()).isEqualTo("jdbc:postgresql://localhost:1/not_existing");
+            then(hikariDataSource.isRunning()).isFalse();
+        });
+        ((HikariDataSource) dataSource).close();
+    }
+
+    @DisplayName("""
+            When get managed types,
+            then return the same types as found by scanning application packages
+            """)
+    @Test
+    void whenGetManagedTypes_ThenReturnSameTypesAsScanning() {
+        final PersistenceManagedTypes scanned = new PersistenceManagedTypesScanner(new DefaultResourceLoader())
+                .scan("io.github.akuniutka");
+
+        final PersistenceManagedTypes managedTypes = persistenceConfig.persistenceManagedTypes();
+
+        then(managedTypes.getManagedClassNames())
+                .containsExactlyInAnyOrderElementsOf(scanned.getManagedClassNames());
+        then(managedTypes.getManagedPackages())
+                .containsExactlyInAnyOrderElementsOf(scanned.getManagedPackages());
+    }
+}
@@ -0,0 +1,286 @@
+package io.github.akuniutka.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.github.akuniutka.common.controller.InstrumentedJsonHttpMessageConverter;
+import io.github.akuniutka.common.controller.ProblemDetailHttpMessageConverter;
+import io.github.akuniutka.user.TestUserDto;
+import io.github.akuniutka.user.controller.UserDtoHttpMessageConverter;
+import io.github.akuniutka.user.dto.UserDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+import org.springframework.test.web.servlet.assertj.MvcTestResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("WebConfig Unit Tests")
+class WebConfigTest {
+
+    private static final String URL = "/users";
+
+    private final WebConfig webConfig = new WebConfig();
+
+    @DisplayName("""
+            When create an object mapper,
+            then the mapper has Blackbird module registered
+            """)
+    @Test
+    void whenCreateObjectMapper_ThenBlackbirdModuleRegistered() {
+
+        final ObjectMapper objectMapper = webConfig.objectMapper();
+
+        then(objectMapper.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+    }
+
+    @DisplayName("""
+            When serialize a user DTO,
+            then return the same JSON as before the mapper was tuned
+            """)
+    @Test
+    void whenSerializeUserDto_ThenReturnSameJson() throws Exception {
+        final ObjectMapper objectMapper = webConfig.objectMapper();
+
+        final String json = objectMapper.writeValueAsString(List.of(TestUserDto.base()));
+
+        then(json).isEqualTo("""
+                [{"id":"92f08b0a-4302-40ff-823d-b9ce18522552","firstName":"John","lastName":"Doe",\
+                "email":"john@mail.com","state":"ACTIVE","registrationDate":"2001-02-03T04:05:06.789012Z"}]""");
+    }
+
+    @DisplayName("""
+            When deserialize a user DTO,
+            then return a correct DTO
+            """)
+    @Test
+    void whenDeserializeUserDto_ThenReturnCorrectDto() throws Exception {
+        final ObjectMapper objectMapper = webConfig.objectMapper();
+
+        final UserDto dto = objectMapper.readValue(objectMapper.writeValueAsString(TestUserDto.base()),
+                UserDto.class);
+
+        then(dto).isEqualTo(TestUserDto.base());
+    }
+
+    @DisplayName("""
+            When serialize a map with an instant,
+            then write the instant as an ISO-8601 string
+            """)
+    @Test
+    void whenSerializeMapWithInstant_ThenWriteInstantAsIsoString() throws Exception {
+        final ObjectMapper objectMapper = webConfig.objectMapper();
+
+        final String json = objectMapper.writeValueAsString(Map.of("registrationDate",
+                TestUserDto.base().registrationDate()));
+
+        then(json).isEqualTo("""
+                {"registrationDate":"2001-02-03T04:05:06.789012Z"}""");
+    }
+
+    @DisplayName("""
+            When serialize a problem detail with properties,
+            then properties are at the top level of JSON
+            """)
+    @Test
+    void whenSerializeProblemDetail_ThenPropertiesAtTopLevel() throws Exception {
+        final ObjectMapper objectMapper = webConfig.objectMapper();
+        final ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Bad data");
+        problemDetail.setProperty("errors", Map.of("email", List.of("must not be blank")));
+
+        final String json = objectMapper.writeValueAsString(problemDetail);
+
+        then(json).isEqualTo("""
+                {"type":"about:blank","title":"Bad Request","status":400,"detail":"Bad data",\
+                "errors":{"email":["must not be blank"]}}""");
+    }
+
+    @DisplayName("""
+            When serialize a user DTO to Smile or CBOR,
+            then it can be deserialized back
+            """)
+    @Test
+    void whenSerializeUserDtoToBinaryFormat_ThenCanDeserializeBack() throws Exception {
+        for (ObjectMapper objectMapper : List.of(webConfig.smileObjectMapper(), webConfig.cborObjectMapper())) {
+
+            final byte[] bytes = objectMapper.writeValueAsBytes(List.of(TestUserDto.base()));
+
+            then(objectMapper.readValue(bytes, UserDto[].class)).containsExactly(TestUserDto.base());
+        }
+    }
+
+    @DisplayName("""
+            Given a list of converters contains JSON, Smile and CBOR converters,
+            when extend the list,
+            then replace the converters with ones using tuned mappers at the same positions
+            and insert the user DTO and problem detail converters before the JSON converter
+            """)
+    @Test
+    void givenConvertersContainJacksonConverters_WhenExtendConverters_ThenReplaceConvertersInPlace() {
+        final List<HttpMessageConverter<?>> converters = new ArrayList<>(List.of(
+                new StringHttpMessageConverter(),
+                new MappingJackson2HttpMessageConverter(),
+                new MappingJackson2SmileHttpMessageConverter(),
+                new MappingJackson2CborHttpMessageConverter()
+        ));
+
+        webConfig.extendMessageConverters(converters);
+
+        then(converters)
+                .extracting(Object::getClass)
+                .containsExactly(
+                        StringHttpMessageConverter.class,
+                        UserDtoHttpMessageConverter.class,
+                        ProblemDetailHttpMessageConverter.class,
+                        InstrumentedJsonHttpMessageConverter.class,
+                        MappingJackson2SmileHttpMessageConverter.class,
+                        MappingJackson2CborHttpMessageConverter.class);
+        then(converters.subList(3, 6)).allSatisfy(converter -> then(converter)
+                .isInstanceOfSatisfying(AbstractJackson2HttpMessageConverter.class,
+                        jacksonConverter -> then(jacksonConverter.getObjectMapper().getRegisteredModuleIds())
+                                .contains(new BlackbirdModule().getTypeId())));
+    }
+
+    @DisplayName("""
+            Given a list of converters contains no Jackson converters,
+            when extend the list,
+            then append user DTO, problem detail, JSON, Smile and CBOR converters in that order
+            """)
+    @Test
+    void givenConvertersContainNoJacksonConverters_WhenExtendConverters_ThenAppendConverters() {
+        final List<HttpMessageConverter<?>> converters = new ArrayList<>(List.of(new StringHttpMessageConverter()));
+
+        webConfig.extendMessageConverters(converters);
+
+        then(converters)
+                .extracting(Object::getClass)
+                .containsExactly(
+                        StringHttpMessageConverter.class,
+                        UserDtoHttpMessageConverter.class,
+                        ProblemDetailHttpMessageConverter.class,
+                        InstrumentedJsonHttpMessageConverter.class,
+                        MappingJackson2SmileHttpMessageConverter.class,
+                        MappingJackson2CborHttpMessageConverter.class);
+    }
+
+    @DisplayName("Content negotiation")
+    @Nested
+    class ContentNegotiationTest {
+
+        private final MockMvcTester mockMvcTester = MockMvcTester.of(new UserDtoController())
+                .withHttpMessageConverters(converters());
+
+        @DisplayName("""
+                When GET accepting any media type,
+                then respond with JSON
+                """)
+        @Test
+        void whenGetAcceptingAnyMediaType_ThenRespondWithJson() {
+
+            final MvcTestResult response = mockMvcTester
+                    .get()
+                    .uri(URL)
+                    .accept(MediaType.ALL)
+                    .exchange();
+
+            then(response)
+                    .hasStatus(HttpStatus.OK)
+                    .hasContentType(MediaType.APPLICATION_JSON);
+        }
+
+        @DisplayName("""
+                When GET accepting Smile or CBOR,
+                then respond with the format requested
+                """)
+        @ParameterizedTest
+        @ValueSource(strings = {"application/x-jackson-smile", "application/cbor"})
+        void whenGetAcceptingBinaryFormat_ThenRespondWithThatFormat(final String mediaType) throws Exception {
+            final ObjectMapper objectMapper = mediaType.endsWith("smile")
+                    ? webConfig.smileObjectMapper()
+                    : webConfig.cborObjectMapper();
+
+            final MvcTestResult response = mockMvcTester
+                    .get()
+                    .uri(URL)
+                    .accept(MediaType.parseMediaType(mediaType))
+                    .exchange();
+
+            then(response)
+                    .hasStatus(HttpStatus.OK)
+                    .hasContentType(mediaType);
+            then(objectMapper.readValue(response.getResponse().getContentAsByteArray(), UserDto.class))
+                    .isEqualTo(TestUserDto.base());
+        }
+
+        @DisplayName("""
+                When POST a body in Smile,
+                then read the body
+                """)
+        @Test
+        void whenPostSmileBody_ThenReadBody() throws Exception {
+            final byte[] body = webConfig.smileObjectMapper().writeValueAsBytes(TestUserDto.base());
+
+            final MvcTestResult response = mockMvcTester
+                    .post()
+                    .uri(URL)
+                    .contentType(MediaType.parseMediaType("application/x-jackson-smile"))
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(body)
+                    .exchange();
+
+            then(response)
+                    .hasStatus(HttpStatus.OK)
+                    .bodyJson().isEqualTo("""
+                            {
+                              "id": "92f08b0a-4302-40ff-823d-b9ce18522552",
+                              "firstName": "John",
+                              "lastName": "Doe",
+                              "email": "john@mail.com",
+                              "state": "ACTIVE",
+                              "registrationDate": "2001-02-03T04:05:06.789012Z"
+                            }
+                            """);
+        }
+
+        private List<HttpMessageConverter<?>> converters() {
+            final List<HttpMessageConverter<?>> converters = new ArrayList<>();
+            webConfig.extendMessageConverters(converters);
+            return converters;
+        }
+    }
+
+    @RestController
+    @RequestMapping(URL)
+    static class UserDtoController {
+
+        @GetMapping
+        public UserDto get() {
+            return TestUserDto.base();
+        }
+
+        @PostMapping
+        public UserDto post(@RequestBody final UserDto dto) {
+            return dto;
+        }
+    }
+}
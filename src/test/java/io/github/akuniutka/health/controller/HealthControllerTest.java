@@ -0,0 +1,78 @@
+package io.github.akuniutka.health.controller;
+
+import io.github.akuniutka.health.dto.HealthDto;
+import io.github.akuniutka.health.service.HealthService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("HealthController Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class HealthControllerTest {
+
+    private static final HealthDto LIVE = new HealthDto("UP", null);
+    private static final HealthDto READY = new HealthDto("UP",
+            Map.of("startup", "UP", "pool", "UP", "database", "UP"));
+    private static final HealthDto NOT_READY = new HealthDto("DOWN",
+            Map.of("startup", "UP", "pool", "UP", "database", "DOWN"));
+
+    @Mock
+    private HealthService mockHealthService;
+
+    @InjectMocks
+    private HealthController controller;
+
+    @DisplayName("""
+            When get liveness,
+            then respond with OK and the liveness from the service
+            """)
+    @Test
+    void whenGetLiveness_ThenRespondWithOkAndLiveness() {
+        given(mockHealthService.getLiveness()).willReturn(LIVE);
+
+        final ResponseEntity<HealthDto> response = controller.getLiveness();
+
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(response.getBody()).isEqualTo(LIVE);
+    }
+
+    @DisplayName("""
+            Given the application is ready,
+            when get readiness,
+            then respond with OK and the readiness from the service
+            """)
+    @Test
+    void givenReady_WhenGetReadiness_ThenRespondWithOkAndReadiness() {
+        given(mockHealthService.getReadiness()).willReturn(READY);
+
+        final ResponseEntity<HealthDto> response = controller.getReadiness();
+
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(response.getBody()).isEqualTo(READY);
+    }
+
+    @DisplayName("""
+            Given the application is not ready,
+            when get readiness,
+            then respond with SERVICE_UNAVAILABLE and the readiness from the service
+            """)
+    @Test
+    void givenNotReady_WhenGetReadiness_ThenRespondWithServiceUnavailableAndReadiness() {
+        given(mockHealthService.getReadiness()).willReturn(NOT_READY);
+
+        final ResponseEntity<HealthDto> response = controller.getReadiness();
+
+        then(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        then(response.getBody()).isEqualTo(NOT_READY);
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.akuniutka.health.service;
+
+import io.github.akuniutka.log.InjectLogCaptor;
+import io.github.akuniutka.log.LogCaptor;
+import io.github.akuniutka.log.LogEvents;
+import io.github.akuniutka.log.WithLogCapture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("DatabaseProbe Unit Tests")
+@ExtendWith(MockitoExtension.class)
+@WithLogCapture(DatabaseProbe.class)
+class DatabaseProbeTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(5);
+
+    @InjectLogCaptor
+    LogCaptor logCaptor;
+
+    @Mock
+    private DatabaseProbe.ConnectionFactory mockConnectionFactory;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private Statement mockStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    @DisplayName("""
+            Given a training run,
+            when create the probe,
+            then do not let the application context start it
+            """)
+    @Test
+    void givenTrainingRun_WhenCreate_ThenNotAutoStartup() {
+
+        final DatabaseProbe probe = new DatabaseProbe(new MockEnvironment()
+                .withProperty("startup.training-run", "true"));
+
+        then(probe.isAutoStartup()).isFalse();
+    }
+
+    @DisplayName("""
+            Given not a training run,
+            when create the probe,
+            then let the application context start it
+            """)
+    @Test
+    void givenNotTrainingRun_WhenCreate_ThenAutoStartup() {
+
+        final DatabaseProbe probe = new DatabaseProbe(new MockEnvironment());
+
+        then(probe.isAutoStartup()).isTrue();
+    }
+
+    @DisplayName("""
+            Given the probe has not run yet,
+            when check if up,
+            then return false
+            """)
+    @Test
+    void givenNotProbed_WhenCheckIfUp_ThenReturnFalse() {
+        final DatabaseProbe probe = new DatabaseProbe(mockConnectionFactory, INTERVAL);
+
+        then(probe.isUp()).isFalse();
+    }
+
+    @DisplayName("""
+            Given the query succeeds,
+            when probe twice,
+            then connect once, run SELECT 1 with a timeout each time, report up and log the first success only
+            """)
+    @Test
+    void givenQuerySucceeds_WhenProbeTwice_ThenReuseConnectionAndReportUp() throws Exception {
+        givenQuerySucceeds();
+        final DatabaseProbe probe = new DatabaseProbe(mockConnectionFactory, INTERVAL);
+
+        probe.probe();
+        probe.probe();
+
+        then(probe.isUp()).isTrue();
+        verify(mockConnectionFactory).getConnection();
+        verify(mockStatement, times(2)).setQueryTimeout(5);
+        verify(mockStatement, times(2)).executeQuery("SELECT 1");
+        then(logCaptor.getEvents()).containsExactlyElementsOf(LogEvents.of(
+                "INFO", "Database probe succeeded"
+        ));
+    }
+
+    @DisplayName("""
+            Given the query fails after a success,
+            when probe,
+            then close the connection, report down and log the failure once
+            """)
+    @Test
+    void givenQueryFailsAfterSuccess_WhenProbe_ThenCloseConnectionAndReportDown() throws Exception {
+        givenQuerySucceeds();
+        final DatabaseProbe probe = new DatabaseProbe(mockConnectionFactory, INTERVAL);
+        probe.probe();
+        willThrow(new SQLException("Connection reset")).given(mockStatement).executeQuery("SELECT 1");
+
+        probe.probe();
+        probe.probe();
+
+        then(probe.isUp()).isFalse();
+        verify(mockConnection, times(2)).close();
+        verify(mockConnectionFactory, times(2)).getConnection();
+        then(logCaptor.getEvents()).containsExactlyElementsOf(LogEvents.of(
+                "INFO", "Database probe succeeded",
+                "WARN", "Database probe failed: Connection reset"
+        ));
+    }
+
+    @DisplayName("""
+            Given the database cannot be connected to,
+            when probe,
+            then report down and log the failure
+            """)
+    @Test
+    void givenCannotConnect_WhenProbe_ThenReportDown() throws Exception {
+        given(mockConnectionFactory.getConnection()).willThrow(new SQLException("Connection refused"));
+        final DatabaseProbe probe = new DatabaseProbe(mockConnectionFactory, INTERVAL);
+
+        probe.probe();
+
+        then(probe.isUp()).isFalse();
+        then(logCaptor.getEvents()).containsExactlyElementsOf(LogEvents.of(
+                "WARN", "Database probe failed: Connection refused"
+        ));
+    }
+
+    @DisplayName("""
+            Given the last successful check is older than a few intervals,
+            when check if up,
+            then return false
+            """)
+    @Test
+    void givenStaleResult_WhenCheckIfUp_ThenReturnFalse() throws Exception {
+        givenQuerySucceeds();
+        final DatabaseProbe probe = new DatabaseProbe(mockConnectionFactory, Duration.ofMillis(10));
+        probe.probe();
+
+        Thread.sleep(10 * DatabaseProbe.STALE_AFTER_INTERVALS + 20);
+
+        then(probe.isUp()).isFalse();
+    }
+
+    private void givenQuerySucceeds() throws SQLException {
+        given(mockConnectionFactory.getConnection()).willReturn(mockConnection);
+        given(mockConnection.createStatement()).willReturn(mockStatement);
+        given(mockStatement.executeQuery("SELECT 1")).willReturn(mockResultSet);
+    }
+}
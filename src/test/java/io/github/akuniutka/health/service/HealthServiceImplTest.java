@@ -0,0 +1,119 @@
+package io.github.akuniutka.health.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.akuniutka.common.startup.ApplicationReadiness;
+import io.github.akuniutka.config.WebConfig;
+import io.github.akuniutka.health.dto.HealthDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("HealthServiceImpl Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class HealthServiceImplTest {
+
+    private final ApplicationReadiness readiness = new ApplicationReadiness();
+
+    @Mock
+    private HikariDataSource mockDataSource;
+
+    @Mock
+    private DatabaseProbe mockDatabaseProbe;
+
+    @DisplayName("""
+            When get liveness,
+            then return UP without checks and without looking at the pool or the database
+            """)
+    @Test
+    void whenGetLiveness_ThenReturnUpWithoutChecks() throws Exception {
+        final HealthService service = new HealthServiceImpl(readiness, mockDataSource, mockDatabaseProbe);
+
+        final HealthDto dto = service.getLiveness();
+
+        then(new WebConfig().objectMapper().writeValueAsString(dto)).isEqualTo("""
+                {"status":"UP"}""");
+        verifyNoInteractions(mockDataSource, mockDatabaseProbe);
+    }
+
+    @DisplayName("""
+            Given the application is ready, the pool is running and the database probe is up,
+            when get readiness,
+            then return UP with all checks UP
+            """)
+    @Test
+    void givenAllChecksUp_WhenGetReadiness_ThenReturnUp() throws Exception {
+        readiness.markReady();
+        given(mockDataSource.isRunning()).willReturn(true);
+        given(mockDatabaseProbe.isUp()).willReturn(true);
+        final HealthService service = new HealthServiceImpl(readiness, mockDataSource, mockDatabaseProbe);
+
+        final HealthDto dto = service.getReadiness();
+
+        then(dto.isUp()).isTrue();
+        then(new WebConfig().objectMapper().writeValueAsString(dto)).isEqualTo("""
+                {"status":"UP","checks":{"startup":"UP","pool":"UP","database":"UP"}}""");
+    }
+
+    @DisplayName("""
+            Given the application is still starting up,
+            when get readiness,
+            then return DOWN with the startup check DOWN
+            """)
+    @Test
+    void givenStartingUp_WhenGetReadiness_ThenReturnDown() {
+        given(mockDataSource.isRunning()).willReturn(true);
+        given(mockDatabaseProbe.isUp()).willReturn(true);
+        final HealthService service = new HealthServiceImpl(readiness, mockDataSource, mockDatabaseProbe);
+
+        final HealthDto dto = service.getReadiness();
+
+        then(dto.status()).isEqualTo("DOWN");
+        then(dto.checks()).containsExactly(
+                entry("startup", "DOWN"), entry("pool", "UP"), entry("database", "UP"));
+    }
+
+    @DisplayName("""
+            Given the pool is not running,
+            when get readiness,
+            then return DOWN with the pool check DOWN
+            """)
+    @Test
+    void givenPoolNotRunning_WhenGetReadiness_ThenReturnDown() {
+        readiness.markReady();
+        given(mockDataSource.isRunning()).willReturn(false);
+        given(mockDatabaseProbe.isUp()).willReturn(true);
+        final HealthService service = new HealthServiceImpl(readiness, mockDataSource, mockDatabaseProbe);
+
+        final HealthDto dto = service.getReadiness();
+
+        then(dto.status()).isEqualTo("DOWN");
+        then(dto.checks()).containsExactly(
+                entry("startup", "UP"), entry("pool", "DOWN"), entry("database", "UP"));
+    }
+
+    @DisplayName("""
+            Given the database probe is down,
+            when get readiness,
+            then return DOWN with the database check DOWN
+            """)
+    @Test
+    void givenDatabaseProbeDown_WhenGetReadiness_ThenReturnDown() {
+        readiness.markReady();
+        given(mockDataSource.isRunning()).willReturn(true);
+        given(mockDatabaseProbe.isUp()).willReturn(false);
+        final HealthService service = new HealthServiceImpl(readiness, mockDataSource, mockDatabaseProbe);
+
+        final HealthDto dto = service.getReadiness();
+
+        then(dto.status()).isEqualTo("DOWN");
+        then(dto.checks()).containsExactly(
+                entry("startup", "UP"), entry("pool", "UP"), entry("database", "DOWN"));
+    }
+}
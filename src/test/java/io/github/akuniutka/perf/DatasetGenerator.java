@@ -0,0 +1,144 @@
+package io.github.akuniutka.perf;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Fills database tables with a large synthetic dataset for benchmarks. Rows are streamed to PostgreSQL with
+ * {@code COPY ... FROM STDIN} by several loader threads in parallel, each using its own connection. Rows are split
+ * into fixed-size chunks and every chunk gets its own random generator derived from the seed, so the same seed
+ * always produces the same dataset regardless of the number of loader threads.
+ * <p>
+ * Run against a local PostgreSQL with the schema already created:
+ * <pre>
+ * ./mvnw -P perf test-compile exec:java -Dexec.mainClass=io.github.akuniutka.perf.DatasetGenerator \
+ *     -Djdbc.url=jdbc:postgresql://localhost:5432/bookmark_it -Djdbc.username=... -Djdbc.password=... \
+ *     -Ddataset.rows=20000000 -Ddataset.seed=42
+ * </pre>
+ * Settings:
+ * <ul>
+ *     <li>{@code dataset.tables} - comma-separated list of tables to fill (default {@code users})</li>
+ *     <li>{@code dataset.rows} - number of rows per table (default 10 000 000)</li>
+ *     <li>{@code dataset.seed} - seed for random generators (default 42)</li>
+ *     <li>{@code dataset.workers} - number of loader threads (default is the number of CPUs)</li>
+ *     <li>{@code dataset.chunkRows} - number of rows per COPY command (default 100 000)</li>
+ *     <li>{@code dataset.from}, {@code dataset.to} - registration dates span
+ *     (default 2015-01-01T00:00:00Z - 2025-01-01T00:00:00Z)</li>
+ *     <li>{@code dataset.truncate} - whether to truncate tables before loading (default false)</li>
+ * </ul>
+ */
+public final class DatasetGenerator {
+
+    private static final int FLUSH_THRESHOLD_CHARS = 1 << 20;
+
+    /*
+     * Register generators for new tables (bookmarks, tags, etc.) here.
+     */
+    private static final Map<String, Function<DatasetGenerator, TableDataGenerator>> GENERATORS = Map.of(
+            "users", generator -> new UserDataGenerator(generator.from, generator.to)
+    );
+
+    private final String url = System.getProperty("jdbc.url", "jdbc:postgresql://localhost:5432/bookmark_it");
+    private final String username = System.getProperty("jdbc.username", "");
+    private final String password = System.getProperty("jdbc.password", "");
+    private final long rows = Long.parseLong(System.getProperty("dataset.rows", "10000000"));
+    private final long seed = Long.parseLong(System.getProperty("dataset.seed", "42"));
+    private final int workers = Integer.parseInt(System.getProperty("dataset.workers",
+            Integer.toString(Runtime.getRuntime().availableProcessors())));
+    private final long chunkRows = Long.parseLong(System.getProperty("dataset.chunkRows", "100000"));
+    private final Instant from = Instant.parse(System.getProperty("dataset.from", "2015-01-01T00:00:00Z"));
+    private final Instant to = Instant.parse(System.getProperty("dataset.to", "2025-01-01T00:00:00Z"));
+    private final boolean truncate = Boolean.parseBoolean(System.getProperty("dataset.truncate", "false"));
+
+    public static void main(final String[] args) throws Exception {
+        final DatasetGenerator datasetGenerator = new DatasetGenerator();
+        for (String table : System.getProperty("dataset.tables", "users").split(",")) {
+            final Function<DatasetGenerator, TableDataGenerator> factory = GENERATORS.get(table.strip());
+            if (factory == null) {
+                throw new IllegalArgumentException("No generator for table " + table);
+            }
+            datasetGenerator.load(factory.apply(datasetGenerator));
+        }
+    }
+
+    private void load(final TableDataGenerator generator) throws Exception {
+        if (truncate) {
+            execute("TRUNCATE TABLE " + generator.tableName());
+        }
+        final long start = System.nanoTime();
+        final long chunks = (rows + chunkRows - 1) / chunkRows;
+        final AtomicLong loaded = new AtomicLong();
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                final long chunkNumber = chunk;
+                futures.add(executor.submit(() -> {
+                    final long count = loadChunk(generator, chunkNumber);
+                    final long total = loaded.addAndGet(count);
+                    System.out.printf("%s: %d of %d rows loaded%n", generator.tableName(), total, rows);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        execute("ANALYZE " + generator.tableName());
+        System.out.printf("%s: %d rows loaded in %.1f s%n", generator.tableName(), loaded.get(),
+                (System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private long loadChunk(final TableDataGenerator generator, final long chunk) throws SQLException {
+        final long first = chunk * chunkRows;
+        final long last = Math.min(first + chunkRows, rows);
+        final Random random = new Random(seed * 31 + chunk);
+        final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD_CHARS + 1024);
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            final CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                    "COPY %s (%s) FROM STDIN".formatted(generator.tableName(), generator.columns()));
+            try {
+                for (long row = first; row < last; row++) {
+                    generator.appendRow(row, rows, random, buffer);
+                    if (buffer.length() >= FLUSH_THRESHOLD_CHARS) {
+                        flush(copyIn, buffer);
+                    }
+                }
+                flush(copyIn, buffer);
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+    }
+
+    private static void flush(final CopyIn copyIn, final StringBuilder buffer) throws SQLException {
+        final byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private void execute(final String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
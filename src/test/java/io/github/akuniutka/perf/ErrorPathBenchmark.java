@@ -0,0 +1,111 @@
+package io.github.akuniutka.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.akuniutka.common.controller.ControllerExceptionHandler;
+import io.github.akuniutka.common.controller.ProblemDetailHttpMessageConverter;
+import io.github.akuniutka.config.WebConfig;
+import io.github.akuniutka.exception.UserNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput of the 404 path for a user who does not exist: an exception with a stack trace and an eagerly
+ * formatted message written by the {@code ObjectMapper}, as it used to be, against the stackless
+ * {@link UserNotFoundException} handled by {@link ControllerExceptionHandler} and written by
+ * {@link ProblemDetailHttpMessageConverter}. The benchmark calls the service from a few frames deep, so that stack
+ * traces have something to capture, though real requests are far deeper.
+ * <pre>
+ * ./mvnw -P perf test-compile exec:exec -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main ErrorPathBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private static final UUID ID = UUID.fromString("92f08b0a-4302-40ff-823d-b9ce18522552");
+    private static final URI INSTANCE = URI.create("/users/" + ID);
+    private static final int DEPTH = 32;
+
+    private ObjectMapper objectMapper;
+    private ControllerExceptionHandler exceptionHandler;
+    private ProblemDetailHttpMessageConverter converter;
+    private HttpOutputMessage outputMessage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new WebConfig().objectMapper();
+        exceptionHandler = new ControllerExceptionHandler();
+        converter = new ProblemDetailHttpMessageConverter(objectMapper);
+        outputMessage = new HttpOutputMessage() {
+
+            private final HttpHeaders headers = new HttpHeaders();
+
+            @Override
+            public OutputStream getBody() {
+                return OutputStream.nullOutputStream();
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    @Benchmark
+    public void stackTraceAndObjectMapper() throws IOException {
+        try {
+            call(DEPTH, true);
+        } catch (RuntimeException exception) {
+            final ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND,
+                    exception.getMessage());
+            problemDetail.setInstance(INSTANCE);
+            objectMapper.writeValue(OutputStream.nullOutputStream(), problemDetail);
+        }
+    }
+
+    @Benchmark
+    public void stacklessAndTemplate() throws IOException {
+        try {
+            call(DEPTH, false);
+        } catch (UserNotFoundException exception) {
+            final ProblemDetail problemDetail = exceptionHandler.handleUserNotFoundException(exception);
+            problemDetail.setInstance(INSTANCE);
+            converter.write(problemDetail, MediaType.APPLICATION_PROBLEM_JSON, outputMessage);
+        }
+    }
+
+    private static void call(final int depth, final boolean withStackTrace) {
+        if (depth > 0) {
+            call(depth - 1, withStackTrace);
+        } else if (withStackTrace) {
+            throw new IllegalStateException("User %s does not exist".formatted(ID));
+        } else {
+            throw new UserNotFoundException(ID);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.akuniutka.perf;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * A lock-free histogram of latencies with microsecond resolution. Values below 256 microseconds are recorded
+ * exactly, larger values are put into log-linear buckets with 128 buckets per power of two, which keeps
+ * the relative error of percentiles below 1% at a fixed memory footprint of about 40 KB.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int EXACT_VALUES = SUB_BUCKETS << 1;
+    private static final int MAX_SHIFT = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(EXACT_VALUES + MAX_SHIFT * SUB_BUCKETS);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    void recordNanos(final long nanos) {
+        final long micros = Math.max(0L, nanos / 1_000L);
+        counts.incrementAndGet(indexOf(micros));
+        max.accumulate(micros);
+    }
+
+    long count() {
+        long count = 0L;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    long maxMicros() {
+        return max.get();
+    }
+
+    /**
+     * Returns the smallest recorded value (in microseconds) such that the specified share of all values
+     * is less than or equal to it.
+     *
+     * @param percentile the share of values, from 0.0 to 100.0
+     * @return the value at the percentile, or 0 if nothing has been recorded
+     */
+    long percentileMicros(final double percentile) {
+        final long total = count();
+        if (total == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0L;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int indexOf(final long micros) {
+        if (micros < EXACT_VALUES) {
+            return (int) micros;
+        }
+        final int shift = Math.min(63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS, MAX_SHIFT);
+        final long subBucket = Math.min(micros >>> shift, (SUB_BUCKETS << 1) - 1) - SUB_BUCKETS;
+        return EXACT_VALUES + (shift - 1) * SUB_BUCKETS + (int) subBucket;
+    }
+
+    private static long highestValueAt(final int index) {
+        if (index < EXACT_VALUES) {
+            return index;
+        }
+        final int shift = (index - EXACT_VALUES) / SUB_BUCKETS + 1;
+        final long subBucket = (index - EXACT_VALUES) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
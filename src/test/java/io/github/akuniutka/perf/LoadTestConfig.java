@@ -0,0 +1,74 @@
+package io.github.akuniutka.perf;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run. Every setting can be overridden with a system property of the same name, so that
+ * a run is fully described by its command line and can be reproduced later.
+ *
+ * @param baseUrl     URL of the service under test
+ * @param startServer whether to start {@code BookmarkItApplication} in the harness JVM before the run
+ * @param users       number of users to seed before the run
+ * @param rate        number of requests to issue per second, regardless of how fast the service responds; must be
+ *                    positive
+ * @param warmUp      how long to run the mix before starting to record latencies
+ * @param duration    how long to run the mix while recording latencies
+ * @param mix         relative weights of operations in the mix
+ * @param seed        seed for the random generator which picks operations and users
+ */
+record LoadTestConfig(
+        URI baseUrl,
+        boolean startServer,
+        int users,
+        int rate,
+        Duration warmUp,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        long seed
+) {
+
+    LoadTestConfig {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + rate);
+        }
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                URI.create(System.getProperty("load.baseUrl", "http://localhost:8080")),
+                Boolean.parseBoolean(System.getProperty("load.startServer", "true")),
+                Integer.parseInt(System.getProperty("load.users", "1000")),
+                Integer.parseInt(System.getProperty("load.rate", "200")),
+                Duration.parse(System.getProperty("load.warmUp", "PT10S")),
+                Duration.parse(System.getProperty("load.duration", "PT60S")),
+                parseMix(System.getProperty("load.mix", "create=5,get=60,list=5,patch=25,delete=5")),
+                Long.parseLong(System.getProperty("load.seed", "42"))
+        );
+    }
+
+    /*
+     * Parse a mix in the form of "create=5,get=60,list=5,patch=25,delete=5". Operations not mentioned
+     * in the mix are not run.
+     */
+    private static Map<Operation, Integer> parseMix(final String value) {
+        final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            final String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed mix entry: " + entry);
+            }
+            final int weight = Integer.parseInt(parts[1].strip());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in mix entry: " + entry);
+            }
+            mix.put(Operation.fromName(parts[0].strip()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix contains no operations: " + value);
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,275 @@
+package io.github.akuniutka.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.akuniutka.BookmarkItApplication;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An end-to-end load generator for the users API. It optionally starts {@link BookmarkItApplication} in the same
+ * JVM, seeds users through the API and then runs a configurable mix of create, get, list, patch and delete
+ * requests. Requests are issued open-loop: each request is scheduled at a fixed arrival rate and is sent from its
+ * own virtual thread, so a slow service does not slow the arrival rate down. Latency is measured from the moment
+ * the request was scheduled, not from the moment it was actually sent, in order not to hide queueing delays
+ * (coordinated omission).
+ * <p>
+ * Run against a local PostgreSQL:
+ * <pre>
+ * ./mvnw -P perf test-compile exec:java -Dexec.mainClass=io.github.akuniutka.perf.LoadTestHarness \
+ *     -Djdbc.url=jdbc:postgresql://localhost:5432/bookmark_it -Djdbc.username=... -Djdbc.password=... \
+ *     -Dload.rate=500 -Dload.duration=PT2M
+ * </pre>
+ * See {@link LoadTestConfig} for all settings.
+ */
+public final class LoadTestHarness {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int SEED_CONCURRENCY = 32;
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    /*
+     * Used by the scheduler loop only. Every random value of a request is drawn there and passed to the request
+     * thread: draws made by request threads would interleave differently from run to run, and the same seed
+     * would not reproduce the run.
+     */
+    private final Random random;
+    private final List<UUID> userIds = new ArrayList<>();
+    private final AtomicLong emailCounter = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Operation[] schedule;
+
+    private volatile boolean recording;
+
+    private LoadTestHarness(final LoadTestConfig config, final ExecutorService executor) {
+        this.config = config;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+        this.random = new Random(config.seed());
+        this.schedule = buildSchedule(config.mix());
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new LatencyHistogram());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        if (config.startServer()) {
+            BookmarkItApplication.main(args);
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final LoadTestHarness harness = new LoadTestHarness(config, executor);
+            harness.seedUsers();
+            harness.run(config.warmUp(), false);
+            final long elapsedNanos = harness.run(config.duration(), true);
+            harness.printReport(elapsedNanos);
+        }
+        System.exit(0);
+    }
+
+    private void seedUsers() throws InterruptedException {
+        final int perWorker = (config.users() + SEED_CONCURRENCY - 1) / SEED_CONCURRENCY;
+        final List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < SEED_CONCURRENCY; i++) {
+            final int count = Math.min(perWorker, config.users() - i * perWorker);
+            if (count <= 0) {
+                break;
+            }
+            workers.add(Thread.ofVirtual().start(() -> {
+                for (int j = 0; j < count; j++) {
+                    createUser();
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        System.out.printf("Seeded %d users%n", config.users());
+    }
+
+    /*
+     * Issue requests at a fixed rate for the duration specified. Returns actual time spent including
+     * the time to wait for the last requests to complete.
+     */
+    private long run(final Duration duration, final boolean record) throws InterruptedException {
+        recording = record;
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        final long requests = duration.toNanos() / intervalNanos;
+        final List<Thread> inFlight = new ArrayList<>();
+        final long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            final long scheduledAt = start + i * intervalNanos;
+            long delay;
+            while ((delay = scheduledAt - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            final Operation operation = schedule[random.nextInt(schedule.length)];
+            final UUID userId = pickUserId(operation);
+            final int patchNumber = operation == Operation.PATCH ? random.nextInt(1_000_000) : 0;
+            inFlight.add(Thread.ofVirtual().start(() -> execute(operation, userId, patchNumber, scheduledAt)));
+        }
+        for (Thread thread : inFlight) {
+            thread.join();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void execute(final Operation operation, final UUID userId, final int patchNumber,
+            final long scheduledAt) {
+        boolean success;
+        try {
+            success = switch (operation) {
+                case CREATE -> createUser() != null;
+                case GET -> send(get("/users/" + userId)).statusCode() == 200;
+                case LIST -> send(get("/users")).statusCode() == 200;
+                case PATCH -> send(patch(userId, patchNumber)).statusCode() == 200;
+                case DELETE -> send(delete(userId)).statusCode() == 200;
+            };
+        } catch (RuntimeException exception) {
+            success = false;
+        }
+        if (!recording) {
+            return;
+        }
+        histograms.get(operation).recordNanos(System.nanoTime() - scheduledAt);
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    private UUID createUser() {
+        final long number = emailCounter.incrementAndGet();
+        final String body = """
+                {"firstName": "Load", "lastName": "Test %d", "email": "load-%s-%d@example.com"}
+                """.formatted(number, runId, number);
+        final HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/users"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Cannot create user: HTTP " + response.statusCode());
+        }
+        try {
+            final JsonNode user = mapper.readTree(response.body());
+            final UUID id = UUID.fromString(user.get("id").asText());
+            synchronized (userIds) {
+                userIds.add(id);
+            }
+            return id;
+        } catch (IOException exception) {
+            throw new IllegalStateException("Cannot parse created user", exception);
+        }
+    }
+
+    /*
+     * Deleted users are soft-deleted: they can be still read, but cannot be patched. Therefore, remove the user from
+     * the pool on deletion, so that later patches in the mix hit only active users.
+     */
+    private UUID pickUserId(final Operation operation) {
+        synchronized (userIds) {
+            if (userIds.isEmpty()) {
+                return UUID.randomUUID();
+            }
+            final int index = random.nextInt(userIds.size());
+            if (operation != Operation.DELETE) {
+                return userIds.get(index);
+            }
+            final UUID last = userIds.removeLast();
+            return index < userIds.size() ? userIds.set(index, last) : last;
+        }
+    }
+
+    private HttpRequest get(final String path) {
+        return HttpRequest.newBuilder(uri(path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private HttpRequest patch(final UUID userId, final int number) {
+        final String body = "{\"firstName\": \"Patched %d\"}".formatted(number);
+        return HttpRequest.newBuilder(uri("/users/" + userId))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest delete(final UUID userId) {
+        return HttpRequest.newBuilder(uri("/users/" + userId)).timeout(REQUEST_TIMEOUT).DELETE().build();
+    }
+
+    private HttpResponse<String> send(final HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private URI uri(final String path) {
+        return config.baseUrl().resolve(path);
+    }
+
+    private void printReport(final long elapsedNanos) {
+        final double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("%nTarget rate %d req/s, measured for %.1f s, seed %d%n", config.rate(), seconds,
+                config.seed());
+        System.out.printf("%-8s %10s %8s %12s %10s %10s %10s %10s%n",
+                "op", "requests", "errors", "throughput", "p50, ms", "p99, ms", "p999, ms", "max, ms");
+        long total = 0L;
+        for (Operation operation : Operation.values()) {
+            final LatencyHistogram histogram = histograms.get(operation);
+            final long count = histogram.count();
+            if (count == 0L) {
+                continue;
+            }
+            total += count;
+            System.out.printf("%-8s %10d %8d %10.1f/s %10.2f %10.2f %10.2f %10.2f%n",
+                    operation.displayName(),
+                    count,
+                    errors.get(operation).sum(),
+                    count / seconds,
+                    histogram.percentileMicros(50.0) / 1_000.0,
+                    histogram.percentileMicros(99.0) / 1_000.0,
+                    histogram.percentileMicros(99.9) / 1_000.0,
+                    histogram.maxMicros() / 1_000.0);
+        }
+        System.out.printf("%-8s %10d %8s %10.1f/s%n", "total", total, "", total / seconds);
+    }
+
+    private static Operation[] buildSchedule(final Map<Operation, Integer> mix) {
+        final List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        return schedule.toArray(Operation[]::new);
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.akuniutka.perf;
+
+import java.util.Locale;
+
+enum Operation {
+    CREATE,
+    GET,
+    LIST,
+    PATCH,
+    DELETE;
+
+    static Operation fromName(final String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+
+    String displayName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.akuniutka.perf;
+
+import java.util.Random;
+
+/**
+ * Generates rows of a single table for {@link DatasetGenerator}. Rows are produced in PostgreSQL COPY text format,
+ * so implementations must not emit tabs, newlines or backslashes inside values.
+ * <p>
+ * Implementations must be deterministic: a row must depend only on its number and on the random generator passed,
+ * so that a dataset can be reproduced from its seed regardless of how rows are split between loader threads.
+ */
+interface TableDataGenerator {
+
+    String tableName();
+
+    /**
+     * Returns a comma-separated list of columns in the order values are written by {@link #appendRow}.
+     */
+    String columns();
+
+    /**
+     * Appends a row with the number specified to the buffer. The row must be terminated with a newline.
+     *
+     * @param rowNumber the number of the row, from 0 to {@code rowCount - 1}
+     * @param rowCount  the total number of rows to generate
+     * @param random    the random generator to use, seeded per chunk of rows
+     * @param buffer    the buffer to append the row to
+     */
+    void appendRow(long rowNumber, long rowCount, Random random, StringBuilder buffer);
+}
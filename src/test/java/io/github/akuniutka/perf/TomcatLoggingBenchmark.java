@@ -0,0 +1,171 @@
+package io.github.akuniutka.perf;
+
+import io.github.akuniutka.common.util.Slf4jLoggerFacadeForTomcat;
+import org.apache.juli.logging.Log;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of the logging calls Tomcat makes on every request with debug logging disabled, as with the
+ * default configuration: a dozen or so {@code isDebugEnabled()} guards through connector, adapter and valve classes
+ * and a few unguarded {@code debug()} calls with an object for a message. The facade as it used to be, which asked
+ * Logback on every check, is reproduced here for comparison.
+ * <pre>
+ * ./mvnw -P perf test-compile exec:exec -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main TomcatLoggingBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class TomcatLoggingBenchmark {
+
+    private static final int GUARDS_PER_REQUEST = 12;
+    private static final int UNGUARDED_CALLS_PER_REQUEST = 3;
+
+    @Param({"legacy", "cached"})
+    private String facade;
+
+    private Log log;
+    private Object message;
+
+    @Setup
+    public void setUp() {
+        final String loggerName = "org.apache.coyote.http11.Http11Processor";
+        log = "legacy".equals(facade)
+                ? new LegacyFacade(loggerName)
+                : new Slf4jLoggerFacadeForTomcat(loggerName);
+        message = new Object() {
+
+            @Override
+            public String toString() {
+                return "Socket: [" + System.identityHashCode(this) + "], Status in: [OPEN_READ], State out: [OPEN]";
+            }
+        };
+    }
+
+    @Benchmark
+    public int request() {
+        int enabled = 0;
+        for (int i = 0; i < GUARDS_PER_REQUEST; i++) {
+            if (log.isDebugEnabled()) {
+                enabled++;
+            }
+        }
+        for (int i = 0; i < UNGUARDED_CALLS_PER_REQUEST; i++) {
+            log.debug(message);
+        }
+        return enabled;
+    }
+
+    /*
+     * Only the methods the benchmark calls matter, the rest do nothing.
+     */
+    private static final class LegacyFacade implements Log {
+
+        private final Logger logger;
+
+        private LegacyFacade(final String loggerName) {
+            logger = LoggerFactory.getLogger(loggerName);
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return logger.isDebugEnabled();
+        }
+
+        @Override
+        public void debug(final Object message) {
+            if (logger != null && logger.isDebugEnabled()) {
+                logger.debug(String.valueOf(message));
+            }
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return logger.isErrorEnabled();
+        }
+
+        @Override
+        public boolean isFatalEnabled() {
+            return logger.isErrorEnabled();
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return logger.isInfoEnabled();
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return logger.isTraceEnabled();
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return logger.isWarnEnabled();
+        }
+
+        @Override
+        public void trace(final Object message) {
+        }
+
+        @Override
+        public void trace(final Object message, final Throwable throwable) {
+        }
+
+        @Override
+        public void debug(final Object message, final Throwable throwable) {
+        }
+
+        @Override
+        public void info(final Object message) {
+        }
+
+        @Override
+        public void info(final Object message, final Throwable throwable) {
+        }
+
+        @Override
+        public void warn(final Object message) {
+        }
+
+        @Override
+        public void warn(final Object message, final Throwable throwable) {
+        }
+
+        @Override
+        public void error(final Object message) {
+        }
+
+        @Override
+        public void error(final Object message, final Throwable throwable) {
+        }
+
+        @Override
+        public void fatal(final Object message) {
+        }
+
+        @Override
+        public void fatal(final Object message, final Throwable throwable) {
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.akuniutka.perf;
+
+import com.fasterxml.uuid.Generators;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates rows for {@code users} table. Registration dates grow with the row number over the configured time
+ * span, and ids are UUIDv7 built from registration dates by the same generator {@code BaseHibernateEntity} uses,
+ * so that ids are time-ordered as in production. Emails contain the row number and therefore are unique even when
+ * compared case-insensitively. Most users are active, few are blocked or deleted.
+ */
+class UserDataGenerator implements TableDataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Christopher", "Lisa", "Daniel", "Nancy", "Matthew", "Betty", "Anthony", "Margaret", "Mark", "Sandra",
+            "Olga", "Ivan", "Anna", "Dmitry", "Elena", "Sergei", "Natalia", "Andrei", "Maria", "Alexei",
+            "Wei", "Li", "Hiroshi", "Yuki", "Raj", "Priya", "Carlos", "Sofia", "Ahmed", "Fatima"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+            "Ivanov", "Petrov", "Sidorov", "Kuznetsov", "Popov", "Wang", "Zhang", "Chen", "Liu", "Yamamoto",
+            "Tanaka", "Sato", "Patel", "Singh", "Kumar", "Silva", "Santos", "Muller", "Schmidt", "Rossi"
+    };
+    private static final String[] DOMAINS = {
+            "gmail.com", "yahoo.com", "outlook.com", "hotmail.com", "mail.com", "proton.me", "icloud.com",
+            "example.org", "company.com", "university.edu"
+    };
+    private static final int ACTIVE_PERCENT = 90;
+    private static final int BLOCKED_PERCENT = 8;
+    private static final long MAX_MODIFICATION_DELAY_MILLIS = Duration.ofDays(30).toMillis();
+
+    private final Instant from;
+    private final Instant to;
+
+    UserDataGenerator(final Instant from, final Instant to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Time span is empty: %s - %s".formatted(from, to));
+        }
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public String tableName() {
+        return "users";
+    }
+
+    @Override
+    public String columns() {
+        return "id, first_name, last_name, email, state, registration_date, modified";
+    }
+
+    @Override
+    public void appendRow(final long rowNumber, final long rowCount, final Random random, final StringBuilder buffer) {
+        final long spanMicros = Duration.between(from, to).toNanos() / 1_000L;
+        final long stepMicros = Math.max(1L, spanMicros / rowCount);
+        final long offsetMicros = Math.min(spanMicros - 1L,
+                (long) ((double) spanMicros * rowNumber / rowCount) + random.nextLong(stepMicros));
+        final Instant registered = from.plusNanos(offsetMicros * 1_000L);
+        final Instant modified = min(registered.plusMillis(random.nextLong(MAX_MODIFICATION_DELAY_MILLIS)), to);
+        final String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        final String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        final String localPart = firstName + "." + lastName + "." + rowNumber;
+        final String email = (random.nextInt(10) == 0 ? localPart : localPart.toLowerCase(Locale.ROOT))
+                + "@" + DOMAINS[random.nextInt(DOMAINS.length)];
+
+        buffer.append(Generators.timeBasedEpochGenerator(random).construct(registered.toEpochMilli())).append('\t')
+                .append(firstName).append('\t')
+                .append(lastName).append('\t')
+                .append(email).append('\t')
+                .append(pickState(random)).append('\t')
+                .append(registered).append('\t')
+                .append(modified).append('\n');
+    }
+
+    private static String pickState(final Random random) {
+        final int percent = random.nextInt(100);
+        if (percent < ACTIVE_PERCENT) {
+            return "ACTIVE";
+        }
+        return percent < ACTIVE_PERCENT + BLOCKED_PERCENT ? "BLOCKED" : "DELETED";
+    }
+
+    private static Instant min(final Instant a, final Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.akuniutka.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.akuniutka.config.WebConfig;
+import io.github.akuniutka.user.controller.UserDtoHttpMessageConverter;
+import io.github.akuniutka.user.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares serialization of large lists of {@link UserDto} by the mapper {@code @EnableWebMvc} creates implicitly,
+ * by the tuned mapper from {@link WebConfig} and by the hand-written {@link UserDtoHttpMessageConverter}.
+ * <pre>
+ * ./mvnw -P perf test-compile exec:exec -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main UserDtoSerializationBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserDtoSerializationBenchmark {
+
+    private static final Type USER_DTO_LIST = new ParameterizedTypeReference<List<UserDto>>() {
+    }.getType();
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<UserDto> users;
+    private ObjectMapper defaultMapper;
+    private ObjectMapper tunedMapper;
+    private UserDtoHttpMessageConverter userDtoConverter;
+    private HttpOutputMessage outputMessage;
+
+    @Setup
+    public void setUp() {
+        users = generateUsers(size);
+        defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+        tunedMapper = new WebConfig().objectMapper();
+        userDtoConverter = new UserDtoHttpMessageConverter();
+        outputMessage = new HttpOutputMessage() {
+
+            private final HttpHeaders headers = new HttpHeaders();
+
+            @Override
+            public OutputStream getBody() {
+                return OutputStream.nullOutputStream();
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    @Benchmark
+    public void defaultMapper() throws IOException {
+        defaultMapper.writeValue(OutputStream.nullOutputStream(), users);
+    }
+
+    @Benchmark
+    public void tunedMapper() throws IOException {
+        tunedMapper.writeValue(OutputStream.nullOutputStream(), users);
+    }
+
+    @Benchmark
+    public void userDtoConverter() throws IOException {
+        userDtoConverter.write(users, USER_DTO_LIST, MediaType.APPLICATION_JSON, outputMessage);
+    }
+
+    static List<UserDto> generateUsers(final int size) {
+        final Random random = new Random(42);
+        final List<UserDto> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            users.add(UserDto.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("user" + i + "@mail.com")
+                    .state(i % 10 == 0 ? "BLOCKED" : "ACTIVE")
+                    .registrationDate(Instant.ofEpochSecond(1_500_000_000L + i, random.nextInt(1_000_000) * 1_000L))
+                    .build());
+        }
+        return users;
+    }
+}
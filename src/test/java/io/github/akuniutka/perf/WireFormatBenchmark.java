@@ -0,0 +1,79 @@
+package io.github.akuniutka.perf;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.akuniutka.config.WebConfig;
+import io.github.akuniutka.user.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding of large lists of {@link UserDto} in JSON, Smile and CBOR by the mappers
+ * {@link WebConfig} configures for message converters. Payload sizes are printed on setup.
+ * <pre>
+ * ./mvnw -P perf test-compile exec:exec -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main WireFormatBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private List<UserDto> users;
+    private ObjectMapper objectMapper;
+    private JavaType listType;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        users = UserDtoSerializationBenchmark.generateUsers(size);
+        objectMapper = mapperFor(format);
+        listType = objectMapper.getTypeFactory().constructCollectionType(List.class, UserDto.class);
+        payload = objectMapper.writeValueAsBytes(users);
+        System.out.printf("%n%s payload for %d users: %d bytes%n", format, size, payload.length);
+    }
+
+    @Benchmark
+    public void encode() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), users);
+    }
+
+    @Benchmark
+    public List<UserDto> decode() throws IOException {
+        return objectMapper.readValue(payload, listType);
+    }
+
+    private static ObjectMapper mapperFor(final String format) {
+        final WebConfig webConfig = new WebConfig();
+        return switch (format) {
+            case "json" -> webConfig.objectMapper();
+            case "smile" -> webConfig.smileObjectMapper();
+            case "cbor" -> webConfig.cborObjectMapper();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+    }
+}
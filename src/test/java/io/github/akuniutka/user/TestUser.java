@@ -18,6 +18,7 @@ public final class TestUser {
     public static final User.State STATE = User.State.ACTIVE;
     public static final Instant REGISTRATION_DATE = ApplicationTestConfig.FIXED_TIME;
     public static final Timestamp MODIFIED = Timestamp.from(Instant.parse("2002-03-04T05:06:07.890123Z"));
+    public static final long CHANGE_ID = 1234L;
     public static final String OTHER_FIRST_NAME = "Jack";
     public static final String OTHER_LAST_NAME = "Sparrow";
     public static final String OTHER_EMAIL = "jack@mail.com";
@@ -50,6 +51,7 @@ public final class TestUser {
     public static User persisted() {
         final User user = base();
         ReflectionTestUtils.setField(user, "modified", MODIFIED);
+        ReflectionTestUtils.setField(user, "changeId", CHANGE_ID);
         return user;
     }
 
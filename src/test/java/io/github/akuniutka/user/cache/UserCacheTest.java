@@ -0,0 +1,385 @@
+package io.github.akuniutka.user.cache;
+
+import io.github.akuniutka.config.WebConfig;
+import io.github.akuniutka.log.InjectLogCaptor;
+import io.github.akuniutka.log.LogCaptor;
+import io.github.akuniutka.log.WithLogCapture;
+import io.github.akuniutka.user.TestUser;
+import io.github.akuniutka.user.entity.User;
+import io.github.akuniutka.user.event.UserEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.akuniutka.user.TestUser.ID;
+import static io.github.akuniutka.user.TestUser.MODIFIED;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@WithLogCapture(UserCache.class)
+@DisplayName("UserCache Unit Tests")
+class UserCacheTest {
+
+    @InjectLogCaptor
+    LogCaptor logCaptor;
+
+    private static final UUID MISSING_ID = UUID.fromString("0191d1e7-3c3a-7c1e-9f4a-0c2e6f8b5d10");
+    private static final UUID OTHER_ID = UUID.fromString("aac0ecd5-6e4d-4a83-a6da-6bc2ed6b3e34");
+    private static final UUID UNKNOWN_ID = UUID.fromString("5b8e2c1d-7f3a-4e6b-9c0d-1a2b3c4d5e6f");
+
+    private final UserCache cache = new UserCache(new WebConfig().objectMapper());
+
+    @BeforeEach
+    void setUp() {
+        cache.onConnect();
+    }
+
+    @DisplayName("""
+            When get the channel,
+            then return the user events channel
+            """)
+    @Test
+    void whenGetChannel_ThenReturnUserEventsChannel() {
+
+        final String channel = cache.getChannel();
+
+        then(channel).isEqualTo(UserEvent.CHANNEL);
+    }
+
+    @DisplayName("""
+            Given the notification listener has not connected yet,
+            when get a user and users by ids twice,
+            then load them every time and cache nothing
+            """)
+    @Test
+    void givenListenerNotConnected_WhenGetTwice_ThenLoadEveryTime() {
+        final UserCache notListening = new UserCache(new WebConfig().objectMapper());
+        final AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            notListening.get(ID, id -> {
+                loads.incrementAndGet();
+                return TestUser.persisted();
+            });
+            notListening.get(MISSING_ID, id -> {
+                loads.incrementAndGet();
+                return null;
+            });
+            notListening.getAll(List.of(ID), ids -> {
+                loads.incrementAndGet();
+                return List.of(TestUser.persisted());
+            });
+        }
+
+        then(loads).hasValue(6);
+        then(notListening.getSize()).isZero();
+        then(notListening.getMissingSize()).isZero();
+    }
+
+    @DisplayName("""
+            Given a user has been loaded,
+            when get the user again,
+            then return the cached user without loading
+            """)
+    @Test
+    void givenUserLoaded_WhenGetAgain_ThenReturnCachedUser() {
+        final AtomicInteger loads = new AtomicInteger();
+        final User loaded = cache.get(ID, id -> {
+            loads.incrementAndGet();
+            return TestUser.persisted();
+        });
+
+        final User user = cache.get(ID, id -> {
+            loads.incrementAndGet();
+            return TestUser.persisted();
+        });
+
+        then(user).isSameAs(loaded);
+        then(loads).hasValue(1);
+        then(cache.getLoadCount()).isEqualTo(1);
+    }
+
+    @DisplayName("""
+            Given a user is not found,
+            when get the user concurrently,
+            then share a single load between lookups and count lookups coalesced
+            """)
+    @Test
+    void givenUserNotFound_WhenGetConcurrently_ThenShareSingleLoad() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger loads = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Future<User> leader = executor.submit(() -> cache.get(ID, id -> {
+                loads.incrementAndGet();
+                started.countDown();
+                awaitQuietly(release);
+                return null;
+            }));
+            then(started.await(5, TimeUnit.SECONDS)).isTrue();
+            final Future<User> follower = executor.submit(() -> cache.get(ID, id -> {
+                loads.incrementAndGet();
+                return null;
+            }));
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cache.getCoalescedLookupCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            release.countDown();
+
+            then(leader.get(5, TimeUnit.SECONDS)).isNull();
+            then(follower.get(5, TimeUnit.SECONDS)).isNull();
+        }
+        then(loads).hasValue(1);
+        then(cache.getLoadCount()).isEqualTo(1);
+        then(cache.getCoalescedLookupCount()).isEqualTo(1);
+    }
+
+    @DisplayName("""
+            Given a user is not found,
+            when get the user,
+            then return null and cache the id as missing
+            """)
+    @Test
+    void givenUserNotFound_WhenGet_ThenReturnNullAndCacheIdAsMissing() {
+
+        final User user = cache.get(ID, id -> null);
+
+        then(user).isNull();
+        then(cache.getSize()).isZero();
+        then(cache.getMissingSize()).isEqualTo(1);
+    }
+
+    @DisplayName("""
+            Given a user has not been found,
+            when get the user again,
+            then return null without loading
+            """)
+    @Test
+    void givenUserNotFound_WhenGetAgain_ThenReturnNullWithoutLoading() {
+        final AtomicInteger loads = new AtomicInteger();
+        cache.get(ID, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        final User user = cache.get(ID, id -> {
+            loads.incrementAndGet();
+            return TestUser.persisted();
+        });
+
+        then(user).isNull();
+        then(loads).hasValue(1);
+    }
+
+    @DisplayName("""
+            Given a user has not been found,
+            when the user is evicted on creation,
+            then load the user on the next get
+            """)
+    @Test
+    void givenUserNotFound_WhenEvicted_ThenLoadOnNextGet() {
+        cache.get(ID, id -> null);
+
+        cache.evict(ID);
+
+        then(cache.get(ID, id -> TestUser.persisted())).isNotNull();
+        then(cache.getMissingSize()).isZero();
+    }
+
+    @DisplayName("""
+            Given a user has not been found,
+            when notified of a change of the user,
+            then load the user on the next get
+            """)
+    @Test
+    void givenUserNotFound_WhenNotifiedOfChange_ThenLoadOnNextGet() {
+        cache.get(ID, id -> null);
+
+        cache.onNotification(payload(MODIFIED.toInstant().toString()));
+
+        then(cache.get(ID, id -> TestUser.persisted())).isNotNull();
+    }
+
+    @DisplayName("""
+            Given a user is loading and not found,
+            when the cache is invalidated,
+            then do not cache the id as missing
+            """)
+    @Test
+    void givenUserLoadingAndNotFound_WhenInvalidated_ThenNotCacheIdAsMissing() {
+
+        final User user = cache.get(ID, id -> {
+            cache.evict(ID);
+            return null;
+        });
+
+        then(user).isNull();
+        then(cache.getMissingSize()).isZero();
+    }
+
+    @DisplayName("""
+            Given a user is loading,
+            when the cache is invalidated,
+            then return the user loaded but do not cache it
+            """)
+    @Test
+    void givenUserLoading_WhenInvalidated_ThenReturnUserButNotCache() {
+
+        final User user = cache.get(ID, id -> {
+            cache.onNotification(payload("2002-03-04T05:06:07.890124Z"));
+            return TestUser.persisted();
+        });
+
+        then(user).usingRecursiveComparison().isEqualTo(TestUser.persisted());
+        then(cache.getSize()).isZero();
+    }
+
+    @DisplayName("""
+            Given a user is cached,
+            when notified of a change newer than the user cached,
+            then evict the user
+            """)
+    @Test
+    void givenUserCached_WhenNotifiedOfNewerChange_ThenEvictUser() {
+        cache.get(ID, id -> TestUser.persisted());
+
+        cache.onNotification(payload("2002-03-04T05:06:07.890124Z"));
+
+        then(cache.getSize()).isZero();
+    }
+
+    @DisplayName("""
+            Given a user is cached,
+            when notified of a change not newer than the user cached,
+            then keep the user
+            """)
+    @Test
+    void givenUserCached_WhenNotifiedOfOlderChange_ThenKeepUser() {
+        cache.get(ID, id -> TestUser.persisted());
+
+        cache.onNotification(payload(MODIFIED.toInstant().toString()));
+        cache.onNotification(payload("2001-01-01T00:00:00Z"));
+
+        then(cache.getSize()).isEqualTo(1);
+    }
+
+    @DisplayName("""
+            Given a user is cached,
+            when notified with a payload which cannot be read,
+            then flush the cache and log a warning
+            """)
+    @Test
+    void givenUserCached_WhenNotifiedWithMalformedPayload_ThenFlushCacheAndLog() {
+        cache.get(ID, id -> TestUser.persisted());
+
+        cache.onNotification("not a json");
+
+        then(cache.getSize()).isZero();
+        then(logCaptor.getEvents()).anySatisfy(event -> then(event.level()).isEqualTo("WARN"));
+    }
+
+    @DisplayName("""
+            Given a user is cached,
+            when the listener reconnects,
+            then flush the cache and log a warning
+            """)
+    @Test
+    void givenUserCached_WhenReconnect_ThenFlushCacheAndLog() {
+        cache.get(ID, id -> TestUser.persisted());
+        cache.get(UUID.randomUUID(), id -> null);
+
+        cache.onReconnect();
+
+        then(cache.getSize()).isZero();
+        then(cache.getMissingSize()).isZero();
+        then(logCaptor.getEvents()).anySatisfy(event -> then(event.level()).isEqualTo("WARN"));
+    }
+
+    @DisplayName("""
+            Given a user is cached and an id is cached as missing,
+            when get users by ids,
+            then return them from the cache, load only other users in a single call and cache them
+            """)
+    @Test
+    void givenUserCachedAndIdMissing_WhenGetAll_ThenLoadOnlyOtherUsersAndCacheThem() {
+        final User cached = cache.get(ID, id -> TestUser.persisted());
+        cache.get(MISSING_ID, id -> null);
+        final List<List<UUID>> loads = new ArrayList<>();
+        final User other = TestUser.persisted();
+
+        final Map<UUID, User> users = cache.getAll(List.of(OTHER_ID, ID, UNKNOWN_ID, MISSING_ID, OTHER_ID), ids -> {
+            loads.add(ids);
+            return Arrays.asList(other, null);
+        });
+
+        then(users).containsExactly(entry(OTHER_ID, other), entry(ID, cached), entry(UNKNOWN_ID, null),
+                entry(MISSING_ID, null));
+        then(loads).containsExactly(List.of(OTHER_ID, UNKNOWN_ID));
+        then(cache.getMultiLoadCount()).isEqualTo(1);
+        then(cache.get(OTHER_ID, id -> null)).isSameAs(other);
+        then(cache.get(UNKNOWN_ID, id -> TestUser.persisted())).isNull();
+    }
+
+    @DisplayName("""
+            Given every user requested is cached,
+            when get users by ids,
+            then return users from the cache without loading
+            """)
+    @Test
+    void givenAllUsersCached_WhenGetAll_ThenReturnCachedUsersWithoutLoading() {
+        final User cached = cache.get(ID, id -> TestUser.persisted());
+
+        final Map<UUID, User> users = cache.getAll(List.of(ID), ids -> {
+            throw new AssertionError("Users loaded: " + ids);
+        });
+
+        then(users).containsExactly(entry(ID, cached));
+        then(cache.getMultiLoadCount()).isZero();
+    }
+
+    @DisplayName("""
+            Given users are loading by ids,
+            when the cache is invalidated,
+            then return users loaded but do not cache them
+            """)
+    @Test
+    void givenUsersLoading_WhenInvalidated_ThenReturnUsersButNotCache() {
+        final User loaded = TestUser.persisted();
+
+        final Map<UUID, User> users = cache.getAll(List.of(ID, MISSING_ID), ids -> {
+            cache.onReconnect();
+            return Arrays.asList(loaded, null);
+        });
+
+        then(users).containsExactly(entry(ID, loaded), entry(MISSING_ID, null));
+        then(cache.getSize()).isZero();
+        then(cache.getMissingSize()).isZero();
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String payload(final String modified) {
+        return """
+                {"type":"UPDATED","id":"%s","modified":"%s"}""".formatted(ID, modified);
+    }
+}
@@ -0,0 +1,309 @@
+package io.github.akuniutka.user.controller;
+
+import io.github.akuniutka.allocation.AllocationBudget;
+import io.github.akuniutka.allocation.AllocationMeter;
+import io.github.akuniutka.allocation.InjectAllocationMeter;
+import io.github.akuniutka.config.WebConfig;
+import io.github.akuniutka.user.TestUser;
+import io.github.akuniutka.user.TestUserDto;
+import io.github.akuniutka.user.dto.ChangeCursor;
+import io.github.akuniutka.user.dto.UserChangeDto;
+import io.github.akuniutka.user.dto.UserSearchResult;
+import io.github.akuniutka.user.entity.User;
+import io.github.akuniutka.user.mapper.UserMapper;
+import io.github.akuniutka.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+import org.springframework.test.web.servlet.assertj.MvcTestResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static io.github.akuniutka.user.TestUser.ID;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/*
+ * Budgets are bytes allocated by the thread handling a request, with the web layer configured as in production and
+ * the service and mapper stubbed. They are set with some headroom above what endpoints allocate now: a budget
+ * exceeded means that an endpoint started to allocate noticeably more, e.g. to build a log message which is not
+ * logged. Lists returned hold several users, so that per-user allocations stand out.
+ */
+@DisplayName("UserController Allocation Integration Tests")
+class UserControllerAllocationIT {
+
+    private static final String BASE_URL = "/users";
+    private static final int REQUESTS = 50;
+    private static final int USERS = 20;
+
+    @InjectAllocationMeter
+    private AllocationMeter allocationMeter;
+
+    private UserService stubUserService;
+    private UserMapper stubUserMapper;
+    private MockMvcTester mockMvcTester;
+
+    /*
+     * Stubs do not record invocations, so that memory they use does not grow from request to request.
+     */
+    @BeforeEach
+    void setUp() {
+        stubUserService = mock(UserService.class, withSettings().stubOnly());
+        stubUserMapper = mock(UserMapper.class, withSettings().stubOnly());
+        final List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        new WebConfig().extendMessageConverters(converters);
+        mockMvcTester = MockMvcTester.create(MockMvcBuilders
+                .standaloneSetup(new UserController(stubUserService, stubUserMapper))
+                .setMessageConverters(converters.toArray(HttpMessageConverter[]::new))
+                .addFilters(allocationMeter)
+                .build());
+    }
+
+    @DisplayName("""
+            When POST at base URL,
+            then allocate within the budget
+            """)
+    @AllocationBudget(bytes = 76 * 1024)
+    @Test
+    void whenPostAtBaseUrl_ThenAllocateWithinBudget() {
+        given(stubUserMapper.mapToEntity(any())).willReturn(TestUser.fresh());
+        given(stubUserService.addUser(any())).willReturn(TestUser.persisted());
+        given(stubUserMapper.mapToDto(any(User.class))).willReturn(TestUserDto.base());
+
+        performRepeatedly(() -> mockMvcTester
+                .post()
+                .uri(BASE_URL)
+                .characterEncoding(StandardCharsets.UTF_8)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                          "firstName": "John",
+                          "lastName": "Doe",
+                          "email": "john@mail.com"
+                        }
+                        """)
+                .exchange());
+    }
+
+    @DisplayName("""
+            When GET at base URL,
+            then allocate within the budget
+            """)
+    @AllocationBudget(bytes = 96 * 1024)
+    @Test
+    void whenGetAtBaseUrl_ThenAllocateWithinBudget() {
+        given(stubUserService.findAllUsers()).willReturn(Collections.nCopies(USERS, TestUser.persisted()));
+        given(stubUserMapper.mapToDto(anyList())).willReturn(Collections.nCopies(USERS, TestUserDto.base()));
+
+        performRepeatedly(() -> mockMvcTester
+                .get()
+                .uri(BASE_URL)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange());
+    }
+
+    @DisplayName("""
+            When GET at base URL with a filter, a sort order and a page,
+            then allocate within the budget
+            """)
+    @AllocationBudget(bytes = 96 * 1024)
+    @Test
+    void whenGetAtBaseUrlWithQuery_ThenAllocateWithinBudget() {
+        given(stubUserService.findUsers(any())).willReturn(Collections.nCopies(USERS, TestUser.persisted()));
+        given(stubUserMapper.mapToDto(anyList())).willReturn(Collections.nCopies(USERS, TestUserDto.base()));
+
+        performRepeatedly(() -> mockMvcTester
+                .get()
+                .uri(BASE_URL + "?state=ACTIVE&lastNamePrefix=Do&sort=lastName"
+                        + "&after=" + ID + "&limit=" + USERS)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange());
+    }
+
+    @DisplayName("""
+            When GET at base URL with IDs specified,
+            then allocate within the budget
+            """)
+    @AllocationBudget(bytes = 40 * 1024)
+    @Test
+    void whenGetAtBaseUrlWithIds_ThenAllocateWithinBudget() {
+        final Map<UUID, User> users = new LinkedHashMap<>();
+        users.put(UUID.fromString("0191d1e7-3c3a-7c1e-9f4a-0c2e6f8b5d10"), null);
+        users.put(ID, TestUser.persisted());
+        given(stubUserService.findUsersByIds(anyList())).willReturn(users);
+        given(stubUserMapper.mapToDto(any(User.class))).willReturn(TestUserDto.base());
+
+        performRepeatedly(() -> mockMvcTester
+                .get()
+                .uri(BASE_URL + "?ids=0191d1e7-3c3a-7c1e-9f4a-0c2e6f8b5d10," + ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange());
+    }
+
+    @DisplayName("""
+            When GET at base URL with fields specified,
+            then allocate within the budget
+            """)
+    @AllocationBudget(bytes = 28 * 1024)
+    @Test
+    void whenGetAtBaseUrlWithFields_ThenAllocateWithinBudget() {
+        given(stubUserService.findAllUsers(anySet()))
+                .willReturn(Collections.nCopies(USERS, Map.of("id", ID, "firstName", "John")));
+
+        performRepeatedly(() -> mockMvcTester
+                .get()
+                .uri(BASE_URL + "?fields=id,firstName")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange());
+    }
+
+    @DisplayName("""
+            When GET at search URL,
+            then allocate within the budget
+            """)
+    @AllocationBudget(bytes = 84 * 1024)
+    @Test
+    void whenGetAtSearchUrl_ThenAllocateWithinBudget() {
+        given(stubUserService.searchUsers(any())).willReturn(Collections.nCopies(USERS, UserSearchResult.builder()
+                .id(ID)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@mail.com")
+                .state("ACTIVE")
+                .score(0.5)
+                .build()));
+
+        performRepeatedly(() -> mockMvcTester
+                .get()
+                .uri(BASE_URL + "/search?q={q}&limit=" + USERS, "john@")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange());
+    }
+
+    @DisplayName("""
+            When GET at changes URL,
+            then allocate within the budget
+            """)
+    @AllocationBudget(bytes = 104 * 1024)
+    @Test
+    void whenGetAtChangesUrl_ThenAllocateWithinBudget() {
+        final ChangeCursor since = new ChangeCursor(1000L, ID);
+        given(stubUserService.findChanges(any(), any())).willReturn(Collections.nCopies(USERS,
+                TestUser.persisted()));
+        given(stubUserMapper.mapToChangeDto(anyList())).willReturn(Collections.nCopies(USERS,
+                UserChangeDto.builder()
+                        .id(ID)
+                        .modified(TestUser.MODIFIED.toInstant())
+                        .user(TestUserDto.base())
+                        .build()));
+
+        performRepeatedly(() -> mockMvcTester
+                .get()
+                .uri(BASE_URL + "/changes?since=" + since.encode())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange());
+    }
+
+    @DisplayName("""
+            When GET at base URL with user's ID,
+            then allocate within the budget
+            """)
+    @AllocationBudget(bytes = 22 * 1024)
+    @Test
+    void whenGetAtBaseUrlWithUserId_ThenAllocateWithinBudget() {
+        given(stubUserService.getUserById(ID)).willReturn(TestUser.persisted());
+        given(stubUserMapper.mapToDto(any(User.class))).willReturn(TestUserDto.base());
+
+        performRepeatedly(() -> mockMvcTester
+                .get()
+                .uri(BASE_URL + "/" + ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange());
+    }
+
+    @DisplayName("""
+            When GET at base URL with user's ID and fields specified,
+            then allocate within the budget
+            """)
+    @AllocationBudget(bytes = 24 * 1024)
+    @Test
+    void whenGetAtBaseUrlWithUserIdAndFields_ThenAllocateWithinBudget() {
+        given(stubUserService.getUserById(eq(ID), anySet())).willReturn(Map.of("email", "john@mail.com"));
+
+        performRepeatedly(() -> mockMvcTester
+                .get()
+                .uri(BASE_URL + "/" + ID + "?fields=email")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange());
+    }
+
+    @DisplayName("""
+            When PATCH at base URL with user's ID,
+            then allocate within the budget
+            """)
+    @AllocationBudget(bytes = 80 * 1024)
+    @Test
+    void whenPatchAtBaseUrlWithUserId_ThenAllocateWithinBudget() {
+        given(stubUserMapper.mapToEntity(eq(ID), any())).willReturn(TestUser.patch());
+        given(stubUserService.updateUser(any())).willReturn(TestUser.patched());
+        given(stubUserMapper.mapToDto(any(User.class))).willReturn(TestUserDto.patched());
+
+        performRepeatedly(() -> mockMvcTester
+                .patch()
+                .uri(BASE_URL + "/" + ID)
+                .characterEncoding(StandardCharsets.UTF_8)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                          "firstName": "Jack",
+                          "lastName": "Sparrow",
+                          "email": "jack@mail.com",
+                          "state": "BLOCKED"
+                        }
+                        """)
+                .exchange());
+    }
+
+    @DisplayName("""
+            When DELETE at base URL with user's ID,
+            then allocate within the budget
+            """)
+    @AllocationBudget(bytes = 22 * 1024)
+    @Test
+    void whenDeleteAtBaseUrlWithUserId_ThenAllocateWithinBudget() {
+        given(stubUserService.deleteUserById(ID)).willReturn(TestUser.deleted());
+        given(stubUserMapper.mapToDto(any(User.class))).willReturn(TestUserDto.deleted());
+
+        performRepeatedly(() -> mockMvcTester
+                .delete()
+                .uri(BASE_URL + "/" + ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange());
+    }
+
+    private void performRepeatedly(final Supplier<MvcTestResult> request) {
+        for (int i = 0; i < REQUESTS; i++) {
+            then(request.get()).hasStatus(HttpStatus.OK);
+        }
+    }
+}
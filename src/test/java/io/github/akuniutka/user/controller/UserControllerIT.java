@@ -1,15 +1,26 @@
 package io.github.akuniutka.user.controller;
 
+import io.github.akuniutka.exception.DtoNotValidException;
+import io.github.akuniutka.exception.InvalidCursorException;
 import io.github.akuniutka.user.TestCreateUserRequest;
 import io.github.akuniutka.user.TestUpdateUserRequest;
 import io.github.akuniutka.user.TestUser;
 import io.github.akuniutka.user.TestUserDto;
+import io.github.akuniutka.user.dto.ChangeCursor;
+import io.github.akuniutka.user.dto.UserChangeDto;
+import io.github.akuniutka.user.dto.UserField;
+import io.github.akuniutka.user.dto.UserQuery;
+import io.github.akuniutka.user.dto.UserSearchQuery;
+import io.github.akuniutka.user.dto.UserSearchResult;
+import io.github.akuniutka.user.entity.User;
 import io.github.akuniutka.user.mapper.UserMapper;
 import io.github.akuniutka.user.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,7 +30,11 @@ import org.springframework.test.web.servlet.assertj.MockMvcTester;
 import org.springframework.test.web.servlet.assertj.MvcTestResult;
 
 import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import static io.github.akuniutka.user.TestUser.ID;
 import static io.github.akuniutka.util.TestUtils.refContains;
@@ -121,6 +136,289 @@ class UserControllerIT {
                         """);
     }
 
+    @DisplayName("""
+            When GET at base URL with a filter, a sort order and a page,
+            then respond with OK and the page of users
+            """)
+    @Test
+    void whenGetAtBaseUrlWithQuery_ThenInvokeFindUsers() {
+        final UserQuery query = UserQuery.builder()
+                .state(User.State.ACTIVE)
+                .lastNamePrefix("Do")
+                .sort("lastName")
+                .after(ID)
+                .limit(10)
+                .build();
+        given(mockUserService.findUsers(query)).willReturn(List.of(TestUser.persisted()));
+        given(mockUserMapper.mapToDto(refContains(TestUser.persisted()))).willReturn(List.of(TestUserDto.base()));
+
+        final MvcTestResult response = mockMvcTester
+                .get()
+                .uri(BASE_URL + "?state=ACTIVE&lastNamePrefix=Do&sort=lastName"
+                        + "&after=" + ID + "&limit=10")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        then(response)
+                .hasStatus(HttpStatus.OK)
+                .hasContentType(MediaType.APPLICATION_JSON)
+                .bodyJson().isEqualTo("""
+                        [
+                          {
+                            "id": "92f08b0a-4302-40ff-823d-b9ce18522552",
+                            "firstName": "John",
+                            "lastName": "Doe",
+                            "email": "john@mail.com",
+                            "state": "ACTIVE",
+                            "registrationDate": "2001-02-03T04:05:06.789012Z"
+                          }
+                        ]
+                        """);
+    }
+
+    @DisplayName("""
+            When GET at base URL with an unsupported sort order,
+            then fail on query validation
+            """)
+    @Test
+    void whenGetAtBaseUrlWithUnsupportedSort_ThenThrowDtoNotValidException() {
+
+        final MvcTestResult response = mockMvcTester
+                .get()
+                .uri(BASE_URL + "?sort=firstName")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        then(response)
+                .hasFailed()
+                .failure().hasCauseInstanceOf(DtoNotValidException.class);
+    }
+
+    @DisplayName("""
+            When GET at base URL with a range filter on other than the sort key,
+            then fail on query validation
+            """)
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "?emailPrefix=john",
+            "?emailPrefix=john&sort=lastName",
+            "?lastNamePrefix=Do",
+            "?lastNamePrefix=Do&sort=registrationDate",
+            "?state=ACTIVE&lastNamePrefix=Do&sort=registrationDate",
+            "?registeredFrom=2001-01-01T00:00:00Z",
+            "?registeredTo=2001-01-01T00:00:00Z&sort=lastName"
+    })
+    void whenGetAtBaseUrlWithRangeFilterOnOtherThanSortKey_ThenThrowDtoNotValidException(final String query) {
+
+        final MvcTestResult response = mockMvcTester
+                .get()
+                .uri(BASE_URL + query)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        then(response)
+                .hasFailed()
+                .failure().hasCauseInstanceOf(DtoNotValidException.class);
+    }
+
+    @DisplayName("""
+            When GET at search URL with a text,
+            then respond with OK and users found
+            """)
+    @Test
+    void whenGetAtSearchUrl_ThenInvokeSearchUsers() {
+        final UserSearchQuery query = UserSearchQuery.builder().q("john@").limit(5).build();
+        given(mockUserService.searchUsers(query)).willReturn(List.of(UserSearchResult.builder()
+                .id(ID)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@mail.com")
+                .state("ACTIVE")
+                .score(0.5)
+                .build()));
+
+        final MvcTestResult response = mockMvcTester
+                .get()
+                .uri(BASE_URL + "/search?q={q}&limit=5", "john@")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        then(response)
+                .hasStatus(HttpStatus.OK)
+                .hasContentType(MediaType.APPLICATION_JSON)
+                .bodyJson().isStrictlyEqualTo("""
+                        [
+                          {
+                            "id": "92f08b0a-4302-40ff-823d-b9ce18522552",
+                            "firstName": "John",
+                            "lastName": "Doe",
+                            "email": "john@mail.com",
+                            "state": "ACTIVE",
+                            "score": 0.5
+                          }
+                        ]
+                        """);
+    }
+
+    @DisplayName("""
+            When GET at search URL with a text too short,
+            then fail on query validation
+            """)
+    @Test
+    void whenGetAtSearchUrlWithShortText_ThenThrowDtoNotValidException() {
+
+        final MvcTestResult response = mockMvcTester
+                .get()
+                .uri(BASE_URL + "/search?q=Jo")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        then(response)
+                .hasFailed()
+                .failure().hasCauseInstanceOf(DtoNotValidException.class);
+    }
+
+    @DisplayName("""
+            When GET at changes URL with a cursor,
+            then respond with OK, changes after the cursor and the next cursor
+            """)
+    @Test
+    void whenGetAtChangesUrl_ThenInvokeFindChanges() {
+        final ChangeCursor since = new ChangeCursor(1000L, ID);
+        final ChangeCursor next = new ChangeCursor(TestUser.CHANGE_ID, ID);
+        final List<User> users = List.of(TestUser.persisted(), TestUser.deleted());
+        given(mockUserService.findChanges(since, null)).willReturn(users);
+        given(mockUserMapper.mapToChangeDto(users)).willReturn(List.of(
+                UserChangeDto.builder()
+                        .id(ID)
+                        .modified(TestUser.MODIFIED.toInstant())
+                        .user(TestUserDto.base())
+                        .build(),
+                UserChangeDto.builder()
+                        .id(ID)
+                        .modified(TestUser.MODIFIED.toInstant())
+                        .deleted(true)
+                        .build()));
+
+        final MvcTestResult response = mockMvcTester
+                .get()
+                .uri(BASE_URL + "/changes?since=" + since.encode())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        then(response)
+                .hasStatus(HttpStatus.OK)
+                .hasContentType(MediaType.APPLICATION_JSON)
+                .bodyJson().isStrictlyEqualTo("""
+                        {
+                          "changes": [
+                            {
+                              "id": "92f08b0a-4302-40ff-823d-b9ce18522552",
+                              "modified": "2002-03-04T05:06:07.890123Z",
+                              "deleted": false,
+                              "user": {
+                                "id": "92f08b0a-4302-40ff-823d-b9ce18522552",
+                                "firstName": "John",
+                                "lastName": "Doe",
+                                "email": "john@mail.com",
+                                "state": "ACTIVE",
+                                "registrationDate": "2001-02-03T04:05:06.789012Z"
+                              }
+                            },
+                            {
+                              "id": "92f08b0a-4302-40ff-823d-b9ce18522552",
+                              "modified": "2002-03-04T05:06:07.890123Z",
+                              "deleted": true
+                            }
+                          ],
+                          "next": "%s"
+                        }
+                        """.formatted(next.encode()));
+    }
+
+    @DisplayName("""
+            When GET at changes URL with a malformed cursor,
+            then fail on cursor decoding
+            """)
+    @Test
+    void whenGetAtChangesUrlWithMalformedCursor_ThenThrowInvalidCursorException() {
+
+        final MvcTestResult response = mockMvcTester
+                .get()
+                .uri(BASE_URL + "/changes?since=garbage")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        then(response)
+                .hasFailed()
+                .failure().hasCauseInstanceOf(InvalidCursorException.class);
+    }
+
+    @DisplayName("""
+            When GET at base URL with IDs specified,
+            then respond with OK and users by IDs in the order requested with null for users not found
+            """)
+    @Test
+    void whenGetAtBaseUrlWithIds_ThenInvokeFindUsersByIds() {
+        final UUID otherId = UUID.fromString("0191d1e7-3c3a-7c1e-9f4a-0c2e6f8b5d10");
+        final Map<UUID, User> users = new LinkedHashMap<>();
+        users.put(otherId, null);
+        users.put(ID, TestUser.persisted());
+        given(mockUserService.findUsersByIds(List.of(otherId, ID))).willReturn(users);
+        given(mockUserMapper.mapToDto(refEq(TestUser.persisted()))).willReturn(TestUserDto.base());
+
+        final MvcTestResult response = mockMvcTester
+                .get()
+                .uri(BASE_URL + "?ids=" + otherId + "," + ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        then(response)
+                .hasStatus(HttpStatus.OK)
+                .hasContentType(MediaType.APPLICATION_JSON)
+                .bodyJson().isStrictlyEqualTo("""
+                        {
+                          "0191d1e7-3c3a-7c1e-9f4a-0c2e6f8b5d10": null,
+                          "92f08b0a-4302-40ff-823d-b9ce18522552": {
+                            "id": "92f08b0a-4302-40ff-823d-b9ce18522552",
+                            "firstName": "John",
+                            "lastName": "Doe",
+                            "email": "john@mail.com",
+                            "state": "ACTIVE",
+                            "registrationDate": "2001-02-03T04:05:06.789012Z"
+                          }
+                        }
+                        """);
+    }
+
+    @DisplayName("""
+            When GET at base URL with fields specified,
+            then respond with OK and the list of users with those fields only
+            """)
+    @Test
+    void whenGetAtBaseUrlWithFields_ThenInvokeFindAllUsersWithFields() {
+        given(mockUserService.findAllUsers(EnumSet.of(UserField.ID, UserField.FIRST_NAME)))
+                .willReturn(List.of(Map.of("id", ID, "firstName", "John")));
+
+        final MvcTestResult response = mockMvcTester
+                .get()
+                .uri(BASE_URL + "?fields=id,firstName")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        then(response)
+                .hasStatus(HttpStatus.OK)
+                .hasContentType(MediaType.APPLICATION_JSON)
+                .bodyJson().isStrictlyEqualTo("""
+                        [
+                          {
+                            "id": "92f08b0a-4302-40ff-823d-b9ce18522552",
+                            "firstName": "John"
+                          }
+                        ]
+                        """);
+    }
+
     @DisplayName("""
             When GET at base URL with user's ID,
             then respond with OK and the user
@@ -151,6 +449,30 @@ class UserControllerIT {
                         """);
     }
 
+    @DisplayName("""
+            When GET at base URL with user's ID and fields specified,
+            then respond with OK and the user with those fields only
+            """)
+    @Test
+    void whenGetAtBaseUrlWithUserIdAndFields_ThenInvokeGetUserByIdWithFields() {
+        given(mockUserService.getUserById(ID, EnumSet.of(UserField.EMAIL))).willReturn(Map.of("email", "john@mail.com"));
+
+        final MvcTestResult response = mockMvcTester
+                .get()
+                .uri(BASE_URL + "/" + ID + "?fields=email")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        then(response)
+                .hasStatus(HttpStatus.OK)
+                .hasContentType(MediaType.APPLICATION_JSON)
+                .bodyJson().isStrictlyEqualTo("""
+                        {
+                          "email": "john@mail.com"
+                        }
+                        """);
+    }
+
     @DisplayName("""
             When PATCH at base URL with user's ID,
             then respond with OK and the user updated
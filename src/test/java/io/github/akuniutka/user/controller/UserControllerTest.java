@@ -1,6 +1,7 @@
 package io.github.akuniutka.user.controller;
 
 import io.github.akuniutka.exception.DtoNotValidException;
+import io.github.akuniutka.exception.UnknownFieldException;
 import io.github.akuniutka.log.InjectLogCaptor;
 import io.github.akuniutka.log.LogCaptor;
 import io.github.akuniutka.log.LogEvents;
@@ -12,6 +13,15 @@ import io.github.akuniutka.user.TestUserDto;
 import io.github.akuniutka.user.dto.CreateUserRequest;
 import io.github.akuniutka.user.dto.UpdateUserRequest;
 import io.github.akuniutka.user.dto.UserDto;
+import io.github.akuniutka.user.dto.UserField;
+import io.github.akuniutka.user.dto.ChangeCursor;
+import io.github.akuniutka.user.dto.UserChangeDto;
+import io.github.akuniutka.user.dto.UserChangesDto;
+import io.github.akuniutka.user.dto.UserChangesQuery;
+import io.github.akuniutka.user.dto.UserQuery;
+import io.github.akuniutka.user.dto.UserSearchQuery;
+import io.github.akuniutka.user.dto.UserSearchResult;
+import io.github.akuniutka.user.entity.User;
 import io.github.akuniutka.user.mapper.UserMapper;
 import io.github.akuniutka.user.service.UserService;
 import org.junit.jupiter.api.DisplayName;
@@ -22,11 +32,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.validation.BindingResult;
 
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
+import static io.github.akuniutka.user.TestUser.EMAIL;
 import static io.github.akuniutka.user.TestUser.ID;
 import static io.github.akuniutka.util.TestUtils.refContains;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.ArgumentMatchers.refEq;
 import static org.mockito.BDDMockito.given;
@@ -97,7 +113,7 @@ class UserControllerTest {
         given(mockUserService.findAllUsers()).willReturn(List.of(TestUser.persisted()));
         given(mockUserMapper.mapToDto(refContains(TestUser.persisted()))).willReturn(List.of(TestUserDto.base()));
 
-        final List<UserDto> dtos = controller.findAllUsers();
+        final List<UserDto> dtos = controller.findAllUsers(UserQuery.builder().build(), mockBindingResult);
 
         then(dtos).containsExactly(TestUserDto.base());
         then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
@@ -106,6 +122,187 @@ class UserControllerTest {
         ));
     }
 
+    @DisplayName("""
+            Given a binding result has errors,
+            when find users with a query,
+            then throw an exception
+            """)
+    @Test
+    void givenBindingResultHasErrors_WhenFindAllUsersWithQuery_ThenThrowDtoNotValidException() {
+        final UserQuery query = UserQuery.builder().limit(0).build();
+        given(mockBindingResult.hasErrors()).willReturn(true);
+
+        final Throwable throwable = catchThrowable(() -> controller.findAllUsers(query, mockBindingResult));
+
+        then(throwable)
+                .isInstanceOf(DtoNotValidException.class)
+                .hasFieldOrPropertyWithValue("errors", mockBindingResult);
+    }
+
+    @DisplayName("""
+            When find users with a query,
+            then pass the query to the service, return service's response, log the request and the response
+            """)
+    @Test
+    void whenFindAllUsersWithQuery_ThenPassQueryToServiceAndMapResultToDtosAndReturnAndLog() {
+        final UserQuery query = UserQuery.builder().state(User.State.ACTIVE).sort("lastName").limit(10).build();
+        given(mockUserService.findUsers(query)).willReturn(List.of(TestUser.persisted()));
+        given(mockUserMapper.mapToDto(refContains(TestUser.persisted()))).willReturn(List.of(TestUserDto.base()));
+
+        final List<UserDto> dtos = controller.findAllUsers(query, mockBindingResult);
+
+        then(dtos).containsExactly(TestUserDto.base());
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "INFO", "Received request for users: query = " + query,
+                "INFO", "Responded with users requested"
+        ));
+    }
+
+    @DisplayName("""
+            Given a binding result has errors,
+            when search users,
+            then throw an exception
+            """)
+    @Test
+    void givenBindingResultHasErrors_WhenSearchUsers_ThenThrowDtoNotValidException() {
+        final UserSearchQuery query = UserSearchQuery.builder().q("Jo").build();
+        given(mockBindingResult.hasErrors()).willReturn(true);
+
+        final Throwable throwable = catchThrowable(() -> controller.searchUsers(query, mockBindingResult));
+
+        then(throwable)
+                .isInstanceOf(DtoNotValidException.class)
+                .hasFieldOrPropertyWithValue("errors", mockBindingResult);
+    }
+
+    @DisplayName("""
+            When search users,
+            then pass the query to the service, return service's response, log the request and the response
+            """)
+    @Test
+    void whenSearchUsers_ThenPassQueryToServiceAndReturnResultAndLog() {
+        final UserSearchQuery query = UserSearchQuery.builder().q("Doe").limit(10).build();
+        final UserSearchResult result = UserSearchResult.builder().id(ID).lastName("Doe").score(1.0).build();
+        given(mockUserService.searchUsers(query)).willReturn(List.of(result));
+
+        final List<UserSearchResult> users = controller.searchUsers(query, mockBindingResult);
+
+        then(users).containsExactly(result);
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "INFO", "Received request to search users: query = " + query,
+                "INFO", "Responded with users found: count = 1"
+        ));
+    }
+
+    @DisplayName("""
+            When find changes without a cursor,
+            then find changes from the start and return them with the cursor of the last change, and log
+            """)
+    @Test
+    void whenFindChangesWithoutCursor_ThenFindChangesFromStartAndReturnCursorOfLastChangeAndLog() {
+        final UserChangesQuery query = UserChangesQuery.builder().limit(10).build();
+        final UserChangeDto change = UserChangeDto.builder().id(ID).build();
+        given(mockUserService.findChanges(ChangeCursor.START, 10)).willReturn(List.of(TestUser.persisted()));
+        given(mockUserMapper.mapToChangeDto(refContains(TestUser.persisted()))).willReturn(List.of(change));
+        final String next = new ChangeCursor(TestUser.CHANGE_ID, ID).encode();
+
+        final UserChangesDto dto = controller.findChanges(query, mockBindingResult);
+
+        then(dto).isEqualTo(UserChangesDto.builder().changes(List.of(change)).next(next).build());
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "INFO", "Received request for user changes: query = " + query,
+                "INFO", "Responded with user changes: count = 1, next = " + next
+        ));
+    }
+
+    @DisplayName("""
+            Given there are no changes after a cursor,
+            when find changes,
+            then return the same cursor
+            """)
+    @Test
+    void givenNoChangesAfterCursor_WhenFindChanges_ThenReturnSameCursor() {
+        final String since = new ChangeCursor(TestUser.CHANGE_ID, ID).encode();
+        final UserChangesQuery query = UserChangesQuery.builder().since(since).build();
+        given(mockUserService.findChanges(ChangeCursor.decode(since), null)).willReturn(List.of());
+        given(mockUserMapper.mapToChangeDto(List.<User>of())).willReturn(List.of());
+
+        final UserChangesDto dto = controller.findChanges(query, mockBindingResult);
+
+        then(dto).isEqualTo(UserChangesDto.builder().changes(List.of()).next(since).build());
+    }
+
+    @DisplayName("""
+            Given a binding result has errors,
+            when find changes,
+            then throw an exception
+            """)
+    @Test
+    void givenBindingResultHasErrors_WhenFindChanges_ThenThrowDtoNotValidException() {
+        final UserChangesQuery query = UserChangesQuery.builder().limit(0).build();
+        given(mockBindingResult.hasErrors()).willReturn(true);
+
+        final Throwable throwable = catchThrowable(() -> controller.findChanges(query, mockBindingResult));
+
+        then(throwable)
+                .isInstanceOf(DtoNotValidException.class)
+                .hasFieldOrPropertyWithValue("errors", mockBindingResult);
+    }
+
+    @DisplayName("""
+            When find users by their IDs,
+            then pass IDs to the service, map users found to DTOs, keep nulls for users not found and log
+            """)
+    @Test
+    void whenFindUsersByIds_ThenPassIdsToServiceAndMapUsersFoundToDtosAndKeepNullsAndLog() {
+        final UUID otherId = UUID.fromString("0191d1e7-3c3a-7c1e-9f4a-0c2e6f8b5d10");
+        final Map<UUID, User> users = new LinkedHashMap<>();
+        users.put(otherId, null);
+        users.put(ID, TestUser.persisted());
+        given(mockUserService.findUsersByIds(List.of(otherId, ID))).willReturn(users);
+        given(mockUserMapper.mapToDto(refEq(TestUser.persisted()))).willReturn(TestUserDto.base());
+
+        final Map<UUID, UserDto> dtos = controller.findUsersByIds(List.of(otherId, ID));
+
+        then(dtos).containsExactly(entry(otherId, null), entry(ID, TestUserDto.base()));
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "INFO", "Received request for users by ids: count = 2",
+                "INFO", "Responded with users requested by ids"
+        ));
+    }
+
+    @DisplayName("""
+            When find all users with fields specified,
+            then pass parsed fields to the service, return service's response, log the request and the response
+            """)
+    @Test
+    void whenFindAllUsersWithFields_ThenPassParsedFieldsToServiceAndReturnAndLog() {
+        given(mockUserService.findAllUsers(EnumSet.of(UserField.ID, UserField.EMAIL)))
+                .willReturn(List.of(Map.of("id", ID, "email", EMAIL)));
+
+        final List<Map<String, Object>> users = controller.findAllUsers("email,id");
+
+        then(users).containsExactly(Map.of("id", ID, "email", EMAIL));
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "INFO", "Received request for users: fields = email,id",
+                "INFO", "Responded with users requested"
+        ));
+    }
+
+    @DisplayName("""
+            When find all users with an unknown field,
+            then throw an exception
+            """)
+    @Test
+    void whenFindAllUsersWithUnknownField_ThenThrowUnknownFieldException() {
+
+        final Throwable throwable = catchThrowable(() -> controller.findAllUsers("id,password"));
+
+        then(throwable)
+                .isInstanceOf(UnknownFieldException.class)
+                .hasFieldOrPropertyWithValue("field", "password");
+    }
+
     @DisplayName("""
             When get a user by their ID,
             then pass ID to the service, return service's response, log the request and the response
@@ -124,6 +321,24 @@ class UserControllerTest {
         ));
     }
 
+    @DisplayName("""
+            When get a user by their ID with fields specified,
+            then pass ID and parsed fields to the service, return service's response, log the request and the response
+            """)
+    @Test
+    void whenGetUserByIdWithFields_ThenPassUserIdAndParsedFieldsToServiceAndReturnAndLog() {
+        given(mockUserService.getUserById(ID, EnumSet.of(UserField.ID, UserField.EMAIL)))
+                .willReturn(Map.of("id", ID, "email", EMAIL));
+
+        final Map<String, Object> user = controller.getUserById(ID, "id,email");
+
+        then(user).isEqualTo(Map.of("id", ID, "email", EMAIL));
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "INFO", "Received request for user: id = 92f08b0a-4302-40ff-823d-b9ce18522552, fields = id,email",
+                "INFO", "Responded with user requested: id = 92f08b0a-4302-40ff-823d-b9ce18522552"
+        ));
+    }
+
     @DisplayName("""
             Given a binding result has errors,
             when update a user,
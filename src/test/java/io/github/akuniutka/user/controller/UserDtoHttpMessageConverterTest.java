@@ -0,0 +1,228 @@
+package io.github.akuniutka.user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.akuniutka.config.WebConfig;
+import io.github.akuniutka.user.TestUserDto;
+import io.github.akuniutka.user.dto.UserDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("UserDtoHttpMessageConverter Unit Tests")
+class UserDtoHttpMessageConverterTest {
+
+    private static final Type USER_DTO_LIST = new ParameterizedTypeReference<List<UserDto>>() {
+    }.getType();
+    private static final Type STRING_LIST = new ParameterizedTypeReference<List<String>>() {
+    }.getType();
+    private static final Type USER_DTO_SET = new ParameterizedTypeReference<Set<UserDto>>() {
+    }.getType();
+
+    private final ObjectMapper objectMapper = new WebConfig().objectMapper();
+    private final UserDtoHttpMessageConverter converter = new UserDtoHttpMessageConverter();
+
+    @DisplayName("""
+            When write a user DTO,
+            then write the same bytes as the object mapper
+            """)
+    @Test
+    void whenWriteUserDto_ThenWriteSameBytesAsObjectMapper() throws Exception {
+
+        final byte[] bytes = write(TestUserDto.base(), UserDto.class);
+
+        then(bytes).isEqualTo(objectMapper.writeValueAsBytes(TestUserDto.base()));
+    }
+
+    @DisplayName("""
+            When write a list of user DTOs,
+            then write the same bytes as the object mapper
+            """)
+    @Test
+    void whenWriteUserDtoList_ThenWriteSameBytesAsObjectMapper() throws Exception {
+        final List<UserDto> dtos = List.of(TestUserDto.base(), TestUserDto.patched(), TestUserDto.deleted());
+
+        final byte[] bytes = write(dtos, USER_DTO_LIST);
+
+        then(bytes).isEqualTo(objectMapper.writeValueAsBytes(dtos));
+    }
+
+    @DisplayName("""
+            When write an empty list of user DTOs,
+            then write an empty array
+            """)
+    @Test
+    void whenWriteEmptyUserDtoList_ThenWriteEmptyArray() throws Exception {
+
+        final byte[] bytes = write(List.of(), USER_DTO_LIST);
+
+        then(bytes).isEqualTo(objectMapper.writeValueAsBytes(List.of()));
+    }
+
+    @DisplayName("""
+            When write a list with a null element and a user DTO with null fields,
+            then write the same bytes as the object mapper
+            """)
+    @Test
+    void whenWriteNulls_ThenWriteSameBytesAsObjectMapper() throws Exception {
+        final List<UserDto> dtos = Arrays.asList(null, UserDto.builder().build());
+
+        final byte[] bytes = write(dtos, USER_DTO_LIST);
+
+        then(bytes).isEqualTo(objectMapper.writeValueAsBytes(dtos));
+    }
+
+    @DisplayName("""
+            When write a user DTO with special characters in strings,
+            then write the same bytes as the object mapper
+            """)
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "quote \" and backslash \\ and slash /",
+            "\b\t\n\f\r",
+            "\u0000\u0001\u001f\u007f",
+            "Łukasz Żółć",
+            "Ёжиков",
+            "王小明 \u2028\u2029\uffff",
+            "emoji 😀 and 🎉",
+            ""
+    })
+    void whenWriteSpecialCharacters_ThenWriteSameBytesAsObjectMapper(final String value) throws Exception {
+        final UserDto dto = UserDto.builder()
+                .id(UUID.randomUUID())
+                .firstName(value)
+                .lastName(value)
+                .email(value)
+                .state(value)
+                .build();
+
+        final byte[] bytes = write(dto, UserDto.class);
+
+        then(bytes).isEqualTo(objectMapper.writeValueAsBytes(dto));
+    }
+
+    @DisplayName("""
+            When write a user DTO with a registration date,
+            then format it the same way as the object mapper
+            """)
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "1970-01-01T00:00:00Z",
+            "1969-12-31T23:59:59.999999999Z",
+            "2000-02-29T12:00:00.100Z",
+            "2001-02-03T04:05:06.789012Z",
+            "2024-12-31T23:59:59.000000001Z",
+            "2100-03-01T00:00:00.000010Z",
+            "0000-01-01T00:00:00Z",
+            "0001-01-01T00:00:00Z",
+            "9999-12-31T23:59:59.999Z",
+            "+10000-01-01T00:00:00Z",
+            "-0001-12-31T23:59:59Z",
+            "-1000000000-01-01T00:00:00Z",
+            "+1000000000-12-31T23:59:59.999999999Z"
+    })
+    void whenWriteRegistrationDate_ThenFormatSameWayAsObjectMapper(final String registrationDate) throws Exception {
+        final UserDto dto = baseBuilder()
+                .registrationDate(Instant.parse(registrationDate))
+                .build();
+
+        final byte[] bytes = write(dto, UserDto.class);
+
+        then(bytes).isEqualTo(objectMapper.writeValueAsBytes(dto));
+    }
+
+    @DisplayName("""
+            When write a list larger than the buffer,
+            then write the same bytes as the object mapper
+            """)
+    @Test
+    void whenWriteListLargerThanBuffer_ThenWriteSameBytesAsObjectMapper() throws Exception {
+        final List<UserDto> dtos = new ArrayList<>(Collections.nCopies(1_000, TestUserDto.base()));
+        dtos.add(baseBuilder().firstName("😀".repeat(5_000)).build());
+
+        final byte[] bytes = write(dtos, USER_DTO_LIST);
+
+        then(bytes).isEqualTo(objectMapper.writeValueAsBytes(dtos));
+    }
+
+    @DisplayName("""
+            When write a user DTO with unpaired surrogates,
+            then write the same bytes as the object mapper
+            """)
+    @Test
+    void whenWriteUnpairedSurrogates_ThenWriteSameBytesAsObjectMapper() throws Exception {
+        final UserDto dto = baseBuilder()
+                .firstName("broken \ud83d")
+                .lastName("\ude00 broken")
+                .build();
+
+        final byte[] bytes = write(dto, UserDto.class);
+
+        then(bytes).isEqualTo(objectMapper.writeValueAsBytes(dto));
+    }
+
+    @DisplayName("""
+            When check if can write,
+            then accept user DTOs and collections of user DTOs as JSON in UTF-8 only
+            """)
+    @Test
+    void whenCheckCanWrite_ThenAcceptUserDtosAsJsonInUtf8Only() {
+        then(converter.canWrite(UserDto.class, UserDto.class, MediaType.APPLICATION_JSON)).isTrue();
+        then(converter.canWrite(UserDto.class, UserDto.class, null)).isTrue();
+        then(converter.canWrite(null, UserDto.class, MediaType.ALL)).isTrue();
+        then(converter.canWrite(USER_DTO_LIST, ArrayList.class, MediaType.APPLICATION_JSON)).isTrue();
+        then(converter.canWrite(USER_DTO_SET, Set.class, MediaType.APPLICATION_JSON)).isTrue();
+        then(converter.canWrite(UserDto.class, UserDto.class, MediaType.APPLICATION_PROBLEM_JSON)).isTrue();
+        then(converter.canWrite(UserDto.class, UserDto.class,
+                MediaType.parseMediaType("application/json;charset=UTF-8"))).isTrue();
+
+        then(converter.canWrite(UserDto.class, UserDto.class,
+                MediaType.parseMediaType("application/json;charset=UTF-16"))).isFalse();
+        then(converter.canWrite(UserDto.class, UserDto.class,
+                MediaType.parseMediaType("application/x-jackson-smile"))).isFalse();
+        then(converter.canWrite(STRING_LIST, ArrayList.class, MediaType.APPLICATION_JSON)).isFalse();
+        then(converter.canWrite(ArrayList.class, ArrayList.class, MediaType.APPLICATION_JSON)).isFalse();
+        then(converter.canWrite(String.class, String.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @DisplayName("""
+            When check if can read,
+            then refuse
+            """)
+    @Test
+    void whenCheckCanRead_ThenRefuse() {
+        then(converter.canRead(UserDto.class, MediaType.APPLICATION_JSON)).isFalse();
+        then(converter.canRead(USER_DTO_LIST, null, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private static UserDto.UserDtoBuilder baseBuilder() {
+        final UserDto dto = TestUserDto.base();
+        return UserDto.builder()
+                .id(dto.id())
+                .firstName(dto.firstName())
+                .lastName(dto.lastName())
+                .email(dto.email())
+                .state(dto.state())
+                .registrationDate(dto.registrationDate());
+    }
+
+    private byte[] write(final Object object, final Type type) throws Exception {
+        final MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(object, type, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.akuniutka.user.controller;
+
+import io.github.akuniutka.user.event.UserEventStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+import org.springframework.test.web.servlet.assertj.MvcTestResult;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("UserStreamController Integration Tests")
+class UserStreamControllerIT {
+
+    private static final String URL = "/users/stream";
+    private static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(5);
+
+    private UserEventStream userEventStream;
+    private MockMvcTester mockMvcTester;
+
+    @BeforeEach
+    void setUp() {
+        userEventStream = new UserEventStream();
+        mockMvcTester = MockMvcTester.of(new UserStreamController(userEventStream));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userEventStream.destroy();
+    }
+
+    @DisplayName("""
+            When GET at stream URL and a user event arrives,
+            then start an event stream and send the event as is
+            """)
+    @Test
+    void whenGetAtStreamUrlAndEventArrives_ThenSendEvent() throws Exception {
+        final String event = """
+                {"type":"DELETED","id":"92f08b0a-4302-40ff-823d-b9ce18522552"}""";
+
+        final MvcTestResult response = mockMvcTester
+                .get()
+                .uri(URL)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .asyncExchange();
+        userEventStream.onNotification(event);
+
+        then(response).request().hasAsyncStarted(true);
+        then(awaitContent(response, event)).isEqualTo("data:" + event + "\n\n");
+        then(response).hasStatus(HttpStatus.OK).hasContentType(MediaType.TEXT_EVENT_STREAM);
+    }
+
+    private static String awaitContent(final MvcTestResult response, final String expected) throws Exception {
+        final long deadline = System.nanoTime() + DELIVERY_TIMEOUT.toNanos();
+        String content = response.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = response.getResponse().getContentAsString();
+        }
+        return content;
+    }
+}
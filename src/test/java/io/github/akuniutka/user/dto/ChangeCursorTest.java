@@ -0,0 +1,69 @@
+package io.github.akuniutka.user.dto;
+
+import io.github.akuniutka.exception.InvalidCursorException;
+import io.github.akuniutka.user.TestUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static io.github.akuniutka.user.TestUser.ID;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("ChangeCursor Unit Tests")
+class ChangeCursorTest {
+
+    @DisplayName("""
+            When encode a cursor and decode it back,
+            then return an equal cursor
+            """)
+    @Test
+    void whenEncodeAndDecode_ThenReturnEqualCursor() {
+        final ChangeCursor cursor = new ChangeCursor(1234L, ID);
+
+        final ChangeCursor decoded = ChangeCursor.decode(cursor.encode());
+
+        then(decoded).isEqualTo(cursor);
+    }
+
+    @DisplayName("""
+            When encode a cursor,
+            then return a string safe to use in URLs as is
+            """)
+    @Test
+    void whenEncode_ThenReturnUrlSafeString() {
+
+        final String encoded = new ChangeCursor(1234L, ID).encode();
+
+        then(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @DisplayName("""
+            When create a cursor of a user,
+            then take the user's change ID and ID
+            """)
+    @Test
+    void whenCreateCursorOfUser_ThenTakeUserChangeIdAndId() {
+
+        final ChangeCursor cursor = ChangeCursor.of(TestUser.persisted());
+
+        then(cursor).isEqualTo(new ChangeCursor(TestUser.CHANGE_ID, ID));
+    }
+
+    @DisplayName("""
+            When decode a malformed cursor,
+            then throw an exception
+            """)
+    @ParameterizedTest
+    @ValueSource(strings = {"", "garbage", "MjAwMi0wMy0wNFQwNTowNjowNy44OTAxMjNa", "%%%",
+            "MjAwMi0wMy0wNFQwNTowNjowNy44OTAxMjNaLzkyZjA4YjBhLTQzMDItNDBmZi04MjNkLWI5Y2UxODUyMjU1Mg"})
+    void whenDecodeMalformedCursor_ThenThrowInvalidCursorException(final String cursor) {
+
+        final Throwable throwable = catchThrowable(() -> ChangeCursor.decode(cursor));
+
+        then(throwable)
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessage("Invalid cursor '%s'", cursor);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.akuniutka.user.dto;
+
+import io.github.akuniutka.exception.UnknownFieldException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("UserField Unit Tests")
+class UserFieldTest {
+
+    @DisplayName("""
+            When parse a list of field names,
+            then return the fields in the order of DTO without duplicates
+            """)
+    @Test
+    void whenParseFieldNames_ThenReturnFieldsInDtoOrderWithoutDuplicates() {
+
+        final Set<UserField> fields = UserField.parse("registrationDate, email,id,email");
+
+        then(fields).containsExactly(UserField.ID, UserField.EMAIL, UserField.REGISTRATION_DATE);
+    }
+
+    @DisplayName("""
+            When parse a list of all field names,
+            then return all fields
+            """)
+    @Test
+    void whenParseAllFieldNames_ThenReturnAllFields() {
+
+        final Set<UserField> fields = UserField.parse("id,firstName,lastName,email,state,registrationDate");
+
+        then(fields).containsExactly(UserField.values());
+    }
+
+    @DisplayName("""
+            When parse a list with an unknown or empty field name,
+            then throw an exception
+            """)
+    @ParameterizedTest
+    @ValueSource(strings = {"id,password", "", "id,", "ID"})
+    void whenParseUnknownFieldName_ThenThrowUnknownFieldException(final String fields) {
+
+        final Throwable throwable = catchThrowable(() -> UserField.parse(fields));
+
+        then(throwable).isInstanceOf(UnknownFieldException.class);
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.akuniutka.user.event;
+
+import io.github.akuniutka.common.notify.NotificationPublisher;
+import io.github.akuniutka.config.WebConfig;
+import io.github.akuniutka.log.InjectLogCaptor;
+import io.github.akuniutka.log.LogCaptor;
+import io.github.akuniutka.log.LogEvents;
+import io.github.akuniutka.log.WithLogCapture;
+import io.github.akuniutka.user.TestUser;
+import io.github.akuniutka.user.mapper.UserMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("UserEventPublisher Unit Tests")
+@ExtendWith(MockitoExtension.class)
+@WithLogCapture(UserEventPublisher.class)
+class UserEventPublisherTest {
+
+    @InjectLogCaptor
+    LogCaptor logCaptor;
+
+    @Mock
+    private NotificationPublisher mockNotificationPublisher;
+
+    private UserEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new UserEventPublisher(mockNotificationPublisher, new UserMapperImpl(),
+                new WebConfig().objectMapper());
+    }
+
+    @DisplayName("""
+            When publish an update of a user,
+            then notify the user events channel of the change with user data
+            """)
+    @Test
+    void whenPublishUpdate_ThenNotifyChannelWithUserData() {
+
+        publisher.publish(UserEvent.Type.UPDATED, TestUser.persisted());
+
+        verify(mockNotificationPublisher).publish(UserEvent.CHANNEL, """
+                {"type":"UPDATED","id":"92f08b0a-4302-40ff-823d-b9ce18522552",\
+                "modified":"2002-03-04T05:06:07.890123Z","user":{"id":"92f08b0a-4302-40ff-823d-b9ce18522552",\
+                "firstName":"John","lastName":"Doe","email":"john@mail.com","state":"ACTIVE",\
+                "registrationDate":"2001-02-03T04:05:06.789012Z"}}""");
+    }
+
+    @DisplayName("""
+            When publish a deletion of a user,
+            then notify the user events channel of the change without user data
+            """)
+    @Test
+    void whenPublishDeletion_ThenNotifyChannelWithoutUserData() {
+
+        publisher.publish(UserEvent.Type.DELETED, TestUser.deleted());
+
+        verify(mockNotificationPublisher).publish(UserEvent.CHANNEL, """
+                {"type":"DELETED","id":"92f08b0a-4302-40ff-823d-b9ce18522552",\
+                "modified":"2002-03-04T05:06:07.890123Z"}""");
+    }
+
+    @DisplayName("""
+            Given the database fails,
+            when publish a change,
+            then log the failure and do not throw
+            """)
+    @Test
+    void givenDatabaseFails_WhenPublish_ThenLogAndDoNotThrow() {
+        willThrow(new DataAccessResourceFailureException("Connection refused"))
+                .given(mockNotificationPublisher).publish(anyString(), anyString());
+
+        publisher.publish(UserEvent.Type.CREATED, TestUser.persisted());
+
+        then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
+                "WARN", "Cannot publish user event: type = CREATED, id = 92f08b0a-4302-40ff-823d-b9ce18522552: "
+                        + "Connection refused"
+        ));
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.akuniutka.user.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("UserEventStream Unit Tests")
+class UserEventStreamTest {
+
+    private final UserEventStream stream = new UserEventStream();
+
+    @AfterEach
+    void tearDown() {
+        stream.destroy();
+    }
+
+    @DisplayName("""
+            When get the channel,
+            then return the user events channel
+            """)
+    @Test
+    void whenGetChannel_ThenReturnUserEventsChannel() {
+
+        final String channel = stream.getChannel();
+
+        then(channel).isEqualTo(UserEvent.CHANNEL);
+    }
+
+    @DisplayName("""
+            When subscribe,
+            then return an emitter with the stream timeout and count the subscriber
+            """)
+    @Test
+    void whenSubscribe_ThenReturnEmitterAndCountSubscriber() {
+
+        final var emitter = stream.subscribe();
+
+        then(emitter.getTimeout()).isEqualTo(UserEventStream.STREAM_TIMEOUT.toMillis());
+        then(stream.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @DisplayName("""
+            Given subscribers exist,
+            when the listener reconnects,
+            then disconnect all subscribers
+            """)
+    @Test
+    void givenSubscribers_WhenReconnect_ThenDisconnectSubscribers() {
+        stream.subscribe();
+        stream.subscribe();
+
+        stream.onReconnect();
+
+        then(stream.getSubscriberCount()).isZero();
+    }
+}
@@ -7,6 +7,7 @@ import io.github.akuniutka.user.TestUpdateUserRequest;
 import io.github.akuniutka.user.TestUser;
 import io.github.akuniutka.user.TestUserDto;
 import io.github.akuniutka.user.dto.UpdateUserRequest;
+import io.github.akuniutka.user.dto.UserChangeDto;
 import io.github.akuniutka.user.dto.UserDto;
 import io.github.akuniutka.user.entity.User;
 import org.junit.jupiter.api.DisplayName;
@@ -233,6 +234,72 @@ class UserMapperImplTest {
         }
     }
 
+    @DisplayName("Map User to UserChangeDto")
+    @Nested
+    class MapUserToChangeDtoTest {
+
+        @DisplayName("""
+                Given a user is null,
+                when map the user to a change DTO,
+                then return null
+                """)
+        @Test
+        void givenUserIsNull_WhenMapToChangeDto_ThenReturnNull() {
+
+            final UserChangeDto dto = mapper.mapToChangeDto((User) null);
+
+            then(dto).isNull();
+        }
+
+        @DisplayName("""
+                Given a user is not deleted,
+                when map the user to a change DTO,
+                then return a change with the user
+                """)
+        @Test
+        void givenUserIsNotDeleted_WhenMapToChangeDto_ThenReturnChangeWithUser() {
+
+            final UserChangeDto dto = mapper.mapToChangeDto(TestUser.persisted());
+
+            then(dto).isEqualTo(UserChangeDto.builder()
+                    .id(ID)
+                    .modified(TestUser.MODIFIED.toInstant())
+                    .deleted(false)
+                    .user(TestUserDto.base())
+                    .build());
+        }
+
+        @DisplayName("""
+                Given a user is deleted,
+                when map the user to a change DTO,
+                then return a tombstone without user data
+                """)
+        @Test
+        void givenUserIsDeleted_WhenMapToChangeDto_ThenReturnTombstone() {
+
+            final UserChangeDto dto = mapper.mapToChangeDto(TestUser.deleted());
+
+            then(dto).isEqualTo(UserChangeDto.builder()
+                    .id(ID)
+                    .modified(TestUser.MODIFIED.toInstant())
+                    .deleted(true)
+                    .build());
+        }
+
+        @DisplayName("""
+                Given a list of users,
+                when map the list to a list of change DTOs,
+                then map each user
+                """)
+        @Test
+        void givenUsersList_WhenMapToChangeDtos_ThenMapEachUser() {
+
+            final List<UserChangeDto> dtos = mapper.mapToChangeDto(List.of(TestUser.persisted(), TestUser.deleted()));
+
+            then(dtos).extracting(UserChangeDto::deleted).containsExactly(false, true);
+        }
+    }
+
     private static class MockUUIDGenerator implements AutoCloseable {
 
         private final MockedStatic<Generators> mock;
@@ -2,6 +2,7 @@ package io.github.akuniutka.user.repository;
 
 import io.github.akuniutka.config.ApplicationConfig;
 import io.github.akuniutka.user.TestUser;
+import io.github.akuniutka.user.dto.UserField;
 import io.github.akuniutka.user.entity.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,8 +10,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
 
+import javax.sql.DataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
 import static io.github.akuniutka.user.TestUser.EMAIL;
+import static io.github.akuniutka.user.TestUser.FIRST_NAME;
+import static io.github.akuniutka.user.TestUser.ID;
+import static io.github.akuniutka.user.TestUser.LAST_NAME;
 import static io.github.akuniutka.user.TestUser.NON_EXISTING_EMAIL;
+import static io.github.akuniutka.user.TestUser.OTHER_EMAIL;
+import static io.github.akuniutka.user.TestUser.REGISTRATION_DATE;
+import static io.github.akuniutka.user.TestUser.STATE;
 import static io.github.akuniutka.user.TestUser.UPPERCASE_EMAIL;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
@@ -19,9 +37,14 @@ import static org.assertj.core.api.BDDAssertions.then;
 @SpringJUnitWebConfig(ApplicationConfig.class)
 class UserRepositoryIT {
 
+    private static final UUID OTHER_ID = UUID.fromString("a8798e28-61bb-4c0c-b906-4076ee9ddb5d");
+
     @Autowired
     private UserRepository repository;
 
+    @Autowired
+    private DataSource dataSource;
+
     @DisplayName("""
             Given a user exists,
             when check if the user exists by their email,
@@ -88,4 +111,124 @@ class UserRepositoryIT {
 
         then(throwable).isInstanceOf(DataIntegrityViolationException.class);
     }
+
+    @DisplayName("""
+            Given users exist,
+            when find all users with fields specified,
+            then return only those fields of all users in the order of fields in DTO
+            """)
+    @Test
+    void givenUsersExist_WhenFindAllFields_ThenReturnOnlyThoseFieldsInDtoOrder() {
+
+        final List<Map<String, Object>> users = repository.findAllFields(
+                EnumSet.of(UserField.REGISTRATION_DATE, UserField.ID, UserField.STATE));
+
+        then(users).hasSize(2);
+        then(users.getFirst()).containsOnlyKeys("id", "state", "registrationDate");
+        then(users.getFirst().keySet()).containsExactly("id", "state", "registrationDate");
+    }
+
+    @DisplayName("""
+            Given a user exists,
+            when find fields of the user by their ID,
+            then return only those fields of the user
+            """)
+    @Test
+    void givenUserExist_WhenFindFieldsById_ThenReturnOnlyThoseFields() {
+
+        final Optional<Map<String, Object>> user = repository.findFieldsById(ID,
+                EnumSet.of(UserField.ID, UserField.FIRST_NAME, UserField.STATE));
+
+        then(user).hasValue(Map.of("id", ID, "firstName", FIRST_NAME, "state", STATE));
+    }
+
+    @DisplayName("""
+            Given no user exists with ID specified,
+            when find fields of a user by that ID,
+            then return empty optional
+            """)
+    @Test
+    void givenUserNotExist_WhenFindFieldsById_ThenReturnEmptyOptional() {
+
+        final Optional<Map<String, Object>> user = repository.findFieldsById(UUID.randomUUID(),
+                EnumSet.of(UserField.ID));
+
+        then(user).isEmpty();
+    }
+
+    @DisplayName("""
+            Given some users exist and some do not,
+            when find users by their IDs,
+            then return users in the order of IDs with null for users not found
+            """)
+    @Test
+    void givenSomeUsersNotExist_WhenFindAllByIdsInOrder_ThenReturnUsersInOrderWithNullForNotFound() {
+        final UUID nonExistingId = UUID.randomUUID();
+
+        final List<User> users = repository.findAllByIdsInOrder(List.of(nonExistingId, ID));
+
+        then(users).hasSize(2);
+        then(users.get(0)).isNull();
+        then(users.get(1)).isEqualTo(TestUser.persisted());
+    }
+
+    @DisplayName("""
+            Given users exist,
+            when find changes from the start,
+            then return users in the order of their changes
+            """)
+    @Test
+    void givenUsersExist_WhenFindChangedAfterStart_ThenReturnUsersInOrderOfChanges() {
+
+        final List<User> users = repository.findChangedAfter(-1L, new UUID(0L, 0L), 10);
+
+        then(users).extracting(User::getEmail).containsExactly(EMAIL, OTHER_EMAIL);
+    }
+
+    @DisplayName("""
+            Given users exist,
+            when find changes after a user,
+            then return only users changed after that user
+            """)
+    @Test
+    void givenUsersExist_WhenFindChangedAfterUser_ThenReturnUsersChangedAfterThatUser() {
+        final long changeId = repository.findById(ID).orElseThrow().getChangeId();
+
+        final List<User> users = repository.findChangedAfter(changeId, ID, 10);
+
+        then(users).extracting(User::getEmail).containsExactly(OTHER_EMAIL);
+    }
+
+    @DisplayName("""
+            Given a user was changed while an older transaction is still running,
+            when find changes,
+            then do not return the user until that transaction ends
+            """)
+    @Test
+    void givenOlderTransactionRunning_WhenFindChangedAfterUser_ThenReturnUserOnlyAfterTransactionEnds()
+            throws SQLException {
+        final User last = repository.findById(OTHER_ID).orElseThrow();
+        final User user = new User();
+        user.setFirstName(FIRST_NAME);
+        user.setLastName(LAST_NAME);
+        user.setEmail(NON_EXISTING_EMAIL);
+        user.setState(STATE);
+        user.setRegistrationDate(REGISTRATION_DATE);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT pg_current_xact_id()");
+            }
+            repository.saveAndFlush(user);
+
+            final List<User> whileRunning = repository.findChangedAfter(last.getChangeId(), OTHER_ID, 10);
+            connection.rollback();
+            final List<User> afterEnded = repository.findChangedAfter(last.getChangeId(), OTHER_ID, 10);
+
+            then(whileRunning).isEmpty();
+            then(afterEnded).extracting(User::getEmail).containsExactly(NON_EXISTING_EMAIL);
+        } finally {
+            repository.deleteById(user.getId());
+        }
+    }
 }
@@ -0,0 +1,161 @@
+package io.github.akuniutka.user.repository;
+
+import io.github.akuniutka.config.ApplicationConfig;
+import io.github.akuniutka.user.dto.UserQuery;
+import io.github.akuniutka.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("UserSearchRepository Integration Tests")
+@SpringJUnitWebConfig(ApplicationConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserSearchRepositoryIT {
+
+    private static final int SEEDED_USERS = 200_000;
+    private static final String SEEDED_EMAIL_DOMAIN = "@seed.example.com";
+    private static final UUID SEEDED_ID = UUID.nameUUIDFromBytes("1000".getBytes());
+
+    @Autowired
+    private UserRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void seedUsers() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createNativeQuery("""
+                    INSERT INTO users (id, first_name, last_name, email, state, registration_date, modified)
+                    SELECT md5(i::text)::uuid,
+                           'First' || i,
+                           (ARRAY['Smith', 'Doe', 'Brown', 'Ivanov', 'Tanaka'])[i % 5 + 1] || i,
+                           'user' || i || :domain,
+                           (ARRAY['ACTIVE', 'ACTIVE', 'ACTIVE', 'BLOCKED', 'DELETED'])[i % 5 + 1],
+                           TIMESTAMPTZ '2015-01-01 00:00:00Z' + i * INTERVAL '1 minute',
+                           TIMESTAMPTZ '2015-01-01 00:00:00Z' + i * INTERVAL '1 minute'
+                    FROM generate_series(1, :count) AS i
+                    """)
+                    .setParameter("domain", SEEDED_EMAIL_DOMAIN)
+                    .setParameter("count", SEEDED_USERS)
+                    .executeUpdate();
+            entityManager.createNativeQuery("ANALYZE users").executeUpdate();
+        });
+    }
+
+    @AfterAll
+    void removeSeededUsers() {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createNativeQuery("DELETE FROM users WHERE email LIKE '%' || :domain")
+                .setParameter("domain", SEEDED_EMAIL_DOMAIN)
+                .executeUpdate());
+    }
+
+    @DisplayName("""
+            Given a large table,
+            when explain a query with a supported filter and sort order,
+            then the plan reads the page in order from an index which the range filters are conditions of:
+            it has neither a sequential scan nor a sort, and filters rows by state at most
+            """)
+    @ParameterizedTest
+    @MethodSource("queries")
+    void givenLargeTable_WhenExplainQuery_ThenReadPageInOrderFromIndex(final UserQuery userQuery) {
+        final UserSearchRepositoryImpl.SqlQuery query = UserSearchRepositoryImpl.buildQuery(userQuery, 100);
+
+        final String plan = transactionTemplate.execute(status -> {
+            final Query explain = entityManager.createNativeQuery("EXPLAIN " + query.sql());
+            query.parameters().forEach(explain::setParameter);
+            return String.join("\n", explain.getResultList().stream().map(Object::toString).toList());
+        });
+
+        then(plan).doesNotContain("Seq Scan").doesNotContainPattern("\\bSort\\b");
+        // The planner may filter by state on the index of the sort key alone when most users have that state
+        then(plan.lines().map(String::strip).filter(line -> line.startsWith("Filter:")))
+                .allMatch(line -> line.matches("Filter: \\(\\(state\\)::text = '[A-Z]+'::text\\)"));
+    }
+
+    @DisplayName("""
+            Given a large table,
+            when read two pages one after another,
+            then the second page continues the first one
+            """)
+    @Test
+    void givenLargeTable_WhenReadTwoPages_ThenSecondPageContinuesFirst() {
+        final UserQuery.UserQueryBuilder builder = UserQuery.builder()
+                .state(User.State.ACTIVE)
+                .sort("lastName");
+
+        final List<User> firstPage = repository.findPage(builder.build(), 10);
+        final List<User> secondPage = repository.findPage(builder.after(firstPage.getLast().getId()).build(), 10);
+        final List<User> bothPages = repository.findPage(builder.after(null).build(), 20);
+
+        then(firstPage).hasSize(10);
+        then(secondPage).hasSize(10);
+        then(Stream.concat(firstPage.stream(), secondPage.stream()).toList()).isEqualTo(bothPages);
+    }
+
+    @DisplayName("""
+            Given a large table,
+            when find a page by an email prefix in another case,
+            then return users whose email starts with the prefix ignoring case, in order of emails
+            """)
+    @Test
+    void givenLargeTable_WhenFindPageByEmailPrefix_ThenReturnUsersWithPrefixIgnoringCase() {
+        final UserQuery query = UserQuery.builder().emailPrefix("User12345").sort("email").build();
+
+        final List<String> emails = repository.findPage(query, 100).stream().map(User::getEmail).toList();
+
+        then(emails).hasSize(11).allMatch(email -> email.startsWith("user12345")).isSorted();
+    }
+
+    private Stream<UserQuery> queries() {
+        final Instant from = Instant.parse("2015-03-01T00:00:00Z");
+        final Instant to = Instant.parse("2015-03-02T00:00:00Z");
+        return Stream.of(
+                UserQuery.builder().limit(100).build(),
+                UserQuery.builder().after(SEEDED_ID).build(),
+                UserQuery.builder().state(User.State.BLOCKED).build(),
+                UserQuery.builder().state(User.State.BLOCKED).after(SEEDED_ID).build(),
+                UserQuery.builder().sort("registrationDate").build(),
+                UserQuery.builder().sort("registrationDate").after(SEEDED_ID).build(),
+                UserQuery.builder().registeredFrom(from).registeredTo(to).sort("registrationDate").build(),
+                UserQuery.builder().state(User.State.ACTIVE).sort("registrationDate").after(SEEDED_ID).build(),
+                UserQuery.builder().state(User.State.ACTIVE).registeredFrom(from).registeredTo(to)
+                        .sort("registrationDate").after(SEEDED_ID).build(),
+                UserQuery.builder().sort("lastName").build(),
+                UserQuery.builder().sort("lastName").after(SEEDED_ID).build(),
+                UserQuery.builder().lastNamePrefix("Tan").sort("lastName").build(),
+                UserQuery.builder().state(User.State.DELETED).sort("lastName").after(SEEDED_ID).build(),
+                UserQuery.builder().state(User.State.ACTIVE).lastNamePrefix("Iva").sort("lastName").build(),
+                UserQuery.builder().sort("email").build(),
+                UserQuery.builder().sort("email").after(SEEDED_ID).build(),
+                UserQuery.builder().emailPrefix("user1234").sort("email").build(),
+                UserQuery.builder().emailPrefix("USER1").sort("email").after(SEEDED_ID).build(),
+                UserQuery.builder().state(User.State.ACTIVE).emailPrefix("User1").sort("email").build()
+        );
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.akuniutka.user.repository;
+
+import io.github.akuniutka.user.dto.UserQuery;
+import io.github.akuniutka.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static io.github.akuniutka.user.TestUser.ID;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("UserSearchRepositoryImpl Unit Tests")
+class UserSearchRepositoryImplTest {
+
+    @DisplayName("""
+            When build a query without a filter and a sort order,
+            then sort by ID
+            """)
+    @Test
+    void whenBuildQueryWithoutFilterAndSort_ThenSortById() {
+
+        final UserSearchRepositoryImpl.SqlQuery query = UserSearchRepositoryImpl.buildQuery(
+                UserQuery.builder().build(), 100);
+
+        then(query.sql()).isEqualTo("SELECT u.* FROM users u WHERE TRUE ORDER BY u.id LIMIT :limit");
+        then(query.parameters()).isEqualTo(Map.of("limit", 100));
+    }
+
+    @DisplayName("""
+            When build a query with all filters, a sort order and a page,
+            then add conditions for filters and the keyset, and order by the sort key
+            """)
+    @Test
+    void whenBuildQueryWithAllFiltersAndSortAndPage_ThenAddConditionsAndOrderBySortKey() {
+        final UserQuery userQuery = UserQuery.builder()
+                .state(User.State.ACTIVE)
+                .registeredFrom(Instant.parse("2001-01-01T00:00:00Z"))
+                .registeredTo(Instant.parse("2002-01-01T00:00:00Z"))
+                .emailPrefix("john")
+                .lastNamePrefix("Do")
+                .sort("lastName")
+                .after(ID)
+                .build();
+
+        final UserSearchRepositoryImpl.SqlQuery query = UserSearchRepositoryImpl.buildQuery(userQuery, 10);
+
+        then(query.sql()).isEqualTo("SELECT u.* FROM users u WHERE TRUE"
+                + " AND u.state = :state"
+                + " AND u.registration_date >= :registeredFrom"
+                + " AND u.registration_date < :registeredTo"
+                + " AND UPPER(u.email) COLLATE \"C\" >= UPPER(:emailPrefix) COLLATE \"C\""
+                + " AND UPPER(u.email) COLLATE \"C\" < (LEFT(UPPER(:emailPrefix), -1)"
+                + " || CHR(CASE ASCII(RIGHT(UPPER(:emailPrefix), 1)) WHEN 55295 THEN 57344"
+                + " ELSE ASCII(RIGHT(UPPER(:emailPrefix), 1)) + 1 END)) COLLATE \"C\""
+                + " AND u.last_name COLLATE \"C\" >= :lastNameFrom AND u.last_name COLLATE \"C\" < :lastNameTo"
+                + " AND (u.last_name COLLATE \"C\", u.id) > (SELECT p.last_name COLLATE \"C\", p.id FROM users p"
+                + " WHERE p.id = :after)"
+                + " ORDER BY u.last_name COLLATE \"C\", u.id LIMIT :limit");
+        then(query.parameters()).containsExactly(
+                Map.entry("state", "ACTIVE"),
+                Map.entry("registeredFrom", Instant.parse("2001-01-01T00:00:00Z")),
+                Map.entry("registeredTo", Instant.parse("2002-01-01T00:00:00Z")),
+                Map.entry("emailPrefix", "john"),
+                Map.entry("lastNameFrom", "Do"),
+                Map.entry("lastNameTo", "Dp"),
+                Map.entry("after", ID),
+                Map.entry("limit", 10));
+    }
+
+    @DisplayName("""
+            When build a query sorted by registration date after some user,
+            then continue from that user's registration date and ID
+            """)
+    @Test
+    void whenBuildQuerySortedByRegistrationDateAfterUser_ThenContinueFromRegistrationDateAndId() {
+        final UserQuery userQuery = UserQuery.builder().sort("registrationDate").after(ID).build();
+
+        final UserSearchRepositoryImpl.SqlQuery query = UserSearchRepositoryImpl.buildQuery(userQuery, 10);
+
+        then(query.sql()).isEqualTo("SELECT u.* FROM users u WHERE TRUE"
+                + " AND (u.registration_date, u.id) > (SELECT p.registration_date, p.id FROM users p"
+                + " WHERE p.id = :after)"
+                + " ORDER BY u.registration_date, u.id LIMIT :limit");
+    }
+
+    @DisplayName("""
+            When build a query sorted by email after some user,
+            then continue from that user's upper-cased email and ID
+            """)
+    @Test
+    void whenBuildQuerySortedByEmailAfterUser_ThenContinueFromUpperCasedEmailAndId() {
+        final UserQuery userQuery = UserQuery.builder().sort("email").after(ID).build();
+
+        final UserSearchRepositoryImpl.SqlQuery query = UserSearchRepositoryImpl.buildQuery(userQuery, 10);
+
+        then(query.sql()).isEqualTo("SELECT u.* FROM users u WHERE TRUE"
+                + " AND (UPPER(u.email) COLLATE \"C\", u.id) > (SELECT UPPER(p.email) COLLATE \"C\", p.id FROM users p"
+                + " WHERE p.id = :after)"
+                + " ORDER BY UPPER(u.email) COLLATE \"C\", u.id LIMIT :limit");
+    }
+
+    @DisplayName("""
+            When build a query with an email prefix ending with the maximum code point,
+            then filter by the lower bound only
+            """)
+    @Test
+    void whenBuildQueryWithEmailPrefixEndingWithMaxCodePoint_ThenFilterByLowerBoundOnly() {
+        final String prefix = "a" + Character.toString(Character.MAX_CODE_POINT);
+        final UserQuery userQuery = UserQuery.builder().emailPrefix(prefix).sort("email").build();
+
+        final UserSearchRepositoryImpl.SqlQuery query = UserSearchRepositoryImpl.buildQuery(userQuery, 10);
+
+        then(query.sql()).isEqualTo("SELECT u.* FROM users u WHERE TRUE"
+                + " AND UPPER(u.email) COLLATE \"C\" >= UPPER(:emailPrefix) COLLATE \"C\""
+                + " ORDER BY UPPER(u.email) COLLATE \"C\", u.id LIMIT :limit");
+        then(query.parameters()).containsEntry("emailPrefix", prefix);
+    }
+
+    @DisplayName("""
+            When build a query with empty prefixes,
+            then do not filter by them
+            """)
+    @Test
+    void whenBuildQueryWithEmptyPrefixes_ThenDoNotFilterByThem() {
+        final UserQuery userQuery = UserQuery.builder().emailPrefix("").lastNamePrefix("").build();
+
+        final UserSearchRepositoryImpl.SqlQuery query = UserSearchRepositoryImpl.buildQuery(userQuery, 10);
+
+        then(query.sql()).isEqualTo("SELECT u.* FROM users u WHERE TRUE ORDER BY u.id LIMIT :limit");
+    }
+
+    @DisplayName("""
+            When get the next prefix,
+            then increment the last code point
+            """)
+    @ParameterizedTest
+    @CsvSource({
+            "abc, abd",
+            "Z, [",
+            "Жук, Жул",
+            "퟿, ",
+            "a😀, a😁"
+    })
+    void whenGetNextPrefix_ThenIncrementLastCodePoint(final String prefix, final String expected) {
+
+        final String next = UserSearchRepositoryImpl.nextPrefix(prefix);
+
+        then(next).isEqualTo(expected);
+    }
+
+    @DisplayName("""
+            When get the next prefix for a prefix ending with the maximum code point,
+            then return null
+            """)
+    @Test
+    void whenGetNextPrefixForMaxCodePoint_ThenReturnNull() {
+
+        final String next = UserSearchRepositoryImpl.nextPrefix("a" + Character.toString(Character.MAX_CODE_POINT));
+
+        then(next).isNull();
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.akuniutka.user.repository;
+
+import io.github.akuniutka.config.ApplicationConfig;
+import io.github.akuniutka.user.dto.UserSearchResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static io.github.akuniutka.user.TestUser.ID;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@DisplayName("UserTextSearchRepository Integration Tests")
+@SpringJUnitWebConfig(ApplicationConfig.class)
+class UserTextSearchRepositoryIT {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private UserRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @DisplayName("""
+            Given a user exists,
+            when search by a part of their email,
+            then return a projection of the user
+            """)
+    @Test
+    void givenUserExists_WhenSearchByPartOfEmail_ThenReturnProjectionOfUser() {
+
+        final List<UserSearchResult> users = repository.searchByText("john@mail", 10, TIMEOUT);
+
+        then(users).hasSize(1);
+        then(users.getFirst())
+                .hasFieldOrPropertyWithValue("id", ID)
+                .hasFieldOrPropertyWithValue("firstName", "John")
+                .hasFieldOrPropertyWithValue("lastName", "Doe")
+                .hasFieldOrPropertyWithValue("email", "john@mail.com")
+                .hasFieldOrPropertyWithValue("state", "ACTIVE");
+        then(users.getFirst().score()).isPositive();
+    }
+
+    @DisplayName("""
+            Given a user exists,
+            when search by their name misspelled and in different case,
+            then return the user
+            """)
+    @Test
+    void givenUserExists_WhenSearchByMisspelledName_ThenReturnUser() {
+
+        final List<UserSearchResult> users = repository.searchByText("sparow", 10, TIMEOUT);
+
+        then(users).extracting(UserSearchResult::lastName).containsExactly("Sparrow");
+    }
+
+    @DisplayName("""
+            When search by a text no user is similar to,
+            then return an empty list
+            """)
+    @Test
+    void whenSearchByDissimilarText_ThenReturnEmptyList() {
+
+        final List<UserSearchResult> users = repository.searchByText("qwxz", 10, TIMEOUT);
+
+        then(users).isEmpty();
+    }
+
+    @DisplayName("""
+            When explain the search query with sequential scans disabled,
+            then the plan uses trigram indexes
+            """)
+    @Test
+    void whenExplainSearchQuery_ThenPlanUsesTrigramIndexes() {
+
+        final String plan = new TransactionTemplate(transactionManager).execute(status -> {
+            entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+            final List<?> rows = entityManager
+                    .createNativeQuery("EXPLAIN " + UserTextSearchRepositoryImpl.SEARCH_SQL)
+                    .setParameter("text", "john")
+                    .setParameter("limit", 10)
+                    .getResultList();
+            return String.join("\n", rows.stream().map(Object::toString).toList());
+        });
+
+        then(plan).contains("users_first_name_trgm_idx", "users_last_name_trgm_idx", "users_email_trgm_idx");
+    }
+}
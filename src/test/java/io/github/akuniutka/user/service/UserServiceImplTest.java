@@ -1,7 +1,10 @@
 package io.github.akuniutka.user.service;
 
 import io.github.akuniutka.config.ApplicationTestConfig;
+import io.github.akuniutka.config.WebConfig;
 import io.github.akuniutka.exception.DuplicateEmailException;
+import io.github.akuniutka.exception.InvalidCursorException;
+import io.github.akuniutka.exception.TooManyIdsException;
 import io.github.akuniutka.exception.UserDeletedException;
 import io.github.akuniutka.exception.UserNotFoundException;
 import io.github.akuniutka.log.InjectLogCaptor;
@@ -9,7 +12,15 @@ import io.github.akuniutka.log.LogCaptor;
 import io.github.akuniutka.log.LogEvents;
 import io.github.akuniutka.log.WithLogCapture;
 import io.github.akuniutka.user.TestUser;
+import io.github.akuniutka.user.cache.UserCache;
+import io.github.akuniutka.user.dto.ChangeCursor;
+import io.github.akuniutka.user.dto.UserField;
+import io.github.akuniutka.user.dto.UserQuery;
+import io.github.akuniutka.user.dto.UserSearchQuery;
+import io.github.akuniutka.user.dto.UserSearchResult;
 import io.github.akuniutka.user.entity.User;
+import io.github.akuniutka.user.event.UserEvent;
+import io.github.akuniutka.user.event.UserEventPublisher;
 import io.github.akuniutka.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,8 +30,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import static io.github.akuniutka.user.TestUser.EMAIL;
 import static io.github.akuniutka.user.TestUser.ID;
@@ -28,30 +45,48 @@ import static io.github.akuniutka.user.TestUser.OTHER_EMAIL;
 import static io.github.akuniutka.user.TestUser.UPPERCASE_EMAIL;
 import static io.github.akuniutka.util.TestUtils.deepEqual;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("UserServiceImpl Unit Tests")
 @ExtendWith(MockitoExtension.class)
 @WithLogCapture(UserServiceImpl.class)
 class UserServiceImplTest {
 
+    private static final UUID NON_EXISTING_ID = UUID.fromString("0191d1e7-3c3a-7c1e-9f4a-0c2e6f8b5d10");
+    private static final Set<UserField> FIELDS = EnumSet.of(UserField.ID, UserField.EMAIL);
+
     @InjectLogCaptor
     LogCaptor logCaptor;
 
     @Mock
     private UserRepository mockRepository;
 
+    @Mock
+    private UserEventPublisher mockEventPublisher;
+
+    private UserCache userCache;
+
     private UserService service;
 
     @BeforeEach
     void setUp() {
+        userCache = new UserCache(new WebConfig().objectMapper());
+        userCache.onConnect();
         service = new UserServiceImpl(
                 new UserInitializerImpl(ApplicationTestConfig.fixedClock()),
                 new UserPatcherImpl(),
                 new UserRemoverImpl(),
-                mockRepository
+                mockRepository,
+                mockEventPublisher,
+                userCache
         );
     }
 
@@ -94,15 +129,19 @@ class UserServiceImplTest {
         @DisplayName("""
                 Given no other user exists with the same email,
                 when add a new user,
-                then init user's properties, save and return the updated user, log success
+                then init user's properties, save and return the updated user, forget the ID was missing,
+                log success
                 """)
         @Test
         void givenNoOtherUserWithSameEmail_WhenAddUser_ThenInitUserPropertiesAndSaveUserAndReturnUserAndLog() {
+            userCache.get(ID, id -> null);
             given(mockRepository.save(deepEqual(TestUser.base()))).willReturn(TestUser.persisted());
 
             final User user = service.addUser(TestUser.fresh());
 
             then(user).usingRecursiveComparison().isEqualTo(TestUser.persisted());
+            verify(mockEventPublisher).publish(UserEvent.Type.CREATED, user);
+            then(userCache.getMissingSize()).isZero();
             then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
                     "INFO", "New user added: id = 92f08b0a-4302-40ff-823d-b9ce18522552"
             ));
@@ -140,6 +179,157 @@ class UserServiceImplTest {
 
             then(users).isEmpty();
         }
+
+        @DisplayName("""
+                Given some users exist,
+                when find all users with fields specified,
+                then return a list of users with those fields only
+                """)
+        @Test
+        void givenUsersExist_WhenFindAllUsersWithFields_ThenReturnListOfUsersWithFields() {
+            given(mockRepository.findAllFields(FIELDS)).willReturn(List.of(Map.of("id", ID, "email", EMAIL)));
+
+            final List<Map<String, Object>> users = service.findAllUsers(FIELDS);
+
+            then(users).containsExactly(Map.of("id", ID, "email", EMAIL));
+        }
+
+        @DisplayName("""
+                When find users with a query without a limit,
+                then pass the query to the repository with the default limit
+                """)
+        @Test
+        void givenQueryWithoutLimit_WhenFindUsers_ThenFindPageWithDefaultLimit() {
+            final UserQuery query = UserQuery.builder().sort("registrationDate").build();
+            given(mockRepository.findPage(query, UserServiceImpl.DEFAULT_PAGE_SIZE))
+                    .willReturn(List.of(TestUser.persisted()));
+
+            final List<User> users = service.findUsers(query);
+
+            then(users).usingRecursiveComparison().isEqualTo(List.of(TestUser.persisted()));
+        }
+
+        @DisplayName("""
+                When find users with a query with a limit,
+                then pass the query to the repository with that limit
+                """)
+        @Test
+        void givenQueryWithLimit_WhenFindUsers_ThenFindPageWithThatLimit() {
+            final UserQuery query = UserQuery.builder().state(User.State.BLOCKED).limit(5).build();
+            given(mockRepository.findPage(query, 5)).willReturn(List.of());
+
+            final List<User> users = service.findUsers(query);
+
+            then(users).isEmpty();
+        }
+
+        @DisplayName("""
+                Given the user to continue after exists,
+                when find users with a query,
+                then pass the query to the repository
+                """)
+        @Test
+        void givenAfterUserExists_WhenFindUsers_ThenFindPage() {
+            final UserQuery query = UserQuery.builder().sort("lastName").after(ID).build();
+            given(mockRepository.existsById(ID)).willReturn(true);
+            given(mockRepository.findPage(query, UserServiceImpl.DEFAULT_PAGE_SIZE))
+                    .willReturn(List.of(TestUser.persisted()));
+
+            final List<User> users = service.findUsers(query);
+
+            then(users).usingRecursiveComparison().isEqualTo(List.of(TestUser.persisted()));
+        }
+
+        @DisplayName("""
+                Given the user to continue after does not exist,
+                when find users with a query,
+                then throw an exception and do not read a page
+                """)
+        @Test
+        void givenAfterUserNotExist_WhenFindUsers_ThenThrowInvalidCursorException() {
+            final UserQuery query = UserQuery.builder().after(ID).build();
+            given(mockRepository.existsById(ID)).willReturn(false);
+
+            final Throwable throwable = catchThrowable(() -> service.findUsers(query));
+
+            then(throwable)
+                    .isInstanceOf(InvalidCursorException.class)
+                    .hasFieldOrPropertyWithValue("cursor", ID.toString());
+            verify(mockRepository, never()).findPage(any(), anyInt());
+        }
+
+        @DisplayName("""
+                When search users without a limit,
+                then search the repository with the default limit and the search timeout
+                """)
+        @Test
+        void givenSearchQueryWithoutLimit_WhenSearchUsers_ThenSearchWithDefaultLimitAndTimeout() {
+            final UserSearchQuery query = UserSearchQuery.builder().q("Doe").build();
+            final UserSearchResult result = UserSearchResult.builder().id(ID).lastName("Doe").score(1.0).build();
+            given(mockRepository.searchByText("Doe", UserServiceImpl.DEFAULT_SEARCH_LIMIT,
+                    UserServiceImpl.SEARCH_TIMEOUT)).willReturn(List.of(result));
+
+            final List<UserSearchResult> users = service.searchUsers(query);
+
+            then(users).containsExactly(result);
+        }
+
+        @DisplayName("""
+                When search users with a limit,
+                then search the repository with that limit
+                """)
+        @Test
+        void givenSearchQueryWithLimit_WhenSearchUsers_ThenSearchWithThatLimit() {
+            final UserSearchQuery query = UserSearchQuery.builder().q("Doe").limit(5).build();
+            given(mockRepository.searchByText("Doe", 5, UserServiceImpl.SEARCH_TIMEOUT)).willReturn(List.of());
+
+            final List<UserSearchResult> users = service.searchUsers(query);
+
+            then(users).isEmpty();
+        }
+
+        @DisplayName("""
+                When find changes without a limit,
+                then find changes after the cursor with the default limit
+                """)
+        @Test
+        void givenNoLimit_WhenFindChanges_ThenFindChangedAfterCursorWithDefaultLimit() {
+            final ChangeCursor since = new ChangeCursor(1000L, ID);
+            given(mockRepository.findChangedAfter(1000L, ID, UserServiceImpl.DEFAULT_PAGE_SIZE))
+                    .willReturn(List.of(TestUser.persisted()));
+
+            final List<User> users = service.findChanges(since, null);
+
+            then(users).usingRecursiveComparison().isEqualTo(List.of(TestUser.persisted()));
+        }
+
+        @DisplayName("""
+                When find changes with a limit,
+                then find changes with that limit
+                """)
+        @Test
+        void givenLimit_WhenFindChanges_ThenFindChangedAfterCursorWithThatLimit() {
+            given(mockRepository.findChangedAfter(ChangeCursor.START.changeId(), ChangeCursor.START.id(), 5))
+                    .willReturn(List.of());
+
+            final List<User> users = service.findChanges(ChangeCursor.START, 5);
+
+            then(users).isEmpty();
+        }
+
+        @DisplayName("""
+                When find all users with null fields,
+                then throw an exception
+                """)
+        @Test
+        void givenFieldsAreNull_WhenFindAllUsersWithFields_ThenThrowIllegalArgumentException() {
+
+            final Throwable throwable = catchThrowable(() -> service.findAllUsers(null));
+
+            then(throwable)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("fields is marked non-null but is null");
+        }
     }
 
     @DisplayName("Get a user by their ID")
@@ -189,6 +379,136 @@ class UserServiceImplTest {
 
             then(user).usingRecursiveComparison().isEqualTo(TestUser.persisted());
         }
+
+        @DisplayName("""
+                Given a user has been got by their ID,
+                when get the user by their ID again,
+                then return the cached user without reading the repository
+                """)
+        @Test
+        void givenUserGot_WhenGetUserByIdAgain_ThenReturnCachedUser() {
+            given(mockRepository.findById(ID)).willReturn(Optional.of(TestUser.persisted()));
+            final User cached = service.getUserById(ID);
+
+            final User user = service.getUserById(ID);
+
+            then(user).isSameAs(cached);
+            verify(mockRepository, times(1)).findById(ID);
+        }
+
+        @DisplayName("""
+                Given no user exists with ID specified,
+                when get a user by that ID twice,
+                then throw an exception each time but read the repository once
+                """)
+        @Test
+        void givenUserNotExist_WhenGetUserByIdTwice_ThenReadRepositoryOnce() {
+            given(mockRepository.findById(ID)).willReturn(Optional.empty());
+            catchThrowable(() -> service.getUserById(ID));
+
+            final Throwable throwable = catchThrowable(() -> service.getUserById(ID));
+
+            then(throwable).isInstanceOf(UserNotFoundException.class);
+            verify(mockRepository, times(1)).findById(ID);
+        }
+
+        @DisplayName("""
+                Given no user exists with ID specified,
+                when get fields of a user by that ID,
+                then throw an exception
+                """)
+        @Test
+        void givenUserNotExist_WhenGetUserByIdWithFields_ThenThrowUserNotFoundException() {
+            given(mockRepository.findFieldsById(ID, FIELDS)).willReturn(Optional.empty());
+
+            final Throwable throwable = catchThrowable(() -> service.getUserById(ID, FIELDS));
+
+            then(throwable)
+                    .isInstanceOf(UserNotFoundException.class)
+                    .hasFieldOrPropertyWithValue("userId", ID);
+        }
+
+        @DisplayName("""
+                Given a user exists,
+                when get fields of the user by their ID,
+                then return the user with those fields only
+                """)
+        @Test
+        void givenUserExist_WhenGetUserByIdWithFields_ThenReturnUserWithFields() {
+            given(mockRepository.findFieldsById(ID, FIELDS)).willReturn(Optional.of(Map.of("id", ID, "email", EMAIL)));
+
+            final Map<String, Object> user = service.getUserById(ID, FIELDS);
+
+            then(user).isEqualTo(Map.of("id", ID, "email", EMAIL));
+        }
+    }
+
+    @DisplayName("Find users by their IDs")
+    @Nested
+    class FindUsersByIdsTest {
+
+        @DisplayName("""
+                When find users by null list of IDs,
+                then throw an exception
+                """)
+        @Test
+        void givenIdsAreNull_WhenFindUsersByIds_ThenThrowIllegalArgumentException() {
+
+            final Throwable throwable = catchThrowable(() -> service.findUsersByIds(null));
+
+            then(throwable)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("ids is marked non-null but is null");
+        }
+
+        @DisplayName("""
+                When find users by more IDs than allowed at once,
+                then throw an exception
+                """)
+        @Test
+        void givenTooManyIds_WhenFindUsersByIds_ThenThrowTooManyIdsException() {
+            final List<UUID> ids = Collections.nCopies(UserServiceImpl.MAX_IDS_PER_LOOKUP + 1, ID);
+
+            final Throwable throwable = catchThrowable(() -> service.findUsersByIds(ids));
+
+            then(throwable)
+                    .isInstanceOf(TooManyIdsException.class)
+                    .hasFieldOrPropertyWithValue("count", UserServiceImpl.MAX_IDS_PER_LOOKUP + 1)
+                    .hasFieldOrPropertyWithValue("limit", UserServiceImpl.MAX_IDS_PER_LOOKUP);
+        }
+
+        @DisplayName("""
+                Given some users exist and some do not,
+                when find users by their IDs,
+                then return users by IDs in the order requested with null for users not found
+                """)
+        @Test
+        void givenSomeUsersNotExist_WhenFindUsersByIds_ThenReturnUsersInRequestOrderWithNullForNotFound() {
+            final List<UUID> ids = List.of(NON_EXISTING_ID, ID);
+            given(mockRepository.findAllByIdsInOrder(ids)).willReturn(Arrays.asList(null, TestUser.persisted()));
+
+            final Map<UUID, User> users = service.findUsersByIds(ids);
+
+            then(users).containsExactly(entry(NON_EXISTING_ID, null), entry(ID, TestUser.persisted()));
+        }
+
+        @DisplayName("""
+                Given a user is cached,
+                when find users by IDs,
+                then return the cached user and load only users not cached
+                """)
+        @Test
+        void givenUserCached_WhenFindUsersByIds_ThenLoadOnlyUsersNotCached() {
+            given(mockRepository.findById(ID)).willReturn(Optional.of(TestUser.persisted()));
+            final User cached = service.getUserById(ID);
+            given(mockRepository.findAllByIdsInOrder(List.of(NON_EXISTING_ID)))
+                    .willReturn(Collections.singletonList(null));
+
+            final Map<UUID, User> users = service.findUsersByIds(List.of(ID, NON_EXISTING_ID));
+
+            then(users).containsExactly(entry(ID, cached), entry(NON_EXISTING_ID, null));
+            verify(mockRepository, never()).findAllByIdsInOrder(List.of(ID, NON_EXISTING_ID));
+        }
     }
 
     @DisplayName("Update a user")
@@ -324,16 +644,20 @@ class UserServiceImplTest {
         @DisplayName("""
                 Given a patch has new data and a user is not deleted and no other user with an email in the patch,
                 when apply the patch to the user,
-                then update user's properties, save and return the updated user, log success
+                then update user's properties, save and return the updated user, evict the user from the cache,
+                log success
                 """)
         @Test
         void givenPatchHasNewDataAndNoOtherUserWithSameEmail_WhenUpdateUser_ThenPatchUserAndSaveAndReturnAndLog() {
+            userCache.get(ID, id -> TestUser.persisted());
             given(mockRepository.findById(ID)).willReturn(Optional.of(TestUser.persisted()));
             given(mockRepository.save(deepEqual(TestUser.patched()))).willReturn(TestUser.patched());
 
             final User user = service.updateUser(TestUser.patch());
 
             then(user).usingRecursiveComparison().isEqualTo(TestUser.patched());
+            verify(mockEventPublisher).publish(UserEvent.Type.UPDATED, user);
+            then(userCache.getSize()).isZero();
             then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
                     "INFO", "User updated: id = 92f08b0a-4302-40ff-823d-b9ce18522552"
             ));
@@ -352,6 +676,7 @@ class UserServiceImplTest {
             final User user = service.updateUser(TestUser.patchWithOldValues());
 
             then(user).usingRecursiveComparison().isEqualTo(TestUser.persisted());
+            verify(mockEventPublisher, never()).publish(any(), any());
             then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
                     "WARN", "No new data for user, nothing to update: id = 92f08b0a-4302-40ff-823d-b9ce18522552"
             ));
@@ -405,6 +730,7 @@ class UserServiceImplTest {
             final User user = service.deleteUserById(ID);
 
             then(user).usingRecursiveComparison().isEqualTo(TestUser.deleted());
+            verify(mockEventPublisher, never()).publish(any(), any());
             then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
                     "WARN", "User already deleted, nothing to delete: id = 92f08b0a-4302-40ff-823d-b9ce18522552"
             ));
@@ -413,16 +739,20 @@ class UserServiceImplTest {
         @DisplayName("""
                 Given a user has not been deleted yet,
                 when delete the user by their ID,
-                then change user's state to DELETED, save and return the updated user, log success
+                then change user's state to DELETED, save and return the updated user, evict the user from the cache,
+                log success
                 """)
         @Test
         void givenUserNotDeletedYet_WhenDeleteUserById_ThenMarkUserDeletedAndSaveToRepositoryAndReturnAndLog() {
+            userCache.get(ID, id -> TestUser.persisted());
             given(mockRepository.findById(ID)).willReturn(Optional.of(TestUser.persisted()));
             given(mockRepository.save(deepEqual(TestUser.deleted()))).willReturn(TestUser.deleted());
 
             final User user = service.deleteUserById(ID);
 
             then(user).usingRecursiveComparison().isEqualTo(TestUser.deleted());
+            verify(mockEventPublisher).publish(UserEvent.Type.DELETED, user);
+            then(userCache.getSize()).isZero();
             then(logCaptor.getEvents()).containsSubsequence(LogEvents.of(
                     "INFO", "User marked deleted: id = 92f08b0a-4302-40ff-823d-b9ce18522552"
             ));
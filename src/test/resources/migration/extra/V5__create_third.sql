@@ -0,0 +1 @@
+CREATE TABLE third (id INTEGER);
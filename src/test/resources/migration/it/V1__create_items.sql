@@ -0,0 +1,7 @@
+CREATE TABLE items
+(
+  id   INTEGER PRIMARY KEY,
+  name VARCHAR(50) NOT NULL
+);
+
+INSERT INTO items (id, name) VALUES (1, 'first'), (2, 'second');
@@ -0,0 +1,3 @@
+-- migration: no-transaction
+DROP INDEX CONCURRENTLY IF EXISTS items_name_idx;
+CREATE INDEX CONCURRENTLY items_name_idx ON items (name);
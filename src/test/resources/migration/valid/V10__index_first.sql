@@ -0,0 +1,2 @@
+-- migration: no-transaction
+CREATE INDEX CONCURRENTLY IF NOT EXISTS first_id_idx ON first (id);
@@ -0,0 +1 @@
+CREATE TABLE first (id INTEGER);
@@ -0,0 +1 @@
+CREATE TABLE second (id INTEGER);